@@ -0,0 +1,17 @@
+package com.endava.cats.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks fuzzers which depend on state shared with other fuzzers, such as
+ * resources created by successful POST requests or removed by successful DELETE requests.
+ * When fuzzers run in parallel, stateful fuzzers are not run concurrently with the other
+ * fuzzers of the same phase: they run one at a time after all the independent ones finished.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface StatefulFuzzer {
+}
@@ -17,7 +17,7 @@ import jakarta.interceptor.InvocationContext;
 
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 
 /**
@@ -34,7 +34,7 @@ public class DryRunAspect {
     /**
      * Holds number of tests executed per path + http method.
      */
-    private final Map<String, Integer> paths = new TreeMap<>();
+    private final Map<String, Integer> paths = new ConcurrentSkipListMap<>();
 
     @Inject
     FilterArguments filterArguments;
@@ -26,6 +26,39 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--maxRequestsBurst"},
+            description = "Number of requests that can be sent back to back after an idle period without exceeding @|bold --maxRequestsPerMinute|@ on average. Also applies to quotas from @|bold --rateLimits|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int maxRequestsBurst = 1;
+
+    @CommandLine.Option(names = {"--maxThrottleRetries"},
+            description = "Number of times a request is re-issued when the service responds with 429 or 503 and advertises a Retry-After or X-RateLimit-Reset window. All requests are paused for that window. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "3")
+    private int maxThrottleRetries = 3;
+
+    @CommandLine.Option(names = {"--maxThrottleWaitInSec"},
+            description = "Maximum wait time in seconds advertised by a throttled response for which CATS will pause and retry. Longer windows are reported as they are. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "60")
+    private int maxThrottleWaitInSec = 60;
+
+    @CommandLine.Option(names = {"--maxInFlightRequests"},
+            description = "Maximum number of requests dispatched asynchronously and waiting for a response at the same time. Fuzzers sending many independent payloads will overlap network latency when this is greater than 1. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int maxInFlightRequests = 1;
+
+    @CommandLine.Option(names = {"--adaptiveConcurrency"},
+            description = "If set to @|bold true|@, the number of concurrent requests will grow while the service latency stays stable and will back off sharply on 429, 503 or connection errors. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean adaptiveConcurrency;
+
+    @CommandLine.Option(names = {"--maxConcurrentRequests"},
+            description = "Maximum number of concurrent requests the adaptive concurrency limit can grow to when @|bold --adaptiveConcurrency|@ is enabled. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "64")
+    private int maxConcurrentRequests = 64;
+
+    @CommandLine.Option(names = {"--deduplicateRequests"},
+            description = "If set to @|bold true|@, requests identical to an already sent request (same method, url, headers and body) are not sent again and the recorded response is evaluated instead. Only use it for stateless APIs, as an identical request might get a different response once the state of the service changed. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean deduplicateRequests;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds within which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -41,6 +74,38 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxResponseBodySize"},
+            description = "Maximum number of bytes read from a response body. Bigger or endless bodies are truncated and the response length is taken from the Content-Length header, when available. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10485760")
+    private long maxResponseBodySize = 10485760;
+
+    @CommandLine.Option(names = {"--maxIdleConnections"},
+            description = "Maximum number of idle connections kept open to the service for reuse. Increase it when running with a high @|bold --parallelism|@ or @|bold --maxInFlightRequests|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
+    @CommandLine.Option(names = {"--keepAliveInSec"},
+            description = "Time in seconds an idle connection is kept open before being evicted from the connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "900")
+    private long keepAliveInSec = 900;
+
+    @CommandLine.Option(names = {"--warmupConnections"},
+            description = "Number of connections opened to the service before fuzzing starts, so that TCP, TLS and HTTP/2 negotiation is not part of the response time of the first tests. Connections are kept in the pool even if this is bigger than @|bold --maxIdleConnections|@. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means no warm-up")
+    private int warmupConnections;
+
+    @CommandLine.Option(names = {"--warmupMethod"},
+            description = "The HTTP method of the requests sent to the @|bold --server|@ url in order to open the @|bold --warmupConnections|@. Supported values: @|bold HEAD|@, @|bold OPTIONS|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private WarmupMethod warmupMethod = WarmupMethod.HEAD;
+
+    @CommandLine.Option(names = {"--http2MaxConcurrentStreams"},
+            description = "Maximum number of concurrent HTTP/2 streams opened on a connection. When greater than 0, requests are dispatched asynchronously and multiplexed over @|bold --http2Connections|@ connections. Use @|bold --http2PriorKnowledge|@ for services not negotiating HTTP/2 through TLS. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means no multiplexing")
+    private int http2MaxConcurrentStreams;
+
+    @CommandLine.Option(names = {"--http2Connections"},
+            description = "Number of connections used to multiplex requests when @|bold --http2MaxConcurrentStreams|@ is greater than 0. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "2")
+    private int http2Connections = 2;
+
     @CommandLine.Option(names = {"--userAgent"},
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline cats/${app.version}|@")
     private String userAgent;
@@ -67,6 +132,28 @@ public class ApiArguments {
         return contract != null && contract.startsWith("http");
     }
 
+    /**
+     * Checks if requests are multiplexed over HTTP/2 connections.
+     *
+     * @return true if {@code --http2MaxConcurrentStreams} is greater than 0, false otherwise
+     */
+    public boolean isHttp2Multiplexing() {
+        return http2MaxConcurrentStreams > 0;
+    }
+
+    /**
+     * Gets the maximum number of requests waiting for a response at the same time. When multiplexing over HTTP/2,
+     * this is at least the number of streams available on all connections.
+     *
+     * @return the size of the in-flight window
+     */
+    public int getInFlightWindow() {
+        if (this.isHttp2Multiplexing()) {
+            return Math.max(maxInFlightRequests, http2MaxConcurrentStreams * Math.max(1, http2Connections));
+        }
+        return maxInFlightRequests;
+    }
+
     /**
      * Validates the required {@code --contract} and {@code --server} arguments are present.
      *
@@ -155,4 +242,11 @@ public class ApiArguments {
         }
         return this.userAgent + " (Test " + testId + " - " + fuzzer + ")";
     }
+
+    /**
+     * HTTP methods which can be used to warm up connections without changing the state of the service.
+     */
+    public enum WarmupMethod {
+        HEAD, OPTIONS
+    }
 }
@@ -42,6 +42,7 @@ public class FilesArguments {
     private Map<String, Map<String, Object>> headers;
     private Map<String, Map<String, Object>> queryParams;
     private Map<String, Map<String, Object>> refData;
+    private Map<String, Map<String, Object>> rateLimits;
     private List<String> urlParams;
     private List<String> pathsOrder;
 
@@ -90,6 +91,12 @@ public class FilesArguments {
     @Setter
     private File queryFile;
 
+    @CommandLine.Option(names = {"--rateLimits"},
+            description = "A YAML file with per-path and per-http-method rate limits applied on top of @|bold --maxRequestsPerMinute|@. Root elements are paths or @|bold all|@, " +
+                    "while children are http_method:max_requests_per_minute pairs, with @|bold all|@ matching any http method")
+    @Setter
+    private File rateLimitsFile;
+
     @CommandLine.Option(names = {"--pathsRunOrder"},
             description = "A file with the order in which the paths will be executed. The paths are on each line. The order from file will drive the execution order")
     @Setter
@@ -151,6 +158,7 @@ public class FilesArguments {
         loadURLParams();
         loadHeaders();
         loadQueryParams();
+        loadRateLimits();
         loadFuzzConfigProperties();
         loadErrorLeaksKeywords();
         loadMutators();
@@ -347,6 +355,25 @@ public class FilesArguments {
         return mergePathAndAll(queryParams, path);
     }
 
+    /**
+     * Loads the per-path and per-http-method rate limits from the file supplied in the {@code --rateLimits} argument.
+     *
+     * @throws IOException if something goes wrong
+     */
+    public void loadRateLimits() throws IOException {
+        this.rateLimits = this.loadFileAsMapOfMapsOfStrings(rateLimitsFile, "Rate limits");
+    }
+
+    /**
+     * Returns the rate limits supplied in the {@code --rateLimits} file. Keys are paths, while values
+     * are maps of http methods and maximum requests per minute.
+     *
+     * @return the rate limits per path and http method
+     */
+    public Map<String, Map<String, Object>> getRateLimits() {
+        return Optional.ofNullable(rateLimits).orElse(Collections.emptyMap());
+    }
+
     /**
      * Returns a list of paths as they are ordered in the pathsOrder file.
      *
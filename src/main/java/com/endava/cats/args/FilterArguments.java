@@ -18,6 +18,7 @@ import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.util.AnnotationUtils;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.WorkShard;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -124,6 +125,16 @@ public class FilterArguments {
     @Setter
     private List<HttpMethod> skippedHttpMethods = Collections.emptyList();
 
+    @CommandLine.Option(names = {"--shard"},
+            description = "Run only a shard of the (path, http method, fuzzer) work units, in the @|bold index/total|@ format, for example @|bold 2/4|@. Work units are split deterministically, so running all shards with the same arguments covers the full run")
+    @Setter
+    private String shard;
+
+    @CommandLine.Option(names = {"--prioritizeFrom"},
+            description = "A comma separated list of previous report folders or @|bold cats-summary-report.json|@ files. When supplied, the fuzzers of each path run in the order of the errors per test case they found in these reports, so that findings come early in the run", split = ",")
+    @Setter
+    private List<Path> prioritizeFrom;
+
     @CommandLine.Option(names = {"-d", "--dryRun"},
             description = "Simulate a possible run without actually invoking the service. This will print how many tests will actually be executed and with which Fuzzers")
     @Getter
@@ -861,4 +872,39 @@ public class FilterArguments {
             throw new IllegalArgumentException("No paths available to run. Use 'cats list -p -c api.yml' to list available paths");
         }
     }
+
+    /**
+     * Returns the previous reports used to prioritize fuzzers, as supplied through {@code --prioritizeFrom}.
+     *
+     * @return the supplied report folders or summary report files, or an empty list if none supplied
+     */
+    public List<Path> getPrioritizeFrom() {
+        return Optional.ofNullable(prioritizeFrom).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the shard of the work units to run, as supplied through {@code --shard}.
+     *
+     * @return the supplied shard or a shard owning all the work if {@code --shard} was not supplied
+     * @throws IllegalArgumentException if the supplied shard is not valid
+     */
+    public WorkShard getWorkShard() {
+        if (shard == null) {
+            return WorkShard.ALL;
+        }
+        return WorkShard.parse(shard);
+    }
+
+    /**
+     * Validates that the supplied {@code --shard} is in the {@code index/total} format.
+     *
+     * @param spec the PicoCli command spec for error reporting
+     */
+    public void validateShard(CommandLine.Model.CommandSpec spec) {
+        try {
+            this.getWorkShard();
+        } catch (IllegalArgumentException e) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "Invalid value for --shard: " + e.getMessage());
+        }
+    }
 }
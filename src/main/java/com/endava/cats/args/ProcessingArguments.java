@@ -129,6 +129,21 @@ public class ProcessingArguments {
             description = "If set to @|bold true|@, it will force a http2 connection, without fallback to HTTP 1.X . Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean http2PriorKnowledge;
 
+    @Setter
+    @CommandLine.Option(names = {"--parallelism"},
+            description = "Number of (path, fuzzer) work units executed concurrently on virtual threads. Second phase fuzzers for a path still run only after all its first phase fuzzers finished. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means sequential execution")
+    private int parallelism = 1;
+
+    @Setter
+    @CommandLine.Option(names = {"--sequentialPaths"},
+            description = "Fuzz paths one after another when @|bold --parallelism|@ is bigger than 1, running only the fuzzers of the same path concurrently. Useful for contracts with few, deep operations. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean sequentialPaths;
+
+    @Setter
+    @CommandLine.Option(names = {"--maxRunTime"},
+            description = "Time budget of the run in seconds. Each path gets a fair share of the remaining time, split between its fuzzers proportionally to the number of tests they are expected to run. Fuzzers exceeding their share only run a sample of the remaining test cases and no test case runs once the budget is exhausted. Skipped test cases are listed in @|bold cats-time-budget.json|@. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means no limit")
+    private long maxRunTime;
+
     @Setter
     @CommandLine.Option(names = {"--seed"},
             description = "The seed to be used for random number generation. Default: @|bold,underline ${DEFAULT-VALUE}|@")
@@ -156,6 +171,15 @@ public class ProcessingArguments {
         return true;
     }
 
+    /**
+     * Checks if fuzzing should run (path, fuzzer) work units concurrently.
+     *
+     * @return true if {@code --parallelism} is bigger than 1, false otherwise
+     */
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
     /**
      * Gets the supplied content type of "application/json" and "application/x-www-form-urlencoded" if not supplied.
      *
@@ -39,17 +39,22 @@ public class ReportingArguments {
     private boolean debug;
 
     @CommandLine.Option(names = {"--printExecutionStatistics"},
-            description = "Print a summary of execution times for each endpoint and HTTP method. By default this will print a summary for each endpoint: max, min and average. Detailed reports can be enabled using @|bold --printDetailedExecutionStatistics|@")
+            description = "Print a summary of execution times for each endpoint and HTTP method. By default this will print a summary for each endpoint: max, min, average and the p50, p90, p99 and p99.9 percentiles. Detailed reports can be enabled using @|bold --printDetailedExecutionStatistics|@")
     private boolean printExecutionStatistics;
 
     @CommandLine.Option(names = {"--printDetailedExecutionStatistics"},
-            description = "Print detailed execution statistics with execution times for each request")
+            description = "Print detailed execution statistics with the execution time percentiles of each fuzzer")
     private boolean printDetailedExecutionStatistics;
 
     @CommandLine.Option(names = {"--timestampReports"},
             description = "Output the report inside the @|bold cats-report|@ folder in a sub-folder with the current timestamp")
     private boolean timestampReports;
 
+    @CommandLine.Option(names = {"--resume"},
+            description = "Resume an interrupted run from the journal in the report folder. Completed fuzzers are skipped and test case numbering continues, " +
+                    "so that the final report looks like an uninterrupted run. It must be used with the same arguments as the interrupted run and cannot be used with @|bold --timestampReports|@")
+    private boolean resume;
+
     @CommandLine.Option(names = {"--reportFormat"},
             description = "A list of formats of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. For example, the @|bold,underline HTML_ONLY|@ report format does not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies", split = ",")
     private List<ReportFormat> reportFormat = List.of(ReportFormat.HTML_JS);
@@ -1,5 +1,8 @@
 package com.endava.cats.command;
 
+import com.endava.cats.annotations.FieldFuzzer;
+import com.endava.cats.annotations.HeaderFuzzer;
+import com.endava.cats.annotations.StatefulFuzzer;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.AuthArguments;
 import com.endava.cats.args.CheckArguments;
@@ -21,20 +24,29 @@ import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsConfiguration;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.openapi.handler.api.SchemaWalker;
 import com.endava.cats.openapi.handler.index.SpecPositionIndex;
 import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.FuzzerYieldHistory;
+import com.endava.cats.report.RunJournal;
+import com.endava.cats.report.RunTimeBudget;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.AnnotationUtils;
 import com.endava.cats.util.AnsiUtils;
+import com.endava.cats.util.ConnectionWarmup;
 import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.ExecutionPlan;
 import com.endava.cats.util.OpenApiRefExtractor;
 import com.endava.cats.util.OpenApiUtils;
+import com.endava.cats.util.StreamStatistics;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
+import com.endava.cats.util.WorkShard;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -45,21 +57,41 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Main application command.
@@ -90,7 +122,7 @@ import java.util.stream.Collectors;
         abbreviateSynopsis = true,
         synopsisHeading = "@|bold,underline Usage:|@%n",
         customSynopsis = {"@|bold cats|@ @|fg(yellow) -c|@ <CONTRACT> @|fg(yellow) -s|@ <SERVER> [ADDITIONAL OPTIONS]",
-                "@|bold cats (list | replay | run | template | lint | info | stats | validate | random | generate | explain)|@ [OPTIONS]", "%n"},
+                "@|bold cats (list | replay | run | template | lint | info | stats | validate | random | generate | explain | merge | plan)|@ [OPTIONS]", "%n"},
         exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
         exitCodeList = {"@|bold  0|@:Successful program execution",
                 "@|bold 2|@:Usage error: user input for the command was incorrect",
@@ -113,13 +145,17 @@ import java.util.stream.Collectors;
                 ValidateCommand.class,
                 RandomCommand.class,
                 GenerateCommand.class,
-                ExplainCommand.class
+                ExplainCommand.class,
+                MergeCommand.class,
+                PlanCommand.class,
+                MockCommand.class
         })
 public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, AutoCloseable {
 
     private final PrettyLogger logger;
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ReentrantLock fuzzingDataLock = new ReentrantLock();
 
     @Inject
     FuzzingDataFactory fuzzingDataFactory;
@@ -185,6 +221,15 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
     @Inject
     ExecutionStatisticsListener executionStatisticsListener;
 
+    @Inject
+    RunJournal runJournal;
+
+    @Inject
+    RunTimeBudget runTimeBudget;
+
+    @Inject
+    ServiceCaller serviceCaller;
+
     @Inject
     CatsGlobalContext globalContext;
 
@@ -206,6 +251,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
 
     private int exitCodeDueToErrors = CommandLine.ExitCode.OK;
 
+    /* set by subcommands: either the plan to execute or the file where the plan is written instead of fuzzing */
+    private File executionPlanFile;
+    private File executionPlanOutput;
+
+    private FuzzerYieldHistory fuzzerYieldHistory = FuzzerYieldHistory.EMPTY;
+
     /**
      * Creates a new instance of CatsCommand.
      */
@@ -248,6 +299,8 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         context.getLimitXxxOfCombinations().ifPresent(processingArguments::setLimitXxxOfCombinations);
         context.getFilesArguments().ifPresent(fa -> filesArguments = (FilesArguments) fa);
         context.getTotalCountType().ifPresent(filterArguments::setTotalCountType);
+        context.getPlanFile().ifPresent(planFile -> this.executionPlanFile = planFile);
+        context.getPlanOutput().ifPresent(planOutput -> this.executionPlanOutput = planOutput);
 
         // Run normal execution
         this.run();
@@ -268,6 +321,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
             logger.debug("Stacktrace: {}", e);
             exitCodeDueToErrors = CommandLine.ExitCode.SOFTWARE;
         } finally {
+            runJournal.close();
             testCaseListener.endSession();
         }
     }
@@ -291,12 +345,16 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         filterArguments.validateValidPaths(openAPI);
         //reporting path is initialized only if OpenAPI spec is successfully parsed
         testCaseListener.initReportingPath();
+        this.startJournal();
         this.printConfiguration(openAPI);
         this.initGlobalData(openAPI);
         this.initSchemaWalker(openAPI);
+        this.warmUpConnections();
         testCaseListener.renderFuzzingHeader();
         this.startFuzzing(openAPI);
         this.executeCustomFuzzer();
+        this.printStreamStatistics();
+        this.printDeduplicatedRequests();
     }
 
     private void initSchemaWalker(OpenAPI openAPI) throws IOException {
@@ -306,6 +364,46 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         }
     }
 
+    /**
+     * Handshake time is reported here as it's no longer part of the response time of the first tests.
+     */
+    private void warmUpConnections() {
+        if (apiArguments.getWarmupConnections() <= 0 || filterArguments.isLinting() || filterArguments.isDryRun() || executionPlanOutput != null) {
+            return;
+        }
+        ConnectionWarmup.Result warmup = serviceCaller.warmUpConnections();
+        logger.config("Warmed up {} connections using {} {} requests, {} failed. Protocols: {}",
+                AnsiUtils.blue(warmup.openedConnections()), AnsiUtils.blue(warmup.requests()), AnsiUtils.blue(apiArguments.getWarmupMethod()),
+                AnsiUtils.blue(warmup.failedRequests()), AnsiUtils.blue(warmup.protocols()));
+        logger.config("Connection handshake time: average {}ms, max {}ms, out of which TLS average {}ms",
+                AnsiUtils.blue(warmup.averageConnectInMs()), AnsiUtils.blue(warmup.maxConnectInMs()), AnsiUtils.blue(warmup.averageTlsHandshakeInMs()));
+    }
+
+    /**
+     * A time to first byte growing with the number of streams means the service doesn't keep up and {@code --http2MaxConcurrentStreams} should be lowered.
+     */
+    private void printStreamStatistics() {
+        if (!apiArguments.isHttp2Multiplexing() || filterArguments.isLinting() || filterArguments.isDryRun() || executionPlanOutput != null) {
+            return;
+        }
+        StreamStatistics.Result streams = serviceCaller.getStreamStatistics();
+        logger.complete("Requests per negotiated protocol: {}. Connections opened: {}, max concurrent streams per connection: {}, failed requests: {}",
+                AnsiUtils.blue(streams.requestsPerProtocol()), AnsiUtils.blue(streams.openedConnections()),
+                AnsiUtils.blue(streams.maxConcurrentStreamsPerConnection()), AnsiUtils.blue(streams.failedRequests()));
+        logger.complete("Stream timings: acquire average {}ms, time to first byte average {}ms, max {}ms",
+                AnsiUtils.blue(streams.averageStreamAcquireInMs()), AnsiUtils.blue(streams.averageTimeToFirstByteInMs()), AnsiUtils.blue(streams.maxTimeToFirstByteInMs()));
+        if (!streams.requestsPerProtocol().isEmpty() && !streams.isHttp2Negotiated()) {
+            logger.warning("HTTP/2 was not negotiated with the service, so requests were not multiplexed. Use --http2PriorKnowledge for services not negotiating HTTP/2 through TLS");
+        }
+    }
+
+    private void printDeduplicatedRequests() {
+        if (!apiArguments.isDeduplicateRequests() || filterArguments.isLinting() || filterArguments.isDryRun() || executionPlanOutput != null) {
+            return;
+        }
+        logger.complete("Requests not sent as an identical request was already sent: {}", AnsiUtils.blue(serviceCaller.getDeduplicatedRequests()));
+    }
+
     private void checkOpenAPI(OpenAPI openAPI) {
         if (openAPI == null || openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
             throw new IllegalArgumentException("Provided OpenAPI specs are invalid!");
@@ -334,7 +432,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
     private void initGlobalData(OpenAPI openAPI) {
         CatsConfiguration catsConfiguration = new CatsConfiguration(appVersion, apiArguments.getContract(), apiArguments.getServer(), filterArguments.getHttpMethods(),
                 filterArguments.getFirstPhaseFuzzersForPath().size() + filterArguments.getSecondPhaseFuzzers().size(), filterArguments.getTotalFuzzersOrLinters(),
-                filterArguments.getPathsToRun(openAPI).size(), openAPI.getPaths().size());
+                filterArguments.getPathsToRun(openAPI).size(), openAPI.getPaths().size(), filterArguments.getWorkShard().toString());
 
         Set<String> refs = Collections.emptySet();
         if (filterArguments.isLinting()) {
@@ -348,17 +446,269 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
     }
 
     void startFuzzing(OpenAPI openAPI) {
+        if (executionPlanFile != null) {
+            this.fuzzPlannedPaths(openAPI);
+            return;
+        }
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
+        Set<Map.Entry<String, PathItem>> sortedPaths = this.sortPathsAlphabetically(openAPI, filesArguments.getPathsOrder());
 
-        for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI, filesArguments.getPathsOrder())) {
+        if (executionPlanOutput != null) {
+            this.writeExecutionPlan(sortedPaths, suppliedPaths, openAPI);
+            return;
+        }
+        this.startTimeBudget(suppliedPaths.size());
+        if (this.isFuzzingPathsConcurrently()) {
+            this.fuzzPathsInParallel(sortedPaths, suppliedPaths, openAPI);
+            return;
+        }
+        if (processingArguments.isParallel()) {
+            this.fuzzPathsSequentiallyWithParallelFuzzers(sortedPaths, suppliedPaths, openAPI);
+            return;
+        }
+
+        for (Map.Entry<String, PathItem> entry : sortedPaths) {
             if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
+                this.fuzzPath(entry, openAPI, workUnits -> workUnits.forEach(Runnable::run));
             } else {
                 logger.skip("Skipping path {}", entry.getKey());
             }
         }
     }
 
+    /**
+     * Each {@link #pathFamily(String) path family} gets its own virtual thread which processes the paths of the family one after another,
+     * in the same order as a sequential run, so the POST of {@code /pets} is stored before the DELETE of {@code /pets/{id}} runs.
+     * The (path, fuzzer) work units of the current path are scheduled concurrently and the number of work units running at the same time
+     * is bounded by {@code --parallelism}. Family threads don't hold permits as they only wait for their work units to finish.
+     */
+    private void fuzzPathsInParallel(Set<Map.Entry<String, PathItem>> sortedPaths, List<String> suppliedPaths, OpenAPI openAPI) {
+        Semaphore workUnitPermits = new Semaphore(processingArguments.getParallelism());
+        List<Future<?>> familyFutures = new ArrayList<>();
+        logger.config("Running with parallelism {}", AnsiUtils.blue(processingArguments.getParallelism()));
+
+        Map<String, List<Map.Entry<String, PathItem>>> pathFamilies = new LinkedHashMap<>();
+        for (Map.Entry<String, PathItem> entry : sortedPaths) {
+            if (suppliedPaths.contains(entry.getKey())) {
+                pathFamilies.computeIfAbsent(pathFamily(entry.getKey()), _ -> new ArrayList<>()).add(entry);
+            } else {
+                logger.skip("Skipping path {}", entry.getKey());
+            }
+        }
+
+        try (ExecutorService workUnitExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService familyExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Map.Entry<String, PathItem>> familyPaths : pathFamilies.values()) {
+                familyFutures.add(familyExecutor.submit(() -> familyPaths.forEach(entry -> this.fuzzPath(entry, openAPI,
+                        workUnits -> this.runWorkUnitsInParallel(workUnits, workUnitExecutor, workUnitPermits)))));
+            }
+        }
+        awaitAll(familyFutures);
+    }
+
+    /**
+     * Paths are processed one after another, while the fuzzers of the current path run concurrently,
+     * bounded by {@code --parallelism}.
+     */
+    private void fuzzPathsSequentiallyWithParallelFuzzers(Set<Map.Entry<String, PathItem>> sortedPaths, List<String> suppliedPaths, OpenAPI openAPI) {
+        Semaphore workUnitPermits = new Semaphore(processingArguments.getParallelism());
+        logger.config("Running fuzzers with parallelism {}, paths sequentially", AnsiUtils.blue(processingArguments.getParallelism()));
+
+        try (ExecutorService workUnitExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, PathItem> entry : sortedPaths) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    this.fuzzPath(entry, openAPI, workUnits -> this.runWorkUnitsInParallel(workUnits, workUnitExecutor, workUnitPermits));
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the work units of each path to the execution plan instead of running them. Paths are processed sequentially
+     * as the plan is grouped by path.
+     */
+    private void writeExecutionPlan(Set<Map.Entry<String, PathItem>> sortedPaths, List<String> suppliedPaths, OpenAPI openAPI) {
+        ExecutionPlan.Header header = new ExecutionPlan.Header(CatsRandom.getStoredSeed(), apiArguments.getContract(),
+                ExecutionPlan.contractHash(openAPI), appVersion);
+        try (ExecutionPlan.Writer planWriter = ExecutionPlan.create(executionPlanOutput.toPath(), header)) {
+            for (Map.Entry<String, PathItem> entry : sortedPaths) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    this.selectPathWorkUnits(entry, openAPI).ifPresent(pathWorkUnits -> {
+                        this.planPhase(pathWorkUnits, pathWorkUnits.firstPhaseFuzzers(), 1, planWriter);
+                        this.planPhase(pathWorkUnits, pathWorkUnits.secondPhaseFuzzers(), 2, planWriter);
+                    });
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
+            }
+            logger.complete("Wrote {} work units to execution plan {}", planWriter.getWorkUnits(), executionPlanOutput);
+        } catch (IOException e) {
+            throw new CatsException("Unable to write execution plan " + executionPlanOutput, e);
+        } catch (UncheckedIOException e) {
+            throw new CatsException("Unable to write execution plan " + executionPlanOutput, e.getCause());
+        }
+    }
+
+    private void planPhase(PathWorkUnits pathWorkUnits, List<Fuzzer> fuzzers, int phase, ExecutionPlan.Writer planWriter) {
+        for (Fuzzer fuzzer : fuzzers) {
+            for (FuzzingData data : this.filterFuzzingData(pathWorkUnits.fuzzingData(), fuzzer)) {
+                if (pathWorkUnits.inShard().test(fuzzer, data) && !data.shouldSkipFuzzerForPath(fuzzer.toString())) {
+                    planWriter.writeWorkUnit(data.getContractPath(), data.getMethod(), pathWorkUnits.allFuzzingData().indexOf(data),
+                            data.getPayload(), fuzzer.toString(), phase);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the work units from the execution plan, path by path. Fuzzers of a path run in parallel when {@code --parallelism} is bigger than 1.
+     * Plans created from a different contract or by a different CATS version are rejected, as their payloads would no longer match
+     * the generated ones.
+     */
+    private void fuzzPlannedPaths(OpenAPI openAPI) {
+        Semaphore workUnitPermits = new Semaphore(processingArguments.getParallelism());
+        try (ExecutorService workUnitExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutionPlan.readHeader(executionPlanFile.toPath()).checkCompatible(ExecutionPlan.contractHash(openAPI), appVersion);
+            this.startTimeBudget(this.countPlannedPaths());
+            Consumer<List<Runnable>> workUnitsRunner = processingArguments.isParallel()
+                    ? workUnits -> this.runWorkUnitsInParallel(workUnits, workUnitExecutor, workUnitPermits)
+                    : workUnits -> workUnits.forEach(Runnable::run);
+            ExecutionPlan.forEachPath(executionPlanFile.toPath(), (path, entries) -> this.fuzzPlannedPath(path, entries, openAPI, workUnitsRunner));
+        } catch (IOException e) {
+            throw new CatsException("Unable to read execution plan " + executionPlanFile, e);
+        } catch (IllegalArgumentException e) {
+            throw new CatsException(e.getMessage(), e);
+        }
+    }
+
+    private int countPlannedPaths() throws IOException {
+        if (processingArguments.getMaxRunTime() <= 0) {
+            return 0;
+        }
+        AtomicInteger paths = new AtomicInteger();
+        ExecutionPlan.forEachPath(executionPlanFile.toPath(), (_, _) -> paths.incrementAndGet());
+        return paths.get();
+    }
+
+    /**
+     * Paths run concurrently only when {@code --parallelism} is bigger than 1 and {@code --sequentialPaths} is not set.
+     * Execution plans are always written and executed path by path.
+     */
+    private boolean isFuzzingPathsConcurrently() {
+        return processingArguments.isParallel() && !processingArguments.isSequentialPaths() && executionPlanFile == null && executionPlanOutput == null;
+    }
+
+    private void startTimeBudget(int paths) {
+        int concurrentPaths = this.isFuzzingPathsConcurrently() ? processingArguments.getParallelism() : 1;
+        runTimeBudget.start(processingArguments.getMaxRunTime(), paths, concurrentPaths, processingArguments.getParallelism());
+    }
+
+    /**
+     * Payloads are matched by their index within the payloads generated for the path. As the plan was created from the same contract
+     * and CATS version, the payload at each index is generated from the same schema and only random values can differ. These are replaced
+     * with the planned ones, so that all environments receive the same requests.
+     */
+    private void fuzzPlannedPath(String path, List<ExecutionPlan.Entry> entries, OpenAPI openAPI, Consumer<List<Runnable>> workUnitsRunner) {
+        PathItem pathItem = openAPI.getPaths().get(path);
+        if (pathItem == null) {
+            logger.warning("Path {} from the execution plan is not part of the contract. Skipping it", path);
+            return;
+        }
+        logger.start(AnsiUtils.bold("Start fuzzing planned path {}"), path);
+        List<FuzzingData> generatedFuzzingData = this.createFuzzingData(Map.entry(path, pathItem), openAPI);
+        Map<Integer, FuzzingData> plannedFuzzingData = new LinkedHashMap<>();
+        Map<FuzzingData, Integer> payloadIndexes = new HashMap<>();
+        Set<String> plannedWorkUnits = new HashSet<>();
+        Map<Integer, Set<String>> fuzzersByPhase = new TreeMap<>();
+
+        for (ExecutionPlan.Entry entry : entries) {
+            if (entry.isPayload()) {
+                this.withPlannedPayload(generatedFuzzingData, entry).ifPresent(data -> {
+                    plannedFuzzingData.put(entry.payloadIndex(), data);
+                    payloadIndexes.put(data, entry.payloadIndex());
+                });
+            } else {
+                plannedWorkUnits.add(entry.payloadIndex() + " " + entry.fuzzer());
+                fuzzersByPhase.computeIfAbsent(entry.phase(), _ -> new LinkedHashSet<>()).add(entry.fuzzer());
+            }
+        }
+
+        List<FuzzingData> fuzzingData = List.copyOf(plannedFuzzingData.values());
+        BiPredicate<Fuzzer, FuzzingData> planned = (fuzzer, data) -> plannedWorkUnits.contains(payloadIndexes.get(data) + " " + fuzzer);
+        List<List<Fuzzer>> plannedPhases = fuzzersByPhase.values().stream().map(this::plannedFuzzers).toList();
+        if (runTimeBudget.isEnabled()) {
+            runTimeBudget.registerPath(path, estimatedTests(fuzzingData, plannedPhases.stream().flatMap(List::stream).toList(), planned));
+        }
+        plannedPhases.forEach(fuzzers -> this.runPhase(fuzzingData, fuzzers, planned, payloadIndexes::get, workUnitsRunner));
+    }
+
+    private Optional<FuzzingData> withPlannedPayload(List<FuzzingData> generatedFuzzingData, ExecutionPlan.Entry entry) {
+        if (entry.payloadIndex() < 0 || entry.payloadIndex() >= generatedFuzzingData.size()
+                || generatedFuzzingData.get(entry.payloadIndex()).getMethod() != entry.method()) {
+            logger.warning("Payload {} for {} {} from the execution plan does not match the contract. The contract might have changed since the plan was created",
+                    entry.payloadIndex(), entry.method(), entry.path());
+            return Optional.empty();
+        }
+        FuzzingData data = generatedFuzzingData.get(entry.payloadIndex());
+        if (Objects.equals(data.getPayload(), entry.payload())) {
+            return Optional.of(data);
+        }
+        logger.debug("Generated payload for {} {} differs from the planned one. Using the planned payload", entry.method(), entry.path());
+        return Optional.of(data.toBuilder().payload(entry.payload()).processedPayload(entry.payload()).build());
+    }
+
+    private List<Fuzzer> plannedFuzzers(Set<String> fuzzerNames) {
+        Map<String, Fuzzer> registeredFuzzers = filterArguments.getAllRegisteredFuzzers().stream()
+                .collect(Collectors.toMap(Object::toString, Function.identity(), (first, _) -> first));
+        fuzzerNames.stream()
+                .filter(Predicate.not(registeredFuzzers::containsKey))
+                .forEach(fuzzerName -> logger.warning("Fuzzer {} from the execution plan is not available. Skipping it", fuzzerName));
+
+        return fuzzerNames.stream()
+                .map(registeredFuzzers::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void runWorkUnitsInParallel(List<Runnable> workUnits, ExecutorService workUnitExecutor, Semaphore workUnitPermits) {
+        List<Future<?>> workUnitFutures = workUnits.stream()
+                .<Future<?>>map(workUnit -> workUnitExecutor.submit(() -> runWithPermit(workUnit, workUnitPermits)))
+                .toList();
+        awaitAll(workUnitFutures);
+    }
+
+    private static void runWithPermit(Runnable workUnit, Semaphore workUnitPermits) {
+        try {
+            workUnitPermits.acquire();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            workUnit.run();
+        } finally {
+            workUnitPermits.release();
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new CatsException(e);
+            }
+        }
+    }
+
     private Set<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI, List<String> pathsOrder) {
         Comparator<Map.Entry<String, PathItem>> customComparator = CatsUtil.createCustomComparatorBasedOnPathsOrder(pathsOrder);
 
@@ -390,12 +740,83 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
     void prepareRun() throws IOException {
         //this is a hack to set terminal width here in order to avoid importing a full-blown library like jline
         // just for getting the terminal width
+        this.applyExecutionPlanSeed();
+        this.applyResumeSeed();
         CatsRandom.initRandom(processingArguments.getSeed());
         ConsoleUtils.initTerminalWidth(spec);
         reportingArguments.processLogData();
         apiArguments.validateRequired(spec);
         filesArguments.loadConfig();
         filterArguments.applyProfile(spec);
+        filterArguments.validateShard(spec);
+        this.loadFuzzerYieldHistory();
+    }
+
+    private void loadFuzzerYieldHistory() throws IOException {
+        if (filterArguments.getPrioritizeFrom().isEmpty()) {
+            fuzzerYieldHistory = FuzzerYieldHistory.EMPTY;
+            return;
+        }
+        try {
+            fuzzerYieldHistory = FuzzerYieldHistory.load(filterArguments.getPrioritizeFrom());
+        } catch (IllegalArgumentException e) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "Invalid value for --prioritizeFrom: " + e.getMessage());
+        }
+        if (fuzzerYieldHistory.isEmpty()) {
+            logger.warning("No test cases found in {}. Fuzzers will run in the default order", filterArguments.getPrioritizeFrom());
+        }
+    }
+
+    /**
+     * Payloads are regenerated when executing a plan, so the seed of the plan is used in order to get the same payloads.
+     */
+    private void applyExecutionPlanSeed() throws IOException {
+        if (executionPlanFile == null) {
+            return;
+        }
+        ExecutionPlan.Header header = ExecutionPlan.readHeader(executionPlanFile.toPath());
+        if (processingArguments.getSeed() != 0 && processingArguments.getSeed() != header.seed()) {
+            logger.warning("Ignoring --seed {}. Using seed {} from execution plan {}", processingArguments.getSeed(), header.seed(), executionPlanFile);
+        }
+        processingArguments.setSeed(header.seed());
+    }
+
+    /**
+     * Random streams are derived from the seed, so the seed of the interrupted run is used in order to get the same payloads.
+     */
+    private void applyResumeSeed() throws IOException {
+        if (!reportingArguments.isResume()) {
+            return;
+        }
+        if (reportingArguments.isTimestampReports()) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--resume cannot be used with --timestampReports");
+        }
+        Path journalFile = this.getJournalFile();
+        if (!journalFile.toFile().exists()) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "Nothing to resume. There is no journal in " + reportingArguments.getOutputReportFolder());
+        }
+        long seed = runJournal.load(journalFile);
+        if (processingArguments.getSeed() != 0 && processingArguments.getSeed() != seed) {
+            logger.warning("Ignoring --seed {}. Using seed {} from the interrupted run", processingArguments.getSeed(), seed);
+        }
+        processingArguments.setSeed(seed);
+    }
+
+    /**
+     * Linting and writing execution plans don't run any test case, so there is nothing to resume.
+     */
+    private void startJournal() throws IOException {
+        if (filterArguments.isLinting() || executionPlanOutput != null) {
+            return;
+        }
+        if (reportingArguments.isResume()) {
+            testCaseListener.restoreTestCases(runJournal.renumberCompletedTests());
+        }
+        runJournal.start(this.getJournalFile(), CatsRandom.getStoredSeed(), reportingArguments.isResume());
+    }
+
+    private Path getJournalFile() {
+        return Path.of(reportingArguments.getOutputReportFolder(), RunJournal.JOURNAL_FILE);
     }
 
     private void printConfiguration(OpenAPI openAPI) {
@@ -430,6 +851,32 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
                 AnsiUtils.blue(processingArguments.getSanitizationStrategy()));
         logger.config("Seed value: {}",
                 AnsiUtils.blue(CatsRandom.getStoredSeed()));
+        WorkShard workShard = filterArguments.getWorkShard();
+        if (workShard.isPartial()) {
+            logger.config("Running shard {}", AnsiUtils.blue(workShard));
+            if (processingArguments.getSeed() == 0) {
+                logger.warning("No --seed supplied. All shards must use the same --seed for their payloads to be consistent");
+            }
+        }
+        if (executionPlanFile != null) {
+            logger.config("Executing plan {}", AnsiUtils.blue(executionPlanFile));
+        }
+        if (!fuzzerYieldHistory.isEmpty()) {
+            logger.config("Fuzzers prioritized by errors found in: {}", AnsiUtils.blue(filterArguments.getPrioritizeFrom()));
+        }
+        if (processingArguments.getMaxRunTime() > 0) {
+            logger.config("Time budget: {}", AnsiUtils.blue(Duration.ofSeconds(processingArguments.getMaxRunTime()).toString().toLowerCase(Locale.ROOT).substring(2)));
+        }
+        if (apiArguments.isHttp2Multiplexing()) {
+            logger.config("HTTP/2 multiplexing: {} connections, {} concurrent streams per connection",
+                    AnsiUtils.blue(apiArguments.getHttp2Connections()), AnsiUtils.blue(apiArguments.getHttp2MaxConcurrentStreams()));
+        }
+        if (apiArguments.isDeduplicateRequests()) {
+            logger.config("Request deduplication: {}", AnsiUtils.blue("enabled, identical requests are sent only once"));
+        }
+        if (reportingArguments.isResume()) {
+            logger.config("Resuming interrupted run. Already completed test cases: {}", AnsiUtils.blue(runJournal.getCompletedTests().size()));
+        }
         logger.config("Quality gate: {}",
                 AnsiUtils.blue(qualityGateArguments.getQualityGateDescription()));
 
@@ -437,15 +884,37 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         logger.config("Total number of OpenAPI operations: {}", AnsiUtils.blue(nofOfOperations));
     }
 
-    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI, Consumer<List<Runnable>> workUnitsRunner) {
+        this.selectPathWorkUnits(pathItemEntry, openAPI).ifPresent(pathWorkUnits -> {
+            /* second phase fuzzers are only scheduled after all first phase work units for the path are done */
+            ToIntFunction<FuzzingData> payloadIndex = pathWorkUnits.allFuzzingData()::indexOf;
+            this.runPhase(pathWorkUnits.fuzzingData(), pathWorkUnits.firstPhaseFuzzers(), pathWorkUnits.inShard(), payloadIndex, workUnitsRunner);
+            this.runPhase(pathWorkUnits.fuzzingData(), pathWorkUnits.secondPhaseFuzzers(), pathWorkUnits.inShard(), payloadIndex, workUnitsRunner);
+        });
+    }
+
+    /**
+     * The payloads and fuzzers selected for a path.
+     *
+     * @param allFuzzingData     all the payloads generated for the path
+     * @param fuzzingData        the payloads matching the supplied http methods and oneOf/anyOf selections
+     * @param firstPhaseFuzzers  the fuzzers running in the first phase
+     * @param secondPhaseFuzzers the fuzzers running after all first phase fuzzers finished
+     * @param inShard            selects the work units owned by the current {@code --shard}
+     */
+    private record PathWorkUnits(List<FuzzingData> allFuzzingData, List<FuzzingData> fuzzingData, List<Fuzzer> firstPhaseFuzzers,
+                                 List<Fuzzer> secondPhaseFuzzers, BiPredicate<Fuzzer, FuzzingData> inShard) {
+    }
+
+    private Optional<PathWorkUnits> selectPathWorkUnits(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = AnsiUtils.bold("Start fuzzing path {}");
         logger.start(ansiString, pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        List<FuzzingData> fuzzingDataList = this.createFuzzingData(pathItemEntry, openAPI);
 
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
-            return;
+            return Optional.empty();
         }
 
         /* If certain HTTP methods are skipped, we remove the corresponding FuzzingData */
@@ -460,34 +929,196 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
                 .map(FuzzingData::getMethod)
                 .collect(Collectors.toSet());
 
-        List<Fuzzer> fuzzersToRun = filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(allHttpMethodsFromFuzzingData, pathItemEntry.getKey());
-        this.runFuzzers(filteredFuzzingData, fuzzersToRun);
-        this.runFuzzers(filteredFuzzingData, filterArguments.getSecondPhaseFuzzers());
+        List<Fuzzer> fuzzersToRun = fuzzerYieldHistory.prioritize(
+                filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(allHttpMethodsFromFuzzingData, pathItemEntry.getKey()),
+                pathItemEntry.getKey(), allHttpMethodsFromFuzzingData);
+        List<Fuzzer> secondPhaseFuzzers = filterArguments.getSecondPhaseFuzzers();
+        List<Fuzzer> allFuzzers = Stream.concat(fuzzersToRun.stream(), secondPhaseFuzzers.stream()).toList();
+        BiPredicate<Fuzzer, FuzzingData> inShard = this.selectShardWorkUnits(pathItemEntry.getKey(), filteredFuzzingData, fuzzersToRun, secondPhaseFuzzers);
+        if (runTimeBudget.isEnabled()) {
+            runTimeBudget.registerPath(pathItemEntry.getKey(), estimatedTests(filteredFuzzingData, allFuzzers, inShard));
+        }
+
+        return Optional.of(new PathWorkUnits(fuzzingDataList, filteredFuzzingData, fuzzersToRun, secondPhaseFuzzers, inShard));
     }
 
-    private void runFuzzers(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers) {
+    /**
+     * Selects the (http method, fuzzer) work units of the path owned by the {@code --shard} of this run.
+     * Work units are weighted by the number of tests they are expected to run: one per field for field fuzzers,
+     * one per header for header fuzzers and one for any other fuzzer.
+     * Second phase fuzzers depend on the state produced by the {@link StatefulFuzzer} ones of the first phase, like the resources
+     * deleted for the path, and a DELETE consumes the resources created by the POST of the parent path. All these work units form
+     * a single group assigned by {@link #pathFamily(String)}, so the work units of a path and of its child paths are owned by one shard.
+     */
+    private BiPredicate<Fuzzer, FuzzingData> selectShardWorkUnits(String path, List<FuzzingData> fuzzingData, List<Fuzzer> firstPhaseFuzzers,
+                                                                  List<Fuzzer> secondPhaseFuzzers) {
+        WorkShard workShard = filterArguments.getWorkShard();
+        if (!workShard.isPartial()) {
+            return (_, _) -> true;
+        }
+        List<Fuzzer> fuzzers = Stream.concat(firstPhaseFuzzers.stream(), secondPhaseFuzzers.stream()).toList();
+        Set<Fuzzer> dependentFuzzers = fuzzers.stream()
+                .filter(fuzzer -> isStateful(fuzzer) || secondPhaseFuzzers.contains(fuzzer))
+                .collect(Collectors.toSet());
+        List<ShardWorkUnit> independentWorkUnits = new ArrayList<>();
+        int dependentTests = 0;
+        for (int i = 0; i < fuzzingData.size(); i++) {
+            for (Fuzzer fuzzer : fuzzers) {
+                if (dependentFuzzers.contains(fuzzer)) {
+                    dependentTests += estimatedTests(fuzzer, fuzzingData.get(i));
+                } else {
+                    independentWorkUnits.add(new ShardWorkUnit(ShardWorkUnit.key(i, fuzzingData.get(i), fuzzer), estimatedTests(fuzzer, fuzzingData.get(i))));
+                }
+            }
+        }
+        Set<String> ownedKeys = workShard.select(path, independentWorkUnits, ShardWorkUnit::key, ShardWorkUnit::estimatedTests)
+                .stream()
+                .map(ShardWorkUnit::key)
+                .collect(Collectors.toCollection(HashSet::new));
+        int workUnits = independentWorkUnits.size();
+        if (!dependentFuzzers.isEmpty() && !fuzzingData.isEmpty()) {
+            workShard.select(pathFamily(path), List.of(new ShardWorkUnit(ShardWorkUnit.DEPENDENT, dependentTests)), ShardWorkUnit::key, ShardWorkUnit::estimatedTests)
+                    .forEach(unit -> ownedKeys.add(unit.key()));
+            workUnits++;
+        }
+        logger.debug("Shard {} runs {} out of {} work units for path {}", workShard, ownedKeys.size(), workUnits, path);
+
+        return (fuzzer, data) -> ownedKeys.contains(dependentFuzzers.contains(fuzzer) ? ShardWorkUnit.DEPENDENT
+                : ShardWorkUnit.key(fuzzingData.indexOf(data), data, fuzzer));
+    }
+
+    /**
+     * The family of a path groups it with the paths sharing its state: a path ending with a path variable, like {@code /pets/{id}},
+     * belongs to its parent {@code /pets}, as its DELETE consumes the resources stored by the POST of the parent path.
+     * Any other path is the root of its own family.
+     */
+    static String pathFamily(String path) {
+        int lastSlash = path.lastIndexOf('/');
+        if (lastSlash >= 0 && path.startsWith("{", lastSlash + 1)) {
+            return path.substring(0, lastSlash);
+        }
+        return path;
+    }
+
+    /**
+     * A work unit assigned to a shard: a single (payload, fuzzer) or the group of all work units depending on each other.
+     */
+    private record ShardWorkUnit(String key, int estimatedTests) {
+        static final String DEPENDENT = "dependent";
+
+        static String key(int dataIndex, FuzzingData data, Fuzzer fuzzer) {
+            return dataIndex + " " + data.getMethod() + " " + fuzzer;
+        }
+    }
+
+    /**
+     * The number of tests a fuzzer is expected to run for a payload: one per field for field fuzzers,
+     * one per header for header fuzzers and one for any other fuzzer.
+     */
+    private static int estimatedTests(Fuzzer fuzzer, FuzzingData data) {
+        if (AnnotationUtils.findAnnotation(fuzzer.getClass(), FieldFuzzer.class) != null) {
+            return data.getAllFieldsByHttpMethod().size();
+        }
+        if (AnnotationUtils.findAnnotation(fuzzer.getClass(), HeaderFuzzer.class) != null) {
+            return data.getHeaders().size();
+        }
+        return 1;
+    }
+
+    private static long estimatedTests(List<FuzzingData> fuzzingData, List<Fuzzer> fuzzers, BiPredicate<Fuzzer, FuzzingData> inShard) {
+        long estimatedTests = 0;
+        for (Fuzzer fuzzer : fuzzers) {
+            for (FuzzingData data : fuzzingData) {
+                if (!fuzzer.skipForHttpMethods().contains(data.getMethod()) && inShard.test(fuzzer, data)) {
+                    estimatedTests += estimatedTests(fuzzer, data);
+                }
+            }
+        }
+        return estimatedTests;
+    }
+
+    /**
+     * When running in parallel, fuzzers marked with {@link StatefulFuzzer} depend on state produced or consumed by the other fuzzers.
+     * They are chained in a single work unit which is scheduled only after the independent work units of the phase finished.
+     */
+    private void runPhase(List<FuzzingData> fuzzingData, List<Fuzzer> fuzzers, BiPredicate<Fuzzer, FuzzingData> inShard,
+                          ToIntFunction<FuzzingData> payloadIndex, Consumer<List<Runnable>> workUnitsRunner) {
+        if (!processingArguments.isParallel()) {
+            workUnitsRunner.accept(this.createWorkUnits(fuzzingData, fuzzers, inShard, payloadIndex));
+            return;
+        }
+        Map<Boolean, List<Fuzzer>> fuzzersByState = fuzzers.stream()
+                .collect(Collectors.partitioningBy(CatsCommand::isStateful));
+        workUnitsRunner.accept(this.createWorkUnits(fuzzingData, fuzzersByState.get(false), inShard, payloadIndex));
+
+        List<Runnable> statefulWorkUnits = this.createWorkUnits(fuzzingData, fuzzersByState.get(true), inShard, payloadIndex);
+        if (!statefulWorkUnits.isEmpty()) {
+            workUnitsRunner.accept(List.of(() -> statefulWorkUnits.forEach(Runnable::run)));
+        }
+    }
+
+    private static boolean isStateful(Fuzzer fuzzer) {
+        return AnnotationUtils.findAnnotation(fuzzer.getClass(), StatefulFuzzer.class) != null;
+    }
+
+    /**
+     * Payload generation mutates shared caches from the global context, so it's kept serialised even when paths run in parallel.
+     * It uses a random stream specific to the path. When paths are processed one after another, the examples generated for a schema
+     * are reused by the following paths. When paths run concurrently, the order in which they are generated changes from one run
+     * to another, so examples cached while generating other paths are discarded to keep payloads the same for a seed.
+     */
+    private List<FuzzingData> createFuzzingData(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+        fuzzingDataLock.lock();
+        try {
+            if (this.isFuzzingPathsConcurrently()) {
+                globalContext.clearGeneratedExamples();
+            }
+            return CatsRandom.callInStream(CatsRandom.streamSeed(pathItemEntry.getKey()),
+                    () -> fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI));
+        } finally {
+            fuzzingDataLock.unlock();
+        }
+    }
+
+    private List<Runnable> createWorkUnits(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers, BiPredicate<Fuzzer, FuzzingData> inShard,
+                                           ToIntFunction<FuzzingData> payloadIndex) {
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
+        List<Runnable> workUnits = new ArrayList<>();
 
         for (Fuzzer fuzzer : configuredFuzzers) {
-            List<FuzzingData> filteredData = this.filterFuzzingData(fuzzingDataListWithHttpMethodsFiltered, fuzzer);
-            filteredData.forEach(data -> runSingleFuzzer(fuzzer, data));
+            List<FuzzingData> filteredData = this.filterFuzzingData(fuzzingDataListWithHttpMethodsFiltered, fuzzer).stream()
+                    .filter(data -> inShard.test(fuzzer, data))
+                    .toList();
+            if (filteredData.isEmpty()) {
+                continue;
+            }
+            workUnits.add(() -> filteredData.forEach(data -> runSingleFuzzer(fuzzer, data, payloadIndex.applyAsInt(data))));
         }
+        return workUnits;
     }
 
-    private void runSingleFuzzer(Fuzzer fuzzer, FuzzingData data) {
+    private void runSingleFuzzer(Fuzzer fuzzer, FuzzingData data, int payloadIndex) {
         if (data.shouldSkipFuzzerForPath(fuzzer.toString())) {
             logger.skip("Skipping Fuzzer {} for path {} due to OpenAPI extension configuration",
                     AnsiUtils.yellow(fuzzer.toString()), data.getPath());
             return;
         }
 
+        if (runJournal.skipCompleted(data.getContractPath(), data.getMethod(), payloadIndex, fuzzer.toString())) {
+            logger.skip("Skipping Fuzzer {}, http method {}, path {} as it completed before the run was interrupted",
+                    AnsiUtils.yellow(fuzzer.toString()), data.getMethod(), data.getPath());
+            return;
+        }
+
         logFuzzerStart(fuzzer, data);
 
         if (!(fuzzer instanceof FunctionalFuzzer)) {
             testCaseListener.beforeFuzz(fuzzer.getClass(), data.getContractPath(), data.getMethod().name());
         }
 
-        fuzzer.fuzz(data);
+        runJournal.runWorkUnit(data.getContractPath(), data.getMethod(), payloadIndex, fuzzer.toString(),
+                () -> runTimeBudget.runWorkUnit(data.getContractPath(), data.getMethod(), fuzzer.toString(), estimatedTests(fuzzer, data),
+                        () -> CatsRandom.runInStream(CatsRandom.streamSeed(data.getContractPath(), data.getMethod(), fuzzer), () -> fuzzer.fuzz(data))));
 
         if (!(fuzzer instanceof FunctionalFuzzer)) {
             testCaseListener.afterFuzz(data.getContractPath());
@@ -534,6 +1165,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
 
     @Override
     public void close() throws Exception {
+        serviceCaller.close();
         executor.shutdown();
         try {
             if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
@@ -0,0 +1,66 @@
+package com.endava.cats.command;
+
+import com.endava.cats.report.ReportMerger;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.arc.Unremovable;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Merges several report folders, for example produced by sharded runs, into a single report.
+ */
+@CommandLine.Command(
+        name = "merge",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Merge several CATS report folders into a single report",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 2|@:Usage error: user input for the command was incorrect",
+                "@|bold 1|@:Internal execution error: an exception occurred when executing command"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Merge the reports of two shards into the default cats-report-merged folder:",
+                "    cats merge shard-1-report shard-2-report",
+                "", "  Merge the reports of two shards into a custom folder:",
+                "    cats merge shard-1-report shard-2-report -o cats-report"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class MergeCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MergeCommand.class);
+
+    @CommandLine.Parameters(
+            description = "The report folders to merge. Test cases are renumbered in the order in which folders are supplied", arity = "1..")
+    List<Path> reportFolders;
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = "The folder where the merged report is written. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    Path output = Path.of("cats-report-merged");
+
+    private int exitCode = CommandLine.ExitCode.OK;
+
+    @Override
+    public void run() {
+        try {
+            ReportMerger.MergeResult result = new ReportMerger().merge(reportFolders, output);
+            logger.complete("Merged {} reports into {}. Total tests {}, passed {}, warnings {}, errors {}",
+                    result.mergedReports(), output.toAbsolutePath(), result.totalTests(), result.success(), result.warnings(), result.errors());
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid report folders: {}", e.getMessage());
+            exitCode = CommandLine.ExitCode.USAGE;
+        } catch (IOException e) {
+            logger.error("Something went wrong while merging reports: {}", e.getMessage());
+            logger.debug("Stacktrace", e);
+            exitCode = CommandLine.ExitCode.SOFTWARE;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
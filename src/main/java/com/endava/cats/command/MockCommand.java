@@ -0,0 +1,207 @@
+package com.endava.cats.command;
+
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.io.MockServer;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.AnsiUtils;
+import com.endava.cats.util.CatsRandom;
+import com.endava.cats.util.OpenApiServerExtractor;
+import com.endava.cats.util.OpenApiUtils;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.github.ludovicianul.prettylogger.config.level.PrettyLevel;
+import io.quarkus.arc.Unremovable;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.math.NumberUtils;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntPredicate;
+
+/**
+ * Serves the operations of an OpenAPI contract with generated responses, as a local target for CATS.
+ */
+@CommandLine.Command(
+        name = "mock",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Starts a local server answering the operations of the given OpenAPI spec with generated responses",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 2|@:Usage error: user input for the command was incorrect",
+                "@|bold 1|@:Internal execution error: an exception occurred when executing command"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Serve a given OpenAPI contract on port 8080:",
+                "    cats mock -c openapi.yml",
+                "", "  Serve a given OpenAPI contract with an average latency of 20ms and 1% errors:",
+                "    cats mock -c openapi.yml --latency EXPONENTIAL --latencyInMs 20 --errorRate 0.01"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class MockCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private static final String DEFAULT_ERROR_BODY = "{\"error\":\"mock error\"}";
+    private final PrettyLogger logger = PrettyLoggerFactory.getConsoleLogger();
+
+    @CommandLine.Option(names = {"-c", "--contract"},
+            description = "The OpenAPI contract/spec", required = true)
+    private String contract;
+
+    @CommandLine.Option(names = {"--port"},
+            description = "The port to listen on. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int port = 8080;
+
+    @CommandLine.Option(names = {"--latency"},
+            description = "How the latency added to each response is distributed. Supported values: @|bold NONE|@, @|bold FIXED|@, @|bold UNIFORM|@ between 0 and twice @|bold --latencyInMs|@, @|bold EXPONENTIAL|@ having @|bold --latencyInMs|@ as mean. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private MockServer.Latency latency = MockServer.Latency.NONE;
+
+    @CommandLine.Option(names = {"--latencyInMs"},
+            description = "The latency added to each response, used according to @|bold --latency|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private long latencyInMs;
+
+    @CommandLine.Option(names = {"--errorRate"},
+            description = "The fraction of requests, between 0 and 1, answered with an error response code documented for the operation, or 500 if none is documented. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private double errorRate;
+
+    @CommandLine.Option(names = {"--contentType"},
+            description = "A custom mime type if the OpenAPI contract/spec uses content type negotiation versioning. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private String contentType = "application/json";
+
+    @CommandLine.Option(names = {"--seed"},
+            description = "The seed from which latencies and errors are generated. Runs with the same seed give the same latencies and errors when requests arrive in the same order. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private long seed;
+
+    @CommandLine.Option(names = {"-D", "--debug"},
+            description = "Sets CATS log level to ALL. Useful for diagnosis when raising bugs")
+    private boolean debug;
+
+    FuzzingDataFactory fuzzingDataFactory;
+    CatsGlobalContext globalContext;
+
+    private int exitCodeDueToErrors = CommandLine.ExitCode.OK;
+
+    @Inject
+    public MockCommand(FuzzingDataFactory fuzzingDataFactory, CatsGlobalContext globalContext) {
+        this.fuzzingDataFactory = fuzzingDataFactory;
+        this.globalContext = globalContext;
+    }
+
+    @Override
+    public void run() {
+        if (!debug) {
+            PrettyLogger.enableLevels(PrettyLevel.CONFIG, PrettyLevel.COMPLETE, PrettyLevel.FATAL);
+        } else {
+            PrettyLogger.enableLevels(PrettyLevel.values());
+        }
+
+        try (MockServer mockServer = this.startServer()) {
+            logger.complete("Serving {} on port {}. Press Ctrl+C to stop", AnsiUtils.blue(contract), AnsiUtils.blue(mockServer.port()));
+            CountDownLatch stopped = new CountDownLatch(1);
+            Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(() -> {
+                logger.complete("Requests served: {}", AnsiUtils.blue(mockServer.servedRequests()));
+                stopped.countDown();
+            }));
+            stopped.await();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.fatal("Something went wrong while running CATS: {}", e.toString());
+            logger.debug("Stacktrace: {}", e);
+            exitCodeDueToErrors = CommandLine.ExitCode.SOFTWARE;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    MockServer startServer() throws IOException {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("--errorRate must be between 0 and 1");
+        }
+        CatsRandom.initRandom(seed);
+        OpenAPI openAPI = OpenApiUtils.readOpenApi(contract);
+        if (openAPI == null || openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
+            throw new IllegalArgumentException("Provided OpenAPI specs are invalid!");
+        }
+        this.globalContext.init(openAPI, List.of(contentType), new Properties(), null, Set.of(), Set.of());
+
+        List<MockServer.Operation> operations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            fuzzingDataFactory.fromPathItem(path.getKey(), path.getValue(), openAPI).stream()
+                    .map(MockCommand::toOperation)
+                    .forEach(operations::add);
+        }
+        logger.config("Operations loaded: {}", AnsiUtils.blue(operations.stream().map(operation -> operation.method() + " " + operation.path()).distinct().count()));
+
+        String basePath = basePath(openAPI);
+        if (!basePath.isEmpty()) {
+            logger.config("Base path: {}", AnsiUtils.blue(basePath));
+        }
+
+        return MockServer.start(port, basePath, operations, latency, latencyInMs, errorRate, CatsRandom.streamSeed("mock"));
+    }
+
+    /**
+     * The path of the first server url, like {@code /v3} for {@code http://localhost:8080/v3}, so that the mock answers the same urls
+     * CATS calls when fuzzing against the contract servers.
+     */
+    static String basePath(OpenAPI openAPI) {
+        return OpenApiServerExtractor.getServerUrls(openAPI).stream()
+                .findFirst()
+                .map(MockCommand::pathOf)
+                .map(path -> path.replaceAll("/+$", ""))
+                .orElse("");
+    }
+
+    private static String pathOf(String url) {
+        try {
+            return Optional.ofNullable(URI.create(url).getRawPath()).orElse("");
+        } catch (IllegalArgumentException _) {
+            return "";
+        }
+    }
+
+    /**
+     * Successful responses use the lowest documented 2xx code, while errors use the lowest documented 5xx, then 4xx code.
+     */
+    static MockServer.Operation toOperation(FuzzingData data) {
+        Collection<String> responseCodes = Optional.ofNullable(data.getResponseCodes()).orElse(Set.of());
+        String responseCode = lowestCode(responseCodes, code -> code >= 200 && code < 300).orElse("200");
+        String errorCode = lowestCode(responseCodes, code -> code >= 500)
+                .or(() -> lowestCode(responseCodes, code -> code >= 400 && code < 500))
+                .orElse("500");
+
+        return new MockServer.Operation(data.getContractPath(), data.getMethod(),
+                Integer.parseInt(responseCode), firstOf(data.getResponses(), responseCode).orElse(""),
+                firstOf(data.getResponseContentTypes(), responseCode).orElse("application/json"),
+                Integer.parseInt(errorCode), firstOf(data.getResponses(), errorCode).orElse(DEFAULT_ERROR_BODY));
+    }
+
+    private static Optional<String> lowestCode(Collection<String> responseCodes, IntPredicate range) {
+        return responseCodes.stream()
+                .filter(NumberUtils::isDigits)
+                .filter(code -> range.test(Integer.parseInt(code)))
+                .min(Comparator.naturalOrder());
+    }
+
+    private static Optional<String> firstOf(Map<String, List<String>> valuesPerCode, String responseCode) {
+        return Optional.ofNullable(valuesPerCode)
+                .map(values -> values.get(responseCode))
+                .filter(values -> !values.isEmpty())
+                .map(List::getFirst);
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCodeDueToErrors;
+    }
+}
@@ -0,0 +1,93 @@
+package com.endava.cats.command;
+
+import com.endava.cats.command.model.CommandContext;
+import com.endava.cats.command.model.ConfigOptions;
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.VersionProvider;
+import io.quarkus.arc.Unremovable;
+import picocli.CommandLine;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes the work units of a run to an execution plan, without sending any request.
+ * The plan can then be executed using {@code cats run --plan}.
+ */
+@CommandLine.Command(
+        name = "plan",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Write the work units of a CATS run to an execution plan file, without running them",
+        abbreviateSynopsis = true,
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 2|@:Usage error: user input for the command was incorrect",
+                "@|bold 1|@:Internal execution error: an exception occurred when executing command"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Write the execution plan of an OpenAPI contract to the default cats-plan.ndjson file:",
+                "    cats plan -c openapi.yml",
+                "", "  Write the execution plan for the /users path using a fixed seed:",
+                "    cats plan -c openapi.yml --paths /users --seed 42 -o users-plan.ndjson",
+                "", "  Execute the plan:",
+                "    cats run --plan users-plan.ndjson -s http://localhost:8080"},
+        synopsisHeading = "%nUsage: ",
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class PlanCommand implements Runnable, CommandLine.IExitCodeGenerator {
+
+    @CommandLine.Mixin
+    ConfigOptions configOptions;
+
+    @CommandLine.Option(names = {"-c", "--contract"},
+            description = "The OpenAPI contract/spec", required = true)
+    private String contract;
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = "The file where the execution plan is written. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private File output = new File("cats-plan.ndjson");
+
+    @CommandLine.Option(names = {"--seed"},
+            description = "The seed to be used for random number generation. A random seed is used and stored in the plan if not supplied. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private long seed;
+
+    @CommandLine.Option(names = {"--paths", "--path"},
+            description = "A comma separated list of paths to include in the plan. If no path is supplied, all paths will be included", split = ",")
+    private List<String> paths;
+
+    @CommandLine.Option(names = {"--skipPaths", "--skipPath"},
+            description = "A comma separated list of paths to ignore. If no path is supplied, no path will be ignored", split = ",")
+    private List<String> skipPaths;
+
+    @CommandLine.Option(names = {"--skipFuzzers", "--skipFuzzer"},
+            description = "A comma separated list of fuzzers to be ignored. They can be full or partial Fuzzer names", split = ",")
+    private List<String> skipFuzzers;
+
+    @CommandLine.Option(names = {"-X", "--httpMethods"},
+            description = "A comma separated list of HTTP methods to include in the plan. If no method is supplied, all methods will be included", split = ",")
+    private List<HttpMethod> httpMethods;
+
+    @CommandLine.ParentCommand
+    private CatsCommand catsCommand;
+
+    @Override
+    public void run() {
+        CommandContext context = new CommandContext();
+        context.setContract(contract);
+        context.setServer("http://empty");
+        context.setPlanOutput(output);
+        context.setSeed(seed);
+        Optional.ofNullable(paths).ifPresent(context::setPaths);
+        Optional.ofNullable(skipPaths).ifPresent(context::setSkipPaths);
+        Optional.ofNullable(skipFuzzers).ifPresent(context::setSkipFuzzers);
+        Optional.ofNullable(httpMethods).ifPresent(context::setHttpMethods);
+
+        catsCommand.runWithContext(context);
+    }
+
+    @Override
+    public int getExitCode() {
+        return catsCommand.getExitCode();
+    }
+}
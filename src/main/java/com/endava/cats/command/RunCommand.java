@@ -9,6 +9,7 @@ import com.endava.cats.command.model.ConfigOptions;
 import com.endava.cats.fuzzer.FuzzerTypes;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.ExecutionPlan;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -41,17 +42,25 @@ import java.util.Map;
         footer = {"  Run custom payloads using the SecurityFuzzer:",
                 "    cats run -c openapi.yml -s http://localhost:8080 securityFuzzer.yml",
                 "", "  Run a set of functional tests using the FunctionalFuzzer:",
-                "    cats run -c openapi.yml -s http://localhost:8080 functionalTests.yml"},
+                "    cats run -c openapi.yml -s http://localhost:8080 functionalTests.yml",
+                "", "  Run an execution plan created with cats plan:",
+                "    cats run --plan cats-plan.ndjson -s http://localhost:8080"},
         versionProvider = VersionProvider.class)
 @Unremovable
 public class RunCommand implements Runnable, CommandLine.IExitCodeGenerator {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RunCommand.class);
 
     @CommandLine.Parameters(index = "0",
+            arity = "0..1",
             paramLabel = "<file>",
-            description = "A yaml file following the CATS YAML syntax")
+            description = "A yaml file following the CATS YAML syntax. Not required when using --plan")
     File file;
 
+    @CommandLine.Option(names = {"--plan"},
+            description = "An execution plan created with @|bold cats plan|@. When supplied, the work units from the plan are executed. " +
+                    "The contract from the plan is used if @|bold --contract|@ is not supplied")
+    File planFile;
+
     @CommandLine.Mixin
     ConfigOptions configOptions;
 
@@ -118,6 +127,10 @@ public class RunCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     @Override
     public void run() {
+        if (planFile != null) {
+            this.runPlan();
+            return;
+        }
         apiArguments.validateRequired(spec);
 
         if (CatsUtil.isFileEmpty(file)) {
@@ -135,8 +148,27 @@ public class RunCommand implements Runnable, CommandLine.IExitCodeGenerator {
         }
     }
 
+    private void runPlan() {
+        if (CatsUtil.isFileEmpty(planFile)) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "You must provide a valid non-empty --plan file");
+        }
+        try {
+            ExecutionPlan.Header header = ExecutionPlan.readHeader(planFile.toPath());
+            if (apiArguments.getContract() == null) {
+                apiArguments.setContract(header.contract());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "Invalid --plan file: " + e.getMessage());
+        }
+        apiArguments.validateRequired(spec);
+
+        CommandContext context = this.createCommonCommandContext();
+        context.setPlanFile(planFile);
+        catsCommand.runWithContext(context);
+    }
+
     private @NonNull CommandContext createCommandContext() throws IOException {
-        CommandContext context = new CommandContext();
+        CommandContext context = this.createCommonCommandContext();
 
         // Set fuzzer type based on file content
         if (this.isFunctionalFuzzerFile()) {
@@ -146,8 +178,11 @@ public class RunCommand implements Runnable, CommandLine.IExitCodeGenerator {
             context.setFuzzerType(FuzzerTypes.SECURITY);
             context.setSecurityFuzzerFile(file);
         }
+        return context;
+    }
 
-        // Set other context properties
+    private @NonNull CommandContext createCommonCommandContext() {
+        CommandContext context = new CommandContext();
         context.setHeadersFile(headersFile);
         context.setHeadersMap(headersMap);
         context.setCreateRefData(createRefData);
@@ -239,4 +239,20 @@ public class CommandContext {
     public Optional<FilterArguments.TotalCountType> getTotalCountType() {
         return get("totalCountType", FilterArguments.TotalCountType.class);
     }
+
+    public void setPlanFile(File planFile) {
+        set("planFile", planFile);
+    }
+
+    public Optional<File> getPlanFile() {
+        return get("planFile", File.class);
+    }
+
+    public void setPlanOutput(File planOutput) {
+        set("planOutput", planOutput);
+    }
+
+    public Optional<File> getPlanOutput() {
+        return get("planOutput", File.class);
+    }
 }
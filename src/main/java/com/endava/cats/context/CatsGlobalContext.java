@@ -23,6 +23,7 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import jakarta.inject.Singleton;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -30,14 +31,19 @@ import org.slf4j.MDC;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.fusesource.jansi.Ansi.ansi;
@@ -52,18 +58,21 @@ public class CatsGlobalContext {
     public static final String CONTRACT_PATH = "contractPath";
     public static final String ORIGINAL = "Original";
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(CatsGlobalContext.class);
-    private final Map<String, Schema> schemaMap = new HashMap<>();
-    private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Map<String, Object>> additionalProperties = new HashMap<>();
-    private final Set<Discriminator> discriminators = new HashSet<>();
-    private final Map<String, Set<Object>> discriminatorValues = new HashMap<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    @Getter(AccessLevel.NONE)
+    private final ReadMostlyMap<String, Schema> schemaMap = new ReadMostlyMap<>();
+    private final Map<String, Example> exampleMap = new ReadMostlyMap<>();
+    private final Map<String, Map<String, Object>> additionalProperties = Collections.synchronizedMap(new HashMap<>());
+    private final Set<Discriminator> discriminators = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Object>> discriminatorValues = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Deque<String>> postSuccessfulResponses = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, PostResponseLease> postResponseLeases = new ConcurrentHashMap<>();
+    private final Set<String> successfulDeletes = ConcurrentHashMap.newKeySet();
     private final Properties fuzzersConfiguration = new Properties();
-    private final Map<String, List<String>> generatedExamplesCache = new HashMap<>();
-    private final Set<ProcessingError> recordedErrors = new HashSet<>();
-    private final Set<String> errorLeaksKeywords = new HashSet<>();
-    private final Set<String> refs = new HashSet<>();
+    private final Map<String, List<String>> generatedExamplesCache = Collections.synchronizedMap(new HashMap<>());
+    private final Set<ProcessingError> recordedErrors = ConcurrentHashMap.newKeySet();
+    private final Set<String> errorLeaksKeywords = ConcurrentHashMap.newKeySet();
+    private final Set<String> refs = ConcurrentHashMap.newKeySet();
 
     private CatsConfiguration catsConfiguration;
     @Setter
@@ -124,7 +133,7 @@ public class CatsGlobalContext {
      */
     public void recordDiscriminator(String currentProperty, Discriminator discriminator, List<Object> examples) {
         String discriminatorKey = (StringUtils.isBlank(currentProperty) ? "" : currentProperty + "#") + discriminator.getPropertyName();
-        Set<Object> discriminatorValuesSet = this.discriminatorValues.computeIfAbsent(discriminatorKey, k -> new HashSet<>());
+        Set<Object> discriminatorValuesSet = this.discriminatorValues.computeIfAbsent(discriminatorKey, k -> Collections.synchronizedSet(new HashSet<>()));
         discriminators.add(discriminator);
         if (CatsUtil.isNotEmpty(examples)) {
             discriminatorValuesSet.addAll(examples);
@@ -153,6 +162,99 @@ public class CatsGlobalContext {
         this.generatedExamplesCache.put(key, examples);
     }
 
+    /**
+     * Clears the generated examples, so that examples of a path are not reused when generating the payloads of another path.
+     * Examples are generated from the random stream of a path, so reusing them across paths would make payloads depend on
+     * the order in which paths are processed.
+     */
+    public void clearGeneratedExamples() {
+        this.generatedExamplesCache.clear();
+    }
+
+    /**
+     * Stores the response body of a successful POST so that DELETE requests for the same resource can use it.
+     *
+     * @param path         the POST path
+     * @param responseBody the response body
+     */
+    public void storePostResponse(String path, String responseBody) {
+        this.postSuccessfulResponses.computeIfAbsent(path, k -> new ConcurrentLinkedDeque<>()).offerLast(responseBody);
+    }
+
+    /**
+     * Leases the oldest stored POST response for the given path. A leased response is not visible to other
+     * leases until it is either consumed through {@link #consumePostResponseLease(String)} or returned through
+     * {@link #returnPostResponseLease(String)}. When no lease owner is supplied the response is only peeked.
+     *
+     * @param path       the POST path
+     * @param leaseOwner the identifier of the test case taking the lease
+     * @return the leased POST response or empty if there is no response stored
+     */
+    public Optional<String> leasePostResponse(String path, String leaseOwner) {
+        Deque<String> responses = this.postSuccessfulResponses.get(path);
+        if (responses == null) {
+            return Optional.empty();
+        }
+        if (leaseOwner == null) {
+            return Optional.ofNullable(responses.peekFirst());
+        }
+        Optional<String> leased = Optional.ofNullable(responses.pollFirst());
+        leased.ifPresent(response -> this.registerLease(leaseOwner, new PostResponseLease(path, response)));
+        return leased;
+    }
+
+    /**
+     * Consumes the POST response leased by the given owner, if any. Used after the corresponding resource was successfully deleted.
+     *
+     * @param leaseOwner the identifier of the test case holding the lease
+     * @return true if there was a lease to consume, false otherwise
+     */
+    public boolean consumePostResponseLease(String leaseOwner) {
+        return leaseOwner != null && this.postResponseLeases.remove(leaseOwner) != null;
+    }
+
+    /**
+     * Returns the POST response leased by the given owner, if any, so that it can be leased again.
+     *
+     * @param leaseOwner the identifier of the test case holding the lease
+     */
+    public void returnPostResponseLease(String leaseOwner) {
+        if (leaseOwner == null) {
+            return;
+        }
+        Optional.ofNullable(this.postResponseLeases.remove(leaseOwner))
+                .ifPresent(lease -> this.postSuccessfulResponses.computeIfAbsent(lease.path(), k -> new ConcurrentLinkedDeque<>()).offerFirst(lease.response()));
+    }
+
+    private void registerLease(String leaseOwner, PostResponseLease lease) {
+        PostResponseLease previous = this.postResponseLeases.put(leaseOwner, lease);
+        if (previous != null) {
+            this.postSuccessfulResponses.computeIfAbsent(previous.path(), k -> new ConcurrentLinkedDeque<>()).offerFirst(previous.response());
+        }
+    }
+
+    /**
+     * Runs the given task, like the generation of the payloads of a path, batching the schemas it adds to the global context.
+     * Added schemas are visible to the task right away and to other threads once the task ends, so that the schemas map is
+     * published once per task instead of being copied with each added schema.
+     *
+     * @param task the task adding schemas
+     * @param <T>  the type of the task result
+     * @return the result of the task
+     */
+    public <T> T batchSchemaWrites(Supplier<T> task) {
+        return schemaMap.batch(task);
+    }
+
+    /**
+     * Gets the schemas of the contract, together with the ones created while generating payloads.
+     *
+     * @return the schemas keyed by name or reference
+     */
+    public Map<String, Schema> getSchemaMap() {
+        return schemaMap;
+    }
+
     /**
      * Adds a schema to the global context.
      *
@@ -373,4 +475,7 @@ public class CatsGlobalContext {
         MDC.put(CONTRACT_PATH, path);
         MDC.put(HTTP_METHOD, method.toString());
     }
+
+    private record PostResponseLease(String path, String response) {
+    }
 }
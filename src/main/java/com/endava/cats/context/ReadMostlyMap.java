@@ -0,0 +1,131 @@
+package com.endava.cats.context;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Map optimised for data which is written mostly at startup and then read concurrently while fuzzing.
+ * <p>
+ * Reads go to an immutable snapshot without any locking, while single writes copy the snapshot under a lock and publish the new one.
+ * Many writes, like the schemas added while generating payloads, should run in a {@link #batch(Supplier)}: they fill a plain map,
+ * seen only by the thread running the batch, which is published once as the new snapshot when the batch ends.
+ * Unlike concurrent maps, {@code null} values are accepted, as references which cannot be resolved are also cached.
+ * Views returned by {@link #entrySet()}, {@link #keySet()} and {@link #values()} reflect the snapshot at the time of iteration and are read-only.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class ReadMostlyMap<K, V> extends AbstractMap<K, V> {
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Map<K, V> snapshot = Collections.emptyMap();
+    private volatile Thread batchWriter;
+    private Map<K, V> draft;
+
+    /**
+     * Runs the given writes in a batch. Other threads keep reading the previous snapshot and their writes wait for the batch to end.
+     * Nested batches are part of the outer one.
+     *
+     * @param writes the task writing to the map
+     * @param <T>    the type of the task result
+     * @return the result of the task
+     */
+    <T> T batch(Supplier<T> writes) {
+        writeLock.lock();
+        try {
+            if (batchWriter == Thread.currentThread()) {
+                return writes.get();
+            }
+            draft = new HashMap<>(snapshot);
+            batchWriter = Thread.currentThread();
+            try {
+                return writes.get();
+            } finally {
+                snapshot = Collections.unmodifiableMap(draft);
+                batchWriter = null;
+                draft = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Map<K, V> current() {
+        return batchWriter == Thread.currentThread() ? draft : snapshot;
+    }
+
+    @Override
+    public V get(Object key) {
+        return this.current().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.current().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.current().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.current().isEmpty();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return batchWriter == Thread.currentThread() ? Collections.unmodifiableMap(draft).entrySet() : snapshot.entrySet();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return this.batch(() -> draft.put(key, value));
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Map<K, V> current = this.current();
+        V existing = current.get(key);
+        if (existing != null || (value == null && current.containsKey(key))) {
+            return existing;
+        }
+        return this.batch(() -> {
+            V latest = draft.get(key);
+            if (latest != null || (value == null && draft.containsKey(key))) {
+                return latest;
+            }
+            return draft.put(key, value);
+        });
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        this.batch(() -> {
+            draft.putAll(entries);
+            return null;
+        });
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!this.current().containsKey(key)) {
+            return null;
+        }
+        return this.batch(() -> draft.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        this.batch(() -> {
+            draft.clear();
+            return null;
+        });
+    }
+}
@@ -17,8 +17,9 @@ import java.util.regex.Pattern;
 public class CatsDSLParser {
     private static final Parser DEFAULT_PARSER = new NoOpParser();
     private static final Parser SPRING_EL_PARSER = new MiniDslParser();
+    private static final String ENV_VARIABLE_PREFIX = "$$";
     private static final Map<String, Parser> PARSERS = Map.of(
-            "$$", new EnvVariableParser(),
+            ENV_VARIABLE_PREFIX, new EnvVariableParser(),
             "$request", SPRING_EL_PARSER,
             "$path", SPRING_EL_PARSER,
             "T(", SPRING_EL_PARSER,
@@ -52,6 +53,20 @@ public class CatsDSLParser {
                 .parse(sanitize(valueFromFile), context);
     }
 
+    /**
+     * Checks if evaluating the given value might give different results between calls. Plain values and environment
+     * variables always give the same result, while scripts, expressions and functions might not.
+     *
+     * @param valueFromFile the expression retrieved from the CATS files
+     * @return true if the value must be evaluated each time it's used, false otherwise
+     */
+    public static boolean isDynamic(String valueFromFile) {
+        if (valueFromFile == null || valueFromFile.startsWith(ENV_VARIABLE_PREFIX)) {
+            return false;
+        }
+        return PARSERS.keySet().stream().anyMatch(valueFromFile::startsWith);
+    }
+
     /**
      * Transforms various ways of describing the expressions like: ${request.value} which is equivalent to 'request.value'
      * or request#value which is equivalent to request.value.
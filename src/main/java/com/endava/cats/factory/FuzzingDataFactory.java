@@ -92,6 +92,10 @@ public class FuzzingDataFactory {
      * @return a list of FuzzingData items representing a template that will be used to apply the Fuzzers on
      */
     public List<FuzzingData> fromPathItem(String path, PathItem item, OpenAPI openAPI) {
+        return globalContext.batchSchemaWrites(() -> this.createFromPathItem(path, item, openAPI));
+    }
+
+    private List<FuzzingData> createFromPathItem(String path, PathItem item, OpenAPI openAPI) {
         if (item.get$ref() != null) {
             item = globalContext.getPathItemFromReference(item.get$ref());
         }
@@ -14,9 +14,11 @@ import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static com.endava.cats.io.ServiceCaller.CATS_REMOVE_FIELD;
 
@@ -88,16 +90,34 @@ public class FieldsIteratorExecutor {
 
         fieldsToBeRemoved.forEach(allFields::remove);
 
+        List<CompletableFuture<Void>> inFlightTests = new ArrayList<>();
         for (String fuzzedField : allFields) {
             Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
             if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
                 for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
-                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> executeTestCase(context, fuzzedField, currentValue), context.getFuzzingData());
+                    Runnable testCase = () -> testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> executeTestCase(context, fuzzedField, currentValue), context.getFuzzingData());
+                    this.runTestCase(testCase, inFlightTests);
                 }
             } else {
                 context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
             }
         }
+        CompletableFuture.allOf(inFlightTests.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Test cases are independent of each other, so when pipelining is enabled they are dispatched
+     * asynchronously in order to overlap network latency. Each test case still runs its steps in order.
+     */
+    private void runTestCase(Runnable testCase, List<CompletableFuture<Void>> inFlightTests) {
+        if (serviceCaller.isPipeliningEnabled()) {
+            inFlightTests.add(serviceCaller.dispatch(() -> {
+                testCase.run();
+                return null;
+            }));
+        } else {
+            testCase.run();
+        }
     }
 
     private void executeTestCase(FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue) {
@@ -10,6 +10,7 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.endava.cats.util.RepeatedString;
 import jakarta.inject.Singleton;
 
 import java.util.Collections;
@@ -46,7 +47,7 @@ public class VeryLargeStringsInFieldsFuzzer extends ExpectOnly4XXBaseFieldsFuzze
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
         return Collections.singletonList(
                 FuzzingStrategy.replace().withData(
-                        StringGenerator.generateLargeString(processingArguments.getLargeStringsSize() / 4)));
+                        RepeatedString.of(StringGenerator.FUZZ, processingArguments.getLargeStringsSize() / 4)));
     }
 
     @Override
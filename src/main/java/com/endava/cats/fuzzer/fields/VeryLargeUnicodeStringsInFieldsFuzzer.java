@@ -43,7 +43,7 @@ public class VeryLargeUnicodeStringsInFieldsFuzzer extends ExpectOnly4XXBaseFiel
 
     @Override
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
-        return FuzzingStrategy.getLargeValuesStrategy(processingArguments.getLargeStringsSize());
+        return FuzzingStrategy.getRepeatedLargeValuesStrategy(processingArguments.getLargeStringsSize());
     }
 
     @Override
@@ -12,9 +12,10 @@ import com.endava.cats.util.JsonUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is a base class for Fuzzers that want to send invalid payloads for HTTP methods accepting bodies.
@@ -23,7 +24,7 @@ import java.util.List;
 public abstract class BaseHttpWithPayloadSimpleFuzzer implements Fuzzer {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(getClass());
     private final SimpleExecutor simpleExecutor;
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = ConcurrentHashMap.newKeySet();
 
     BaseHttpWithPayloadSimpleFuzzer(SimpleExecutor ce) {
         this.simpleExecutor = ce;
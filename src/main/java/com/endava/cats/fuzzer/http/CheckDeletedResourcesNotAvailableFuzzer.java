@@ -2,6 +2,7 @@ package com.endava.cats.fuzzer.http;
 
 import com.endava.cats.annotations.HttpFuzzer;
 import com.endava.cats.annotations.SecondPhaseFuzzer;
+import com.endava.cats.annotations.StatefulFuzzer;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
@@ -24,6 +25,7 @@ import java.util.List;
  */
 @HttpFuzzer
 @SecondPhaseFuzzer
+@StatefulFuzzer
 @Singleton
 public class CheckDeletedResourcesNotAvailableFuzzer implements Fuzzer {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(CheckDeletedResourcesNotAvailableFuzzer.class);
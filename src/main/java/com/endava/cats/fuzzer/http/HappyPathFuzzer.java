@@ -1,6 +1,7 @@
 package com.endava.cats.fuzzer.http;
 
 import com.endava.cats.annotations.HttpFuzzer;
+import com.endava.cats.annotations.StatefulFuzzer;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
 import com.endava.cats.fuzzer.executor.SimpleExecutorContext;
@@ -17,6 +18,7 @@ import jakarta.inject.Singleton;
  */
 @Singleton
 @HttpFuzzer
+@StatefulFuzzer
 public class HappyPathFuzzer implements Fuzzer {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(HappyPathFuzzer.class);
     private final SimpleExecutor simpleExecutor;
@@ -12,8 +12,8 @@ import io.swagger.v3.oas.models.PathItem;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -23,7 +23,7 @@ import java.util.function.Function;
 @HttpFuzzer
 public class HttpMethodsFuzzer implements Fuzzer {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(HttpMethodsFuzzer.class);
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = ConcurrentHashMap.newKeySet();
     private final HttpMethodFuzzerUtil httpMethodFuzzerUtil;
 
     /**
@@ -7,8 +7,8 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.ConsoleUtils;
 import jakarta.inject.Singleton;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Fuzzer that sends non rest HTTP methods, typically specific to WebDAV.
@@ -16,7 +16,7 @@ import java.util.List;
 @Singleton
 @HttpFuzzer
 public class NonRestHttpMethodsFuzzer implements Fuzzer {
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = ConcurrentHashMap.newKeySet();
     private final HttpMethodFuzzerUtil httpMethodFuzzerUtil;
 
     /**
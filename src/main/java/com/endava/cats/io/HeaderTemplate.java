@@ -0,0 +1,80 @@
+package com.endava.cats.io;
+
+import com.endava.cats.dsl.CatsDSLParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Headers supplied through {@code --headers} or {@code -H} for a contract path, with their values evaluated once.
+ * <p>
+ * Values which can change between requests, like {@code auth_script} or {@code T(...)} expressions, are evaluated again
+ * for each request, while plain values and environment variables are only evaluated when the template is created.
+ * The {@code auth_script} value is still refreshed according to {@code --authRefreshInterval}.
+ * </p>
+ */
+final class HeaderTemplate {
+    private final List<SuppliedHeader> headers;
+
+    private HeaderTemplate(List<SuppliedHeader> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * A supplied header.
+     *
+     * @param name           the header name
+     * @param expression     the value as supplied by the user
+     * @param value          the evaluated value or {@code null} if the value must be evaluated for each request
+     * @param authentication true if this is an authentication header
+     */
+    record SuppliedHeader(String name, String expression, String value, boolean authentication) {
+
+        boolean isDynamic() {
+            return value == null;
+        }
+    }
+
+    /**
+     * Creates a template for the given headers, evaluating the values which don't change between requests.
+     *
+     * @param suppliedHeaders        the headers supplied for a contract path
+     * @param isAuthenticationHeader checks if a header name is an authentication header
+     * @return a header template
+     */
+    static HeaderTemplate of(Map<String, Object> suppliedHeaders, Predicate<String> isAuthenticationHeader) {
+        List<SuppliedHeader> headers = new ArrayList<>(suppliedHeaders.size());
+
+        suppliedHeaders.forEach((name, rawValue) -> {
+            String expression = String.valueOf(rawValue);
+            String value = CatsDSLParser.isDynamic(expression) ? null : CatsDSLParser.parseAndGetResult(expression, Map.of());
+            headers.add(new SuppliedHeader(name, expression, value, isAuthenticationHeader.test(name)));
+        });
+
+        return new HeaderTemplate(Collections.unmodifiableList(headers));
+    }
+
+    /**
+     * Gets the supplied headers.
+     *
+     * @return the supplied headers
+     */
+    List<SuppliedHeader> headers() {
+        return headers;
+    }
+
+    /**
+     * Gets the value of the given header, evaluating it if dynamic.
+     *
+     * @param header  a header from this template
+     * @param context the context used to evaluate dynamic values, only built for dynamic values
+     * @return the header value for the current request
+     */
+    String valueOf(SuppliedHeader header, Supplier<Map<String, String>> context) {
+        return header.isDynamic() ? CatsDSLParser.parseAndGetResult(header.expression(), context.get()) : header.value();
+    }
+}
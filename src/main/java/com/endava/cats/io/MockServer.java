@@ -0,0 +1,249 @@
+package com.endava.cats.io;
+
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.CatsRandom;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP server answering the operations of an OpenAPI contract with pre-generated responses.
+ * <p>
+ * It uses the JDK HTTP server, which accepts connections on a NIO selector, and handles each request on a virtual thread.
+ * Responses are generated once at start-up, so the server is only limited by the latency and error rate it was configured with.
+ * Literal paths take precedence over paths with variables, so {@code /pets/mine} is matched before {@code /pets/{id}}.
+ * Paths are served under the base path of the contract server, like {@code /v3} for {@code http://localhost:8080/v3}.
+ * Latencies and errors of each request are drawn from its own random stream, derived from the seed and the position of the request
+ * in the order of arrival, so the same sequence of requests gets the same latencies and errors regardless of the handling threads.
+ * </p>
+ */
+public final class MockServer implements AutoCloseable {
+    private static final String NOT_FOUND_BODY = "{\"error\":\"path not found in contract\"}";
+    private static final String NOT_ALLOWED_BODY = "{\"error\":\"http method not found in contract\"}";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MockServer.class);
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Route> routes;
+    private final Latency latency;
+    private final long latencyInMs;
+    private final double errorRate;
+    private final long seed;
+    private final AtomicLong servedRequests = new AtomicLong();
+
+    private MockServer(HttpServer server, List<Route> routes, Latency latency, long latencyInMs, double errorRate, long seed) {
+        this.server = server;
+        this.routes = routes;
+        this.latency = latency;
+        this.latencyInMs = latencyInMs;
+        this.errorRate = errorRate;
+        this.seed = seed;
+    }
+
+    /**
+     * How the latency added to each response is distributed.
+     */
+    public enum Latency {
+        /**
+         * Responses are sent as soon as possible.
+         */
+        NONE,
+        /**
+         * Each response is delayed with exactly the configured latency.
+         */
+        FIXED,
+        /**
+         * Each response is delayed with a value between 0 and twice the configured latency.
+         */
+        UNIFORM,
+        /**
+         * Each response is delayed with a value having the configured latency as mean, with occasional long delays.
+         */
+        EXPONENTIAL;
+
+        /**
+         * Gets the delay of the next response.
+         *
+         * @param latencyInMs the configured latency
+         * @param random      the random generator
+         * @return the delay in milliseconds
+         */
+        public long nextDelayInMs(long latencyInMs, Random random) {
+            return switch (this) {
+                case NONE -> 0;
+                case FIXED -> latencyInMs;
+                case UNIFORM -> random.nextLong(0, 2 * latencyInMs + 1);
+                case EXPONENTIAL -> (long) (-latencyInMs * Math.log(1 - random.nextDouble()));
+            };
+        }
+    }
+
+    /**
+     * The responses of a contract operation.
+     *
+     * @param path         the contract path
+     * @param method       the http method
+     * @param responseCode the response code of successful responses
+     * @param body         the body of successful responses
+     * @param contentType  the content type of successful responses
+     * @param errorCode    the response code of error responses
+     * @param errorBody    the body of error responses
+     */
+    public record Operation(String path, HttpMethod method, int responseCode, String body, String contentType, int errorCode, String errorBody) {
+    }
+
+    private record Route(Pattern pattern, int variables, Map<HttpMethod, Operation> operations) {
+    }
+
+    /**
+     * Starts a server answering the given operations.
+     *
+     * @param port        the port to listen on, 0 for any free port
+     * @param basePath    the path under which operations are served, empty to serve them from the root
+     * @param operations  the contract operations
+     * @param latency     how the latency is distributed
+     * @param latencyInMs the configured latency
+     * @param errorRate   the fraction of requests answered with the error response, between 0 and 1
+     * @param seed        the seed from which the random stream of each request is derived
+     * @return a started server
+     * @throws IOException if the server cannot listen on the given port
+     */
+    public static MockServer start(int port, String basePath, List<Operation> operations, Latency latency, long latencyInMs, double errorRate,
+                                   long seed) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        MockServer mockServer = new MockServer(httpServer, toRoutes(basePath, operations), latency, latencyInMs, errorRate, seed);
+
+        httpServer.setExecutor(mockServer.executor);
+        httpServer.createContext("/", mockServer::handle);
+        httpServer.start();
+
+        return mockServer;
+    }
+
+    private static List<Route> toRoutes(String basePath, List<Operation> operations) {
+        Map<String, Map<HttpMethod, Operation>> operationsByPath = new LinkedHashMap<>();
+        operations.forEach(operation -> operationsByPath.computeIfAbsent(operation.path(), _ -> new EnumMap<>(HttpMethod.class))
+                .putIfAbsent(operation.method(), operation));
+
+        List<Route> routes = new ArrayList<>(operationsByPath.size());
+        operationsByPath.forEach((path, pathOperations) -> routes.add(toRoute(basePath + path, pathOperations)));
+        routes.sort(Comparator.comparingInt(Route::variables));
+
+        return List.copyOf(routes);
+    }
+
+    private static Route toRoute(String path, Map<HttpMethod, Operation> operations) {
+        StringBuilder regex = new StringBuilder();
+        int variables = 0;
+        int literalStart = 0;
+        int variableStart = path.indexOf('{');
+
+        while (variableStart >= 0 && path.indexOf('}', variableStart) > 0) {
+            regex.append(Pattern.quote(path.substring(literalStart, variableStart))).append("[^/]+");
+            literalStart = path.indexOf('}', variableStart) + 1;
+            variableStart = path.indexOf('{', literalStart);
+            variables++;
+        }
+        regex.append(Pattern.quote(path.substring(literalStart))).append("/?");
+
+        return new Route(Pattern.compile(regex.toString()), variables, operations);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            Random random = Random.from(new SplittableRandom(CatsRandom.testCaseSeed(seed, (int) servedRequests.getAndIncrement())));
+
+            String path = exchange.getRequestURI().getRawPath();
+            Route route = routes.stream().filter(candidate -> candidate.pattern().matcher(path).matches()).findFirst().orElse(null);
+            if (route == null) {
+                this.send(exchange, 404, NOT_FOUND_BODY, JSON_CONTENT_TYPE);
+                return;
+            }
+            Operation operation = HttpMethod.fromString(exchange.getRequestMethod())
+                    .map(route.operations()::get)
+                    .orElse(null);
+            if (operation == null) {
+                this.send(exchange, 405, NOT_ALLOWED_BODY, JSON_CONTENT_TYPE);
+                return;
+            }
+
+            this.delay(random);
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                this.send(exchange, operation.errorCode(), operation.errorBody(), JSON_CONTENT_TYPE);
+            } else {
+                this.send(exchange, operation.responseCode(), operation.body(), operation.contentType());
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void delay(Random random) {
+        long delayInMs = latency.nextDelayInMs(latencyInMs, random);
+        if (delayInMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayInMs);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(HttpExchange exchange, int responseCode, String body, String contentType) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        boolean noBody = bytes.length == 0 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod()) || responseCode == 204 || responseCode == 304;
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(responseCode, noBody ? -1 : bytes.length);
+
+        if (!noBody) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        }
+        logger.debug("{} {} answered with {}", exchange.getRequestMethod(), exchange.getRequestURI(), responseCode);
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of requests received so far.
+     *
+     * @return the number of requests
+     */
+    public long servedRequests() {
+        return servedRequests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
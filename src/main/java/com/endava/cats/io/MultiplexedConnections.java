@@ -0,0 +1,78 @@
+package com.endava.cats.io;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Spreads concurrent requests over a fixed number of HTTP/2 connections, each carrying at most {@code maxConcurrentStreams} streams.
+ * <p>
+ * OkHttp multiplexes all concurrent calls to the same host on a single HTTP/2 connection. Each lane has its own connection pool,
+ * so requests are spread over the configured number of connections, and its own permits, so a connection never carries more streams
+ * than configured. Requests take a free stream on the lane with the most free streams and, when all streams are busy,
+ * wait on the lanes in turn.
+ * </p>
+ */
+final class MultiplexedConnections {
+    private final List<Lane> lanes;
+    private final AtomicInteger nextWaitingLane = new AtomicInteger();
+
+    MultiplexedConnections(OkHttpClient client, int connections, int maxConcurrentStreams, long keepAliveInSec) {
+        this.lanes = IntStream.range(0, Math.max(1, connections))
+                .mapToObj(_ -> new Lane(client.newBuilder().connectionPool(new ConnectionPool(1, keepAliveInSec, TimeUnit.SECONDS)).build(),
+                        new Semaphore(Math.max(1, maxConcurrentStreams), true)))
+                .toList();
+    }
+
+    /**
+     * A client bound to its own connection and the streams still free on it.
+     *
+     * @param client  the client using the lane connection
+     * @param streams the free streams
+     */
+    record Lane(OkHttpClient client, Semaphore streams) {
+
+        /**
+         * Frees the stream once the response was consumed.
+         */
+        void release() {
+            streams.release();
+        }
+    }
+
+    /**
+     * Takes a free stream, trying the lanes with the most free streams first. Free streams are taken atomically, so concurrent
+     * requests never pick a lane which was filled in the meantime. When no stream is free, waits on the lanes in turn.
+     *
+     * @return the lane to send the request on
+     * @throws InterruptedException if interrupted while waiting for a free stream
+     */
+    Lane acquire() throws InterruptedException {
+        List<Lane> byFreeStreams = lanes.stream()
+                .sorted(Comparator.comparingInt((Lane candidate) -> candidate.streams().availablePermits()).reversed())
+                .toList();
+        for (Lane lane : byFreeStreams) {
+            if (lane.streams().tryAcquire()) {
+                return lane;
+            }
+        }
+        Lane lane = lanes.get(Math.floorMod(nextWaitingLane.getAndIncrement(), lanes.size()));
+        lane.streams().acquire();
+        return lane;
+    }
+
+    /**
+     * Gets the clients of all lanes.
+     *
+     * @return the lane clients
+     */
+    List<OkHttpClient> clients() {
+        return lanes.stream().map(Lane::client).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.util.ThrottleHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Responses keyed by the content of the request which produced them, so identical requests sent by different fuzzers are only sent once.
+ * <p>
+ * Keys are built from the HTTP method, the final url, the headers sorted by name and the SHA-256 hash of the body. Throttled responses
+ * are not stored. Responses are stored with their unparsed body, so each reuse parses it again only if needed. The cache stops growing
+ * after {@value #MAX_ENTRIES} responses or {@value #MAX_BODY_BYTES} bytes of response bodies, as it is mostly useful for the small
+ * set of values sent by many fuzzers, like nulls, empty strings or boundaries.
+ * </p>
+ */
+final class RequestCache {
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long MAX_BODY_BYTES = 64L * 1024 * 1024;
+    private final Map<String, CatsResponse> responses = new ConcurrentHashMap<>();
+    private final AtomicLong savedRequests = new AtomicLong();
+    private final AtomicLong bodyBytes = new AtomicLong();
+
+    /**
+     * Builds the key of the given request.
+     *
+     * @param catsRequest   the request sent to the service
+     * @param ignoredHeader checks if a header changes with each test case and must not be part of the key
+     * @return a key which is the same for byte identical requests
+     */
+    static String keyOf(CatsRequest catsRequest, Predicate<String> ignoredHeader) {
+        StringBuilder key = new StringBuilder(catsRequest.getHttpMethod()).append(' ').append(catsRequest.getUrl()).append('\n');
+        List<KeyValuePair<String, Object>> headers = Optional.ofNullable(catsRequest.getHeaders()).orElse(List.of());
+
+        headers.stream()
+                .filter(header -> !ignoredHeader.test(header.getKey()))
+                .map(header -> header.getKey().toLowerCase(Locale.ROOT) + ":" + header.getValue())
+                .sorted(Comparator.naturalOrder())
+                .forEach(header -> key.append(header).append('\n'));
+
+        return key.append(sha256(Objects.requireNonNullElse(catsRequest.getPayload(), ""))).toString();
+    }
+
+    private static String sha256(String payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Gets the response of an identical request sent before.
+     *
+     * @param key the request key
+     * @return the stored response or empty if the request was not sent before
+     */
+    Optional<CatsResponse> get(String key) {
+        Optional<CatsResponse> response = Optional.ofNullable(responses.get(key));
+        response.ifPresent(_ -> savedRequests.incrementAndGet());
+        return response;
+    }
+
+    /**
+     * Stores the response of a request, unless throttled or the cache is full.
+     * A copy is stored, so that the body parsed by the test case which received the response is not retained.
+     *
+     * @param key      the request key
+     * @param response the response received from the service
+     */
+    void put(String key, CatsResponse response) {
+        if (responses.size() >= MAX_ENTRIES || ThrottleHeaders.isThrottled(response.getResponseCode())) {
+            return;
+        }
+        long size = sizeOf(response);
+        if (bodyBytes.addAndGet(size) > MAX_BODY_BYTES || responses.putIfAbsent(key, response.reusedFor(response.getFuzzedField())) != null) {
+            bodyBytes.addAndGet(-size);
+        }
+    }
+
+    private static long sizeOf(CatsResponse response) {
+        return Objects.requireNonNullElse(response.getBody(), "").getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Gets the total size of the stored response bodies.
+     *
+     * @return the size in bytes
+     */
+    long bodyBytes() {
+        return bodyBytes.get();
+    }
+
+    /**
+     * Gets the number of requests which were not sent as an identical request was sent before.
+     *
+     * @return the number of requests saved
+     */
+    long savedRequests() {
+        return savedRequests.get();
+    }
+}
@@ -11,17 +11,26 @@ import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.dsl.api.Parser;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.io.util.FormEncoder;
+import com.endava.cats.io.util.ResponseBodyReader;
+import com.endava.cats.io.util.StreamingRequestBody;
+import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.endava.cats.util.AdaptiveConcurrencyLimiter;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.ConnectionWarmup;
+import com.endava.cats.util.RateLimitQuotas;
 import com.endava.cats.util.RateLimiter;
+import com.endava.cats.util.RepeatedString;
+import com.endava.cats.util.StreamStatistics;
+import com.endava.cats.util.ThrottleHeaders;
 import com.endava.cats.util.HttpHeaders;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.KeyValuePair;
-import com.endava.cats.util.OpenApiUtils;
 import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,11 +41,11 @@ import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import okhttp3.ConnectionPool;
 import okhttp3.Headers;
-import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -53,12 +62,13 @@ import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
-import java.util.ArrayDeque;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,12 +79,17 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 
 import static com.endava.cats.util.CatsDSLWords.ADDITIONAL_PROPERTIES;
 import static com.endava.cats.util.JsonUtils.NOT_SET;
@@ -90,6 +105,8 @@ public class ServiceCaller {
     public static final String CATS_REMOVE_FIELD = "cats_remove_field";
     private static final Object SUBSTITUTE_FOR_NULL = "SET_TO_NULL";
     private static final String CATS_HEADER_UUID = "X-Cats-Trace-Id";
+    private static final int INITIAL_CONCURRENCY_LIMIT = 4;
+    private static final Set<HttpMethod> DEDUPLICATED_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("cookie", "authorization", "authorisation", "token", "jwt", "apikey",
             "secret", "secretkey", "apisecret", "apitoken", "appkey", "appid");
@@ -100,9 +117,21 @@ public class ServiceCaller {
     private final ProcessingArguments processingArguments;
     private final CatsGlobalContext catsGlobalContext;
     private final WfcAuthProvider wfcAuthProvider;
+    private final ExecutionStatisticsListener executionStatisticsListener;
     OkHttpClient okHttpClient;
 
     private RateLimiter rateLimiter;
+    private RateLimitQuotas rateLimitQuotas;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private Semaphore inFlightWindow;
+    private Semaphore dispatchedTasks;
+    private final ExecutorService asyncDispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final StreamStatistics streamStatistics = new StreamStatistics();
+    private final Map<String, HeaderTemplate> headerTemplates = new ConcurrentHashMap<>();
+    private final Map<String, UrlTemplate> urlTemplates = new ConcurrentHashMap<>();
+    private final RequestCache requestCache = new RequestCache();
+    private MultiplexedConnections multiplexedConnections;
 
     /**
      * Constructs a new {@code ServiceCaller} with the specified parameters.
@@ -113,10 +142,12 @@ public class ServiceCaller {
      * @param authArguments       The authentication arguments.
      * @param apiArguments        The API arguments.
      * @param processingArguments The processing arguments.
+     * @param wfcAuthProvider     The provider for WFC authentication.
+     * @param executionStatisticsListener The listener recording execution statistics.
      */
     @Inject
     public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments,
-                         WfcAuthProvider wfcAuthProvider) {
+                         WfcAuthProvider wfcAuthProvider, ExecutionStatisticsListener executionStatisticsListener) {
         this.testCaseListener = lr;
         this.filesArguments = filesArguments;
         this.authArguments = authArguments;
@@ -124,14 +155,77 @@ public class ServiceCaller {
         this.processingArguments = processingArguments;
         this.catsGlobalContext = context;
         this.wfcAuthProvider = wfcAuthProvider;
+        this.executionStatisticsListener = executionStatisticsListener;
     }
 
     /**
-     * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument.
+     * Inits the rate limiter with the values received in the {@code --maxRequestsPerMinute} and {@code --maxRequestsBurst} arguments,
+     * as well as the per-path quotas from the {@code --rateLimits} file. When {@code --adaptiveConcurrency} is enabled it also inits the adaptive concurrency limiter
+     * bounded by {@code --maxConcurrentRequests}.
      */
     @PostConstruct
     public void initRateLimiter() {
-        rateLimiter = new RateLimiter(apiArguments.getMaxRequestsPerMinute());
+        rateLimiter = new RateLimiter(apiArguments.getMaxRequestsPerMinute(), apiArguments.getMaxRequestsBurst());
+        rateLimitQuotas = new RateLimitQuotas(filesArguments.getRateLimits(), apiArguments.getMaxRequestsBurst());
+        if (apiArguments.isAdaptiveConcurrency()) {
+            int maxConcurrentRequests = Math.max(1, apiArguments.getMaxConcurrentRequests());
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(Math.min(INITIAL_CONCURRENCY_LIMIT, maxConcurrentRequests), maxConcurrentRequests);
+        }
+    }
+
+    /**
+     * Inits the window of in-flight requests with the value received in the {@code --maxInFlightRequests} argument,
+     * or with the number of HTTP/2 streams available when {@code --http2MaxConcurrentStreams} is supplied.
+     * Twice as many tasks can be dispatched, so that the window is kept full while tasks build requests or check responses.
+     */
+    @PostConstruct
+    public void initInFlightWindow() {
+        int window = Math.max(1, apiArguments.getInFlightWindow());
+        inFlightWindow = new Semaphore(window);
+        dispatchedTasks = new Semaphore(2 * window);
+    }
+
+    /**
+     * Stops the threads running dispatched tasks. Tasks still running are interrupted.
+     */
+    @PreDestroy
+    public void close() {
+        asyncDispatcher.shutdownNow();
+    }
+
+    /**
+     * Checks if more than one request can be in flight at the same time.
+     *
+     * @return true if the in-flight window is greater than 1, false otherwise
+     */
+    public boolean isPipeliningEnabled() {
+        return apiArguments.getInFlightWindow() > 1;
+    }
+
+    /**
+     * Runs the given task on a virtual thread with the test case context of the calling thread. Steps chained on the returned
+     * future run in order, so callbacks belonging to the same test case keep their ordering. Callers are blocked when twice
+     * the in-flight window of tasks are already dispatched, while the requests sent by the tasks are bounded by the in-flight window.
+     * Dispatched tasks must not dispatch other tasks as they already hold a dispatch slot.
+     *
+     * @param task the task to run
+     * @param <T>  the type of the task result
+     * @return a future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> dispatch(Supplier<T> task) {
+        try {
+            dispatchedTasks.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            return CompletableFuture.supplyAsync(testCaseListener.propagateContext(task), asyncDispatcher)
+                    .whenComplete((_, _) -> dispatchedTasks.release());
+        } catch (RejectedExecutionException e) {
+            dispatchedTasks.release();
+            throw e;
+        }
     }
 
     /**
@@ -148,12 +242,18 @@ public class ServiceCaller {
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(Math.max(apiArguments.getMaxIdleConnections(), apiArguments.getWarmupConnections()),
+                            apiArguments.getKeepAliveInSec(), TimeUnit.SECONDS))
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .protocols(processingArguments.isHttp2PriorKnowledge() ? List.of(Protocol.H2_PRIOR_KNOWLEDGE) : List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
                     .hostnameVerifier((_, _) -> true).build();
 
+            if (apiArguments.isHttp2Multiplexing()) {
+                okHttpClient = okHttpClient.newBuilder().eventListener(streamStatistics).build();
+                multiplexedConnections = new MultiplexedConnections(okHttpClient, apiArguments.getHttp2Connections(),
+                        apiArguments.getHttp2MaxConcurrentStreams(), apiArguments.getKeepAliveInSec());
+            }
             logger.debug("Proxy configuration to be used: {}", authArguments.getProxy());
         } catch (GeneralSecurityException | IOException e) {
             logger.warning("Failed to configure HTTP CLIENT: {}", e.getMessage());
@@ -161,6 +261,54 @@ public class ServiceCaller {
         }
     }
 
+    /**
+     * Gets the protocols negotiated and the stream level timings of the requests multiplexed over HTTP/2.
+     * Statistics are only recorded when {@code --http2MaxConcurrentStreams} is supplied.
+     *
+     * @return the stream statistics
+     */
+    public StreamStatistics.Result getStreamStatistics() {
+        return streamStatistics.result();
+    }
+
+    /**
+     * Opens {@code --warmupConnections} connections to the service by sending concurrent {@code --warmupMethod} requests to the
+     * {@code --server} url. Connections stay in the pool, so the first tests don't pay the TCP and TLS handshakes in their response time.
+     * HTTP/2 multiplexes concurrent requests on the same connection, so fewer connections might be opened.
+     * When multiplexing over HTTP/2, requests are spread over the connections used for multiplexing.
+     *
+     * @return the connections opened and the time spent in handshakes
+     */
+    public ConnectionWarmup.Result warmUpConnections() {
+        int requests = Math.max(0, apiArguments.getWarmupConnections());
+        ConnectionWarmup connectionWarmup = new ConnectionWarmup();
+        List<OkHttpClient> warmupClients = (multiplexedConnections != null ? multiplexedConnections.clients() : List.of(okHttpClient)).stream()
+                .map(client -> client.newBuilder().eventListener(connectionWarmup).build())
+                .toList();
+        Request warmupRequest = new Request.Builder()
+                .url(apiArguments.getServer())
+                .method(apiArguments.getWarmupMethod().name(), null)
+                .header("User-Agent", apiArguments.getUserAgent(0, "warmup"))
+                .build();
+
+        try (ExecutorService warmupExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                OkHttpClient warmupClient = warmupClients.get(i % warmupClients.size());
+                warmupExecutor.submit(() -> this.sendWarmupRequest(warmupClient, warmupRequest));
+            }
+        }
+        return connectionWarmup.result(requests);
+    }
+
+    private void sendWarmupRequest(OkHttpClient warmupClient, Request warmupRequest) {
+        rateLimiter.acquire();
+        try (Response response = warmupClient.newCall(warmupRequest).execute()) {
+            logger.debug("Warm-up request completed with protocol {} and response code {}", response.protocol(), response.code());
+        } catch (IOException e) {
+            logger.debug("Warm-up request failed: {}", e.getMessage());
+        }
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -210,7 +358,7 @@ public class ServiceCaller {
     public CatsResponse call(ServiceData data) {
         this.recordServiceData(data);
 
-        String processedPayload = this.replacePayloadWithRefData(data);
+        String processedPayload = this.expandRepeatedStringsIfNotStreamed(this.replacePayloadWithRefData(data), data);
         processedPayload = this.convertPayloadInSpecificContentType(processedPayload, data);
         logger.debug("Payload replaced with ref data: {}", processedPayload);
 
@@ -231,8 +379,14 @@ public class ServiceCaller {
             logger.note("Final payload: {}", processedPayload);
             logger.note("Final url: {}", url);
 
-            startTime = System.currentTimeMillis();
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
+            String requestKey = this.getRequestKey(catsRequest, data);
+            CatsResponse response = this.getResponseOfIdenticalRequest(requestKey, data);
+            if (response == null) {
+                startTime = System.currentTimeMillis();
+                response = this.callService(catsRequest, data.getFuzzedFields(),
+                        () -> rateLimitQuotas.acquire(data.getContractPath(), catsRequest.getHttpMethod()));
+                this.storeResponse(requestKey, response);
+            }
 
             this.recordResponse(response);
             return response;
@@ -258,6 +412,51 @@ public class ServiceCaller {
         }
     }
 
+    /**
+     * Only requests without side effects are deduplicated: GET and HEAD requests of fuzzers which don't depend on the state
+     * of the service. A GET after a DELETE, like the ones sent by {@link com.endava.cats.annotations.StatefulFuzzer} fuzzers,
+     * is identical to the one sent before the DELETE, but expects a different response.
+     * Headers changing with each test case are not part of the key: the trace id and the User-Agent, unless fuzzed.
+     */
+    private String getRequestKey(CatsRequest catsRequest, ServiceData data) {
+        if (!apiArguments.isDeduplicateRequests() || !DEDUPLICATED_METHODS.contains(data.getHttpMethod())
+                || testCaseListener.isCurrentFuzzerStateful()) {
+            return null;
+        }
+        boolean userAgentInFuzzData = data.getHeaders().stream().anyMatch(header -> HttpHeaders.USER_AGENT.equalsIgnoreCase(header.getName()));
+
+        return RequestCache.keyOf(catsRequest, header -> CATS_HEADER_UUID.equalsIgnoreCase(header)
+                || (!userAgentInFuzzData && HttpHeaders.USER_AGENT.equalsIgnoreCase(header)));
+    }
+
+    private CatsResponse getResponseOfIdenticalRequest(String requestKey, ServiceData data) {
+        if (requestKey == null) {
+            return null;
+        }
+        return requestCache.get(requestKey)
+                .map(response -> {
+                    logger.debug("Identical request already sent. Reusing response {}", response.getResponseCode());
+                    return response.reusedFor(data.getFuzzedFields().stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null));
+                })
+                .orElse(null);
+    }
+
+    private void storeResponse(String requestKey, CatsResponse response) {
+        if (requestKey != null) {
+            requestCache.put(requestKey, response);
+        }
+    }
+
+    /**
+     * Gets the number of requests not sent to the service as an identical request was already sent.
+     * Requests are only deduplicated when {@code --deduplicateRequests} is supplied.
+     *
+     * @return the number of requests saved
+     */
+    public long getDeduplicatedRequests() {
+        return requestCache.savedRequests();
+    }
+
     /**
      * Final url is being constructed by replacing path variables with the supplied urlParams or refData.
      * It also adds supplied query params if any.
@@ -267,70 +466,73 @@ public class ServiceCaller {
      * @return a url with path params replaced by urlParams or refData + additional query params
      */
     String constructUrl(ServiceData data, String processedPayload) {
-        String decodedUrl = CatsUtil.unescapeCurlyBrackets(apiArguments.getServer() + data.getRelativePath());
-        logger.debug("Decoded URL: {}", decodedUrl);
+        String url = apiArguments.getServer() + data.getRelativePath();
         if (!data.isReplaceUrlParams()) {
-            String actualUrl = this.replacePathParams(decodedUrl, processedPayload, data);
-            return this.addWfcAuthQueryParams(this.replaceRemovedParams(actualUrl));
+            String decodedUrl = CatsUtil.unescapeCurlyBrackets(url);
+            logger.debug("Decoded URL: {}", decodedUrl);
+            UrlTemplate.Values pathValues = this.getUrlTemplate(decodedUrl, data).newValues(false);
+            this.replacePathParams(pathValues, processedPayload, data);
+            return this.addWfcAuthQueryParams(pathValues.path());
         }
 
-        String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-
+        UrlTemplate.Values pathValues = this.getUrlTemplate(url, data).newValues(true);
+        List<KeyValuePair<String, String>> queryParams;
         if (!HttpMethod.requiresBody(data.getHttpMethod())) {
-            url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-            url = this.addUriParams(processedPayload, data, url);
+            this.replacePathForNonHttpEntityRequests(data, pathValues);
+            queryParams = this.getUriParams(processedPayload, data);
         } else {
-            url = this.addQueryParamsFromPathParamsPayload(url, data);
+            this.replacePathWithRefData(data, pathValues);
+            queryParams = this.getQueryParamsFromPathParamsPayload(data);
         }
-        url = this.addPathParamsIfNotReplaced(url, data.getPathParamsPayload());
-        url = this.addAdditionalQueryParams(url, data.getRelativePath());
-        url = this.addWfcAuthQueryParams(url);
+        this.addPathParamsIfNotReplaced(pathValues, data.getPathParamsPayload());
+        url = this.addWfcAuthQueryParams(pathValues.url(queryParams));
         logger.debug("Replaced URL: {}", url);
         return url;
     }
 
-    String addPathParamsIfNotReplaced(String url, String pathParamsPayload) {
-        logger.debug("Using the following path params payload {} for path {}", pathParamsPayload, url);
+    /**
+     * Path variables and additional query params only depend on the contract path, so each URL of a contract path is compiled once.
+     * Fuzzers which change the path itself, like random resources or invalid references, produce a new URL with each test case
+     * and are compiled each time, so that the cache does not grow with the number of test cases.
+     */
+    private UrlTemplate getUrlTemplate(String url, ServiceData data) {
+        if (!Objects.equals(data.getRelativePath(), data.getContractPath())) {
+            return this.newUrlTemplate(url, data.getRelativePath());
+        }
+        return urlTemplates.computeIfAbsent(url, _ -> this.newUrlTemplate(url, data.getRelativePath()));
+    }
 
-        Set<String> pathVariables = OpenApiUtils.getPathVariables(url);
-        logger.debug("Path variables found in the URL: {}", pathVariables);
+    private UrlTemplate newUrlTemplate(String url, String relativePath) {
+        return UrlTemplate.of(url, filesArguments.getUrlParamsList(), filesArguments.getAdditionalQueryParamsForPath(relativePath));
+    }
 
-        for (String pathVariable : pathVariables) {
-            String pathValue = String.valueOf(JsonUtils.getVariableFromJson(pathParamsPayload, pathVariable));
-            url = url.replace("{" + pathVariable + "}", CatsUtil.urlEncodePathSegment(pathValue));
+    private void addPathParamsIfNotReplaced(UrlTemplate.Values pathValues, String pathParamsPayload) {
+        if (pathValues.hasMissing()) {
+            logger.debug("Using the following path params payload {} for path {}", pathParamsPayload, pathValues.path());
+            pathValues.setMissing(JsonUtils.variablesFromJson(pathParamsPayload));
         }
-        return url;
     }
 
-    String addQueryParamsFromPathParamsPayload(String url, ServiceData data) {
+    private List<KeyValuePair<String, String>> getQueryParamsFromPathParamsPayload(ServiceData data) {
         String pathParamsPayload = data.getPathParamsPayload();
         Set<String> queryParams = data.getQueryParams();
 
         if (StringUtils.isEmpty(pathParamsPayload) || queryParams.isEmpty()) {
-            return url;
+            return List.of();
         }
 
         logger.debug("Adding query params {} from pathParamsPayload {} for body method", queryParams, pathParamsPayload);
-        HttpUrl.Builder httpUrl = HttpUrl.get(url).newBuilder();
+        Function<String, Object> pathParamsVariables = JsonUtils.variablesFromJson(pathParamsPayload);
+        List<KeyValuePair<String, String>> params = new ArrayList<>(queryParams.size());
 
         for (String queryParam : queryParams) {
-            Object paramValue = JsonUtils.getVariableFromJson(pathParamsPayload, queryParam);
+            Object paramValue = pathParamsVariables.apply(queryParam);
             if (paramValue != null && !JsonUtils.NOT_SET.equals(String.valueOf(paramValue))) {
-                httpUrl.addQueryParameter(queryParam, String.valueOf(paramValue));
+                params.add(new KeyValuePair<>(queryParam, String.valueOf(paramValue)));
             }
         }
 
-        return httpUrl.build().toString();
-    }
-
-    String addAdditionalQueryParams(String startingUrl, String currentPath) {
-        HttpUrl.Builder httpUrl = HttpUrl.get(startingUrl).newBuilder();
-
-        for (Map.Entry<String, Object> queryParamEntry : filesArguments.getAdditionalQueryParamsForPath(currentPath).entrySet()) {
-            httpUrl.addQueryParameter(queryParamEntry.getKey(), String.valueOf(queryParamEntry.getValue()));
-        }
-
-        return httpUrl.build().toString();
+        return params;
     }
 
     String convertPayloadInSpecificContentType(String payload, ServiceData data) {
@@ -352,7 +554,7 @@ public class ServiceCaller {
         if (data.getHttpMethod() == HttpMethod.DELETE) {
             String postPath = data.getRelativePath().substring(0, data.getRelativePath().lastIndexOf("/"));
             logger.note("Executing DELETE for path {}. Searching stored POST requests for corresponding POST path {}", data.getRelativePath(), postPath);
-            String postPayload = catsGlobalContext.getPostSuccessfulResponses().getOrDefault(postPath, new ArrayDeque<>()).peek();
+            String postPayload = catsGlobalContext.leasePostResponse(postPath, testCaseListener.getTestIdentifier()).orElse(null);
             if (postPayload != null) {
                 String deleteParam = data.getRelativePath().substring(data.getRelativePath().lastIndexOf("/") + 1).replace("{", "").replace("}", "");
                 logger.note("Found corresponding POST payload. Matching DELETE path parameter {} with POST body...", deleteParam);
@@ -396,10 +598,14 @@ public class ServiceCaller {
 
 
     List<KeyValuePair<String, Object>> buildHeaders(ServiceData data) {
-        List<KeyValuePair<String, Object>> headers = new ArrayList<>();
-
-        this.addMandatoryHeaders(data, headers);
-        this.addSuppliedHeaders(data, headers);
+        HeaderTemplate headerTemplate = this.getHeaderTemplate(data.getContractPath());
+        Set<String> fuzzDataHeaders = data.getHeaders().stream()
+                .map(CatsHeader::getName)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
+        List<KeyValuePair<String, Object>> headers = new ArrayList<>(data.getHeaders().size() + headerTemplate.headers().size() + 5);
+
+        this.addMandatoryHeaders(data, fuzzDataHeaders, headers);
+        this.addSuppliedHeaders(data, headerTemplate, fuzzDataHeaders, headers);
         this.addWfcAuthHeaders(headers);
         this.removeSkippedHeaders(data, headers);
         this.addBasicAuth(headers);
@@ -407,52 +613,33 @@ public class ServiceCaller {
         return Collections.unmodifiableList(headers);
     }
 
-    private String addUriParams(String processedPayload, ServiceData data, String currentUrl) {
+    private List<KeyValuePair<String, String>> getUriParams(String processedPayload, ServiceData data) {
         if (StringUtils.isNotEmpty(processedPayload) && !"null".equalsIgnoreCase(processedPayload)) {
-            HttpUrl.Builder httpUrl = HttpUrl.get(currentUrl).newBuilder();
-            List<KeyValuePair<String, String>> queryParams = this.buildQueryParameters(processedPayload, data);
-            for (KeyValuePair<String, String> param : queryParams) {
-                httpUrl.addQueryParameter(param.getKey(), param.getValue());
-            }
-            return httpUrl.build().toString();
+            return this.buildQueryParameters(processedPayload, data);
         }
 
-        return currentUrl;
+        return List.of();
     }
 
     /**
      * Parameters in the URL will be replaced with actual values supplied in the {@code --urlParams} and {@code filesArguments.getRefData()} file.
+     * When the request has a payload, the remaining path variables are taken from the payload.
      *
-     * @param data        the service data
-     * @param startingUrl initial url constructed from contract
-     * @return the URL with variables replaced based on the supplied values
+     * @param data       the service data
+     * @param pathValues the path variable values for the current request
      */
-    private String getPathWithRefDataReplacedForNonHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
-
+    private void replacePathForNonHttpEntityRequests(ServiceData data, UrlTemplate.Values pathValues) {
         if (StringUtils.isNotEmpty(data.getPayload())) {
-            String processedPayload = this.replacePayloadWithRefData(data);
-
-            actualUrl = this.replacePathParams(actualUrl, processedPayload, data);
-            actualUrl = this.replaceRemovedParams(actualUrl);
+            this.replacePathParams(pathValues, this.replacePayloadWithRefData(data), data);
         } else {
-            actualUrl = this.replacePathWithRefData(data, actualUrl);
+            this.replacePathWithRefData(data, pathValues);
         }
-
-        return actualUrl;
-    }
-
-    private String getPathWithRefDataReplacedForHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
-        return this.replacePathWithRefData(data, actualUrl);
-    }
-
-    private String replaceRemovedParams(String path) {
-        return path.replaceAll("\\{(.*?)}", "");
     }
 
     /**
      * Calls the service with the provided {@code catsRequest} and set of fuzzed fields.
+     * When the service responds with {@code 429} or {@code 503} and advertises a {@code Retry-After} or {@code X-RateLimit-Reset}
+     * window, the rate limiter is paused for that window and the request is re-issued up to {@code --maxThrottleRetries} times.
      *
      * @param catsRequest  The CATS request to be sent to the service.
      * @param fuzzedFields The set of fuzzed fields for the request.
@@ -460,23 +647,101 @@ public class ServiceCaller {
      * @throws IOException If an I/O error occurs during the service call.
      */
     public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
+        return this.callService(catsRequest, fuzzedFields, () -> {
+        });
+    }
+
+    /**
+     * Each attempt, including the retries of throttled requests, first takes a permit from the quota of the request.
+     */
+    private CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields, Runnable acquireQuota) throws IOException {
+        CatsResponse catsResponse = this.callServiceOnce(catsRequest, fuzzedFields, acquireQuota);
+
+        for (int retry = 1; retry <= apiArguments.getMaxThrottleRetries(); retry++) {
+            Optional<Duration> backoff = ThrottleHeaders.backoffFrom(catsResponse)
+                    .filter(duration -> duration.getSeconds() <= apiArguments.getMaxThrottleWaitInSec());
+            if (backoff.isEmpty()) {
+                break;
+            }
+            logger.debug("Service throttled request with {}, waiting {} before retry {}", catsResponse.getResponseCode(), backoff.get(), retry);
+            rateLimiter.pause(backoff.get().toNanos());
+            long pauseStart = System.currentTimeMillis();
+            catsResponse = this.callServiceOnce(catsRequest, fuzzedFields, acquireQuota);
+            executionStatisticsListener.recordThrottleBackoff(System.currentTimeMillis() - pauseStart - catsResponse.getResponseTimeInMs());
+        }
+        return catsResponse;
+    }
+
+    private CatsResponse callServiceOnce(CatsRequest catsRequest, Set<String> fuzzedFields, Runnable acquireQuota) throws IOException {
+        acquireQuota.run();
         rateLimiter.acquire();
+        if (!this.isPipeliningEnabled()) {
+            return this.callServiceWithinConcurrencyLimit(catsRequest, fuzzedFields);
+        }
+        this.acquireInFlightSlot();
+        try {
+            return this.callServiceWithinConcurrencyLimit(catsRequest, fuzzedFields);
+        } finally {
+            inFlightWindow.release();
+        }
+    }
+
+    /**
+     * When pipelining, each request sent to the service holds a slot of the in-flight window until its response is read,
+     * whichever thread sends it.
+     */
+    private void acquireInFlightSlot() throws InterruptedIOException {
+        try {
+            inFlightWindow.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free slot in the in-flight window");
+        }
+    }
+
+    private CatsResponse callServiceWithinConcurrencyLimit(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
+        if (concurrencyLimiter == null) {
+            return this.executeCall(catsRequest, fuzzedFields);
+        }
+
+        concurrencyLimiter.acquire();
+        long startTime = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            CatsResponse catsResponse = this.executeCall(catsRequest, fuzzedFields);
+            overloaded = ThrottleHeaders.isThrottled(catsResponse.getResponseCode());
+            return catsResponse;
+        } finally {
+            if (overloaded) {
+                concurrencyLimiter.onOverload();
+                logger.debug("Service signaled overload, concurrency limit decreased to {}", concurrencyLimiter.getLimit());
+            } else {
+                concurrencyLimiter.onSuccess(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    private CatsResponse executeCall(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
         long startTime = System.currentTimeMillis();
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
 
         if (HttpMethod.requiresBody(catsRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            requestBody = this.createRequestBody(catsRequest.getPayload());
         } else {
             //for GET and HEAD, we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        Request request = new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
+                .build();
+        MultiplexedConnections.Lane lane = this.acquireLane();
+        OkHttpClient client = lane != null ? lane.client() : okHttpClient;
+
+        try (Response response = client.newCall(request).execute()) {
             long endTime = System.currentTimeMillis();
 
             CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
@@ -491,34 +756,77 @@ public class ServiceCaller {
                     catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
 
             return catsResponse;
+        } finally {
+            if (lane != null) {
+                lane.release();
+            }
         }
     }
 
-    private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
-        List<KeyValuePair<String, String>> responseHeaders = response.headers()
-                .toMultimap()
-                .entrySet().stream()
-                .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().getFirst())).toList();
+    /**
+     * Waits for a free HTTP/2 stream when multiplexing, otherwise requests go through the shared connection pool.
+     */
+    private MultiplexedConnections.Lane acquireLane() throws InterruptedIOException {
+        if (multiplexedConnections == null) {
+            return null;
+        }
+        try {
+            return multiplexedConnections.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free HTTP/2 stream");
+        }
+    }
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = JsonUtils.getAsJsonString(rawResponse);
-        String responseContentType = this.getResponseContentType(response);
+    private RequestBody createRequestBody(String payload) {
+        if (RepeatedString.isPresent(payload)) {
+            return StreamingRequestBody.of(payload);
+        }
+        return RequestBody.create(payload.getBytes(StandardCharsets.UTF_8));
+    }
 
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
+    /**
+     * Only json bodies are streamed. Large values sent in query params or in other content types must be fully built.
+     */
+    private String expandRepeatedStringsIfNotStreamed(String payload, ServiceData data) {
+        if (data.isJsonContentType() && HttpMethod.requiresBody(data.getHttpMethod())) {
+            return payload;
+        }
+        return RepeatedString.expand(payload);
+    }
+
+    /**
+     * Json body and headers are only parsed when first accessed, as many test cases only check the response code.
+     */
+    private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
+        Headers responseHeaders = response.headers();
+        ResponseBodyReader.ResponseBodyContent bodyContent = this.readBody(response);
+        String rawResponse = bodyContent.body();
+        String responseContentType = this.getResponseContentType(response);
 
+        if (bodyContent.truncated()) {
+            logger.debug("Response body is bigger than --maxResponseBodySize. Only the first {} bytes were read", apiArguments.getMaxResponseBodySize());
+        }
         logger.debug("Raw response body: {}", rawResponse);
         logger.debug("Raw response headers: {}", response.headers());
 
         return CatsResponse.builder()
                 .responseCode(response.code())
-                .headers(responseHeaders)
+                .headersSupplier(() -> toKeyValuePairs(responseHeaders))
                 .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
+                .jsonBodySupplier(() -> JsonParser.parseString(JsonUtils.getAsJsonString(rawResponse)))
+                .numberOfLinesInResponse(bodyContent.numberOfLines())
+                .contentLengthInBytes(bodyContent.contentLengthInBytes())
+                .bodySha256(bodyContent.sha256())
+                .bodyTruncated(bodyContent.truncated())
                 .responseContentType(responseContentType)
-                .numberOfWordsInResponse(numberOfWords);
+                .numberOfWordsInResponse(bodyContent.numberOfWords());
+    }
+
+    private static List<KeyValuePair<String, String>> toKeyValuePairs(Headers headers) {
+        return headers.toMultimap()
+                .entrySet().stream()
+                .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().getFirst())).toList();
     }
 
     private String getResponseContentType(Response response) {
@@ -533,42 +841,37 @@ public class ServiceCaller {
     }
 
     private void removeSkippedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        for (String skippedHeader : data.getSkippedHeaders()) {
-            headers.removeIf(header -> header.getKey().equalsIgnoreCase(skippedHeader));
+        if (data.getSkippedHeaders().isEmpty()) {
+            return;
         }
+        Set<String> skippedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        skippedHeaders.addAll(data.getSkippedHeaders());
+        headers.removeIf(header -> skippedHeaders.contains(header.getKey()));
     }
 
 
-    private String replacePathParams(String path, String processedPayload, ServiceData data) {
-        String payloadAsJson = JsonUtils.parseOrConvertToJsonElement(processedPayload).toString();
-
-        return Arrays.stream(OpenApiUtils.getPathElements(path))
-                .filter(pathElement -> pathElement.contains("{"))
-                .reduce(path,
-                        (currentPath, pathElement) -> {
-                            String pathElementWithoutBrackets = pathElement.replace("{", "").replace("}", "");
-                            Object pathElementValue = JsonUtils.getVariableFromJson(payloadAsJson, pathElementWithoutBrackets);
-                            data.getPathParams().add(pathElementWithoutBrackets);
-                            return currentPath.replace(pathElement, CatsUtil.urlEncodePathSegment(String.valueOf(pathElementValue)));
-                        });
+    private void replacePathParams(UrlTemplate.Values pathValues, String processedPayload, ServiceData data) {
+        if (pathValues.hasMissing()) {
+            String payloadAsJson = JsonUtils.parseOrConvertToJsonElement(processedPayload).toString();
+            data.getPathParams().addAll(pathValues.setMissing(JsonUtils.variablesFromJson(payloadAsJson)));
+        }
     }
 
-    private void addMandatoryHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
+    private void addMandatoryHeaders(ServiceData data, Set<String> fuzzDataHeaders, List<KeyValuePair<String, Object>> headers) {
         data.getHeaders().forEach(header -> headers.add(new KeyValuePair<>(header.getName(), header.getValue())));
-        addIfNotPresent(HttpHeaders.ACCEPT, processingArguments.getDefaultContentType(), data, headers);
-        addIfNotPresent(HttpHeaders.CONTENT_TYPE, this.getContentType(data.getHttpMethod(), data.getContentType()), data, headers);
-        addIfNotPresent(HttpHeaders.USER_AGENT, apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentFuzzer()), data, headers);
-        addIfNotPresent(CATS_HEADER_UUID, testCaseListener.getTestIdentifier(), data, headers);
+        addIfNotPresent(HttpHeaders.ACCEPT, () -> processingArguments.getDefaultContentType(), fuzzDataHeaders, headers);
+        addIfNotPresent(HttpHeaders.CONTENT_TYPE, () -> this.getContentType(data.getHttpMethod(), data.getContentType()), fuzzDataHeaders, headers);
+        addIfNotPresent(HttpHeaders.USER_AGENT, () -> apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentFuzzer()), fuzzDataHeaders, headers);
+        addIfNotPresent(CATS_HEADER_UUID, testCaseListener::getTestIdentifier, fuzzDataHeaders, headers);
     }
 
     private String getContentType(HttpMethod method, String defaultContentType) {
         return method == HttpMethod.PATCH && processingArguments.isRfc7396() ? JsonUtils.JSON_PATCH : defaultContentType;
     }
 
-    private void addIfNotPresent(String headerName, String headerValue, ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        boolean notExists = data.getHeaders().stream().noneMatch(catsHeader -> catsHeader.getName().equalsIgnoreCase(headerName));
-        if (notExists) {
-            headers.add(new KeyValuePair<>(headerName, headerValue));
+    private static void addIfNotPresent(String headerName, Supplier<String> headerValue, Set<String> fuzzDataHeaders, List<KeyValuePair<String, Object>> headers) {
+        if (!fuzzDataHeaders.contains(headerName)) {
+            headers.add(new KeyValuePair<>(headerName, headerValue.get()));
         }
     }
 
@@ -594,15 +897,14 @@ public class ServiceCaller {
     }
 
     /**
-     * Retrieves the raw response body as a string from the provided HTTP response.
-     * If the response body is null, an empty string is returned.
+     * Reads the response body in a single pass, up to {@code --maxResponseBodySize} bytes.
      *
-     * @param response The HTTP response containing the body to be extracted.
-     * @return The raw response body as a string, or an empty string if the body is null.
-     * @throws IOException If an I/O error occurs while reading the response body.
+     * @param response the http response
+     * @return the body and its metrics
+     * @throws IOException if reading the body fails
      */
-    public String getAsRawString(Response response) throws IOException {
-        return response.body().string();
+    public ResponseBodyReader.ResponseBodyContent readBody(Response response) throws IOException {
+        return ResponseBodyReader.read(response.body(), apiArguments.getMaxResponseBodySize());
     }
 
     private void recordServiceData(ServiceData serviceData) {
@@ -627,35 +929,40 @@ public class ServiceCaller {
         this.recordResponse(catsResponse);
     }
 
-    private void addSuppliedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(data.getContractPath());
-        logger.debug("Path {} (including ALL headers) has the following headers: {}", data.getContractPath(), userSuppliedHeaders);
+    /**
+     * Supplied headers only change when their values are dynamic, so they are parsed once per contract path.
+     */
+    private HeaderTemplate getHeaderTemplate(String contractPath) {
+        return headerTemplates.computeIfAbsent(String.valueOf(contractPath), _ -> {
+            Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(contractPath);
+            logger.debug("Path {} (including ALL headers) has the following headers: {}", contractPath, userSuppliedHeaders);
 
-        Map<String, String> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> CatsDSLParser.parseAndGetResult(String.valueOf(entry.getValue()), authArguments.getAuthScriptAsMap())));
+            return HeaderTemplate.of(userSuppliedHeaders, this::isAuthenticationHeader);
+        });
+    }
 
-        for (Map.Entry<String, String> suppliedHeader : suppliedHeaders.entrySet()) {
+    private void addSuppliedHeaders(ServiceData data, HeaderTemplate headerTemplate, Set<String> fuzzDataHeaders, List<KeyValuePair<String, Object>> headers) {
+        for (HeaderTemplate.SuppliedHeader suppliedHeader : headerTemplate.headers()) {
             if (data.isAddUserHeaders()) {
-                this.replaceHeaderIfNotFuzzed(headers, data, suppliedHeader);
-            } else if (this.isSuppliedHeaderInFuzzData(data, suppliedHeader) || this.isAuthenticationHeader(suppliedHeader.getKey())) {
-                replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
+                this.replaceHeaderIfNotFuzzed(headers, data, suppliedHeader.name(), headerTemplate.valueOf(suppliedHeader, authArguments::getAuthScriptAsMap));
+            } else if (fuzzDataHeaders.contains(suppliedHeader.name()) || suppliedHeader.authentication()) {
+                replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.name(), headerTemplate.valueOf(suppliedHeader, authArguments::getAuthScriptAsMap));
             }
         }
     }
 
     private static void replaceHeaderWithUserSuppliedHeader(List<KeyValuePair<String, Object>> headers, String headerName, Object headerValue) {
         /* We need to make sure we add the same number of headers back as this is important for some Fuzzers*/
-        Predicate<KeyValuePair<String, Object>> headersToFilter = header -> header.getKey().equalsIgnoreCase(headerName);
-        long howManyHeadersToRemove = Math.max(headers.stream().filter(headersToFilter).count(), 1);
-        headers.removeIf(headersToFilter);
-
-        LongStream.range(0, howManyHeadersToRemove)
-                .forEach(_ -> headers.add(new KeyValuePair<>(headerName, headerValue)));
-    }
-
-    private boolean isSuppliedHeaderInFuzzData(ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        return data.getHeaders().stream().anyMatch(catsHeader -> catsHeader.getName().equalsIgnoreCase(suppliedHeader.getKey()));
+        int[] removedHeaders = {0};
+        headers.removeIf(header -> {
+            boolean sameName = header.getKey().equalsIgnoreCase(headerName);
+            removedHeaders[0] += sameName ? 1 : 0;
+            return sameName;
+        });
+
+        for (int i = 0; i < Math.max(removedHeaders[0], 1); i++) {
+            headers.add(new KeyValuePair<>(headerName, headerValue));
+        }
     }
 
     /**
@@ -687,33 +994,30 @@ public class ServiceCaller {
         return wfcAuthProvider.applyQueryParams(url, okHttpClient);
     }
 
-    private void replaceHeaderIfNotFuzzed(List<KeyValuePair<String, Object>> headers, ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        if (!data.getFuzzedHeaders().contains(suppliedHeader.getKey())) {
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
+    private void replaceHeaderIfNotFuzzed(List<KeyValuePair<String, Object>> headers, ServiceData data, String headerName, String headerValue) {
+        if (!data.getFuzzedHeaders().contains(headerName)) {
+            replaceHeaderWithUserSuppliedHeader(headers, headerName, headerValue);
         } else {
             /* There are 2 cases when we want to mix the supplied header with the fuzzed one: if the fuzzing is TRAIL or PREFIX we want to try this behavior on a valid header value */
             KeyValuePair<String, Object> existingHeader = headers.stream()
-                    .filter(header -> header.getKey().equalsIgnoreCase(suppliedHeader.getKey()))
+                    .filter(header -> header.getKey().equalsIgnoreCase(headerName))
                     .findFirst()
                     .orElse(new KeyValuePair<>("", ""));
 
-            Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), suppliedHeader.getValue());
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), finalHeaderValue);
-            logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", suppliedHeader.getKey(), finalHeaderValue);
+            Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), headerValue);
+            replaceHeaderWithUserSuppliedHeader(headers, headerName, finalHeaderValue);
+            logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", headerName, finalHeaderValue);
         }
     }
 
-    private String replacePathWithRefData(ServiceData data, String currentUrl) {
+    private void replacePathWithRefData(ServiceData data, UrlTemplate.Values pathValues) {
         Map<String, Object> currentPathRefData = filesArguments.getRefData(data.getRelativePath());
         logger.debug("Path reference data replacement: path {} has the following reference data: {}", data.getRelativePath(), currentPathRefData);
 
         for (Map.Entry<String, Object> entry : currentPathRefData.entrySet()) {
-            String valueToReplace = CatsDSLParser.parseAndGetResult(String.valueOf(entry.getValue()), Map.of());
-            currentUrl = currentUrl.replace("{" + entry.getKey() + "}", CatsUtil.urlEncodePathSegment(valueToReplace));
+            pathValues.set(entry.getKey(), CatsDSLParser.parseAndGetResult(String.valueOf(entry.getValue()), Map.of()));
             data.getPathParams().add(entry.getKey());
         }
-
-        return currentUrl;
     }
 
     /**
@@ -0,0 +1,175 @@
+package com.endava.cats.io;
+
+import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.KeyValuePair;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A URL compiled once into literal parts and path variable slots.
+ * <p>
+ * The {@code --urlParams} values and the additional query params supplied through {@code --queryParams} are resolved when
+ * the template is created. Filling the template for a request only sets the remaining slots and builds the final URL once.
+ * </p>
+ */
+final class UrlTemplate {
+    private final String[] literals;
+    private final String[] variables;
+    private final String[] urlParamValues;
+    private final List<KeyValuePair<String, String>> queryParams;
+
+    private UrlTemplate(String[] literals, String[] variables, String[] urlParamValues, List<KeyValuePair<String, String>> queryParams) {
+        this.literals = literals;
+        this.variables = variables;
+        this.urlParamValues = urlParamValues;
+        this.queryParams = queryParams;
+    }
+
+    /**
+     * Compiles the given URL. Path variables are enclosed in curly brackets, same as in the contract paths.
+     *
+     * @param url         the URL including path variables
+     * @param urlParams   the url params supplied as {@code name:value}
+     * @param queryParams the additional query params to add to every request
+     * @return a compiled URL template
+     */
+    static UrlTemplate of(String url, List<String> urlParams, Map<String, Object> queryParams) {
+        List<String> literalParts = new ArrayList<>();
+        List<String> variableParts = new ArrayList<>();
+        int literalStart = 0;
+        int variableStart = url.indexOf('{');
+
+        while (variableStart >= 0) {
+            int variableEnd = url.indexOf('}', variableStart + 1);
+            if (variableEnd < 0) {
+                break;
+            }
+            literalParts.add(url.substring(literalStart, variableStart));
+            variableParts.add(url.substring(variableStart + 1, variableEnd));
+            literalStart = variableEnd + 1;
+            variableStart = url.indexOf('{', literalStart);
+        }
+        literalParts.add(url.substring(literalStart));
+
+        String[] variables = variableParts.toArray(String[]::new);
+        String[] urlParamValues = new String[variables.length];
+        for (String nameValueParam : urlParams) {
+            String[] urlParam = nameValueParam.split(":", -1);
+            setValue(variables, urlParamValues, urlParam[0], urlParam[1]);
+        }
+
+        List<KeyValuePair<String, String>> staticQueryParams = queryParams.entrySet().stream()
+                .map(entry -> new KeyValuePair<>(entry.getKey(), String.valueOf(entry.getValue())))
+                .toList();
+
+        return new UrlTemplate(literalParts.toArray(String[]::new), variables, urlParamValues, staticQueryParams);
+    }
+
+    private static void setValue(String[] variables, String[] values, String variable, String value) {
+        for (int i = 0; i < variables.length; i++) {
+            if (values[i] == null && variables[i].equals(variable)) {
+                values[i] = CatsUtil.urlEncodePathSegment(value);
+            }
+        }
+    }
+
+    /**
+     * Starts filling the template for a new request.
+     *
+     * @param withUrlParams whether the {@code --urlParams} values must be used
+     * @return the values of the path variables for the request
+     */
+    Values newValues(boolean withUrlParams) {
+        return new Values(withUrlParams ? urlParamValues.clone() : new String[variables.length]);
+    }
+
+    /**
+     * The path variable values for a single request. Once set, a path variable keeps its value.
+     */
+    final class Values {
+        private final String[] values;
+
+        private Values(String[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Sets the value of a path variable, if not already set.
+         *
+         * @param variable the path variable name
+         * @param value    the value, which will be url encoded
+         */
+        void set(String variable, String value) {
+            setValue(variables, values, variable, value);
+        }
+
+        /**
+         * Sets the values of the path variables which are still missing.
+         *
+         * @param valueOf gets the value of a path variable
+         * @return the names of the path variables which were set
+         */
+        Collection<String> setMissing(Function<String, Object> valueOf) {
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < variables.length; i++) {
+                if (values[i] == null) {
+                    missing.add(variables[i]);
+                    values[i] = CatsUtil.urlEncodePathSegment(String.valueOf(valueOf.apply(variables[i])));
+                }
+            }
+            return Collections.unmodifiableList(missing);
+        }
+
+        /**
+         * Checks if any path variable is still missing a value.
+         *
+         * @return true if there are path variables without value, false otherwise
+         */
+        boolean hasMissing() {
+            for (String value : values) {
+                if (value == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Builds the URL with the path variables replaced. Path variables without a value are kept as they are.
+         *
+         * @return the URL without query params
+         */
+        String path() {
+            StringBuilder path = new StringBuilder(literals[0]);
+            for (int i = 0; i < variables.length; i++) {
+                if (values[i] == null) {
+                    path.append('{').append(variables[i]).append('}');
+                } else {
+                    path.append(values[i]);
+                }
+                path.append(literals[i + 1]);
+            }
+            return path.toString();
+        }
+
+        /**
+         * Builds the URL with the path variables replaced, the given query params and the additional query params.
+         *
+         * @param requestQueryParams the query params specific to the request
+         * @return the final URL
+         */
+        String url(List<KeyValuePair<String, String>> requestQueryParams) {
+            HttpUrl.Builder httpUrl = HttpUrl.get(this.path()).newBuilder();
+            requestQueryParams.forEach(param -> httpUrl.addQueryParameter(param.getKey(), param.getValue()));
+            queryParams.forEach(param -> httpUrl.addQueryParameter(param.getKey(), param.getValue()));
+
+            return httpUrl.build().toString();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.endava.cats.io.util;
+
+import okhttp3.ResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Reads response bodies in a single pass, without holding more than {@code maxBodySize} bytes in memory.
+ * <p>
+ * Length, words, lines and the SHA-256 hash are computed while streaming. Reading stops once {@code maxBodySize} bytes were read,
+ * so large or endless bodies don't exhaust the memory or stall the run. Words are separated by whitespaces, the same as
+ * {@link java.util.StringTokenizer}, and lines by {@code \r} or {@code \n}, ignoring trailing line separators.
+ * Whitespaces and line separators are single bytes in UTF-8 and never part of multibyte characters, so bytes are inspected directly.
+ * </p>
+ */
+public final class ResponseBodyReader {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final long maxBodySize;
+
+    private long length;
+    private long words;
+    private long separatorsBeforeLastLine;
+    private long pendingSeparators;
+    private boolean insideWord;
+    private boolean anyLineContent;
+
+    private ResponseBodyReader(long maxBodySize) {
+        this.maxBodySize = Math.max(0, maxBodySize);
+    }
+
+    /**
+     * Details of a response body.
+     *
+     * @param body                 the body, decoded using the charset from the Content-Type, up to the max body size
+     * @param contentLengthInBytes the length of the body; when truncated, the declared Content-Length if any, otherwise the number of bytes read
+     * @param numberOfWords        the number of words in the bytes read
+     * @param numberOfLines        the number of lines in the bytes read
+     * @param sha256               the SHA-256 hash of the bytes read, hex encoded
+     * @param truncated            true if the body is bigger than the max body size and was not read entirely
+     */
+    public record ResponseBodyContent(String body, long contentLengthInBytes, long numberOfWords, long numberOfLines,
+                                      String sha256, boolean truncated) {
+    }
+
+    /**
+     * Reads the response body. The body is not closed.
+     *
+     * @param responseBody the response body
+     * @param maxBodySize  the maximum number of bytes to read
+     * @return the body and its metrics
+     * @throws IOException if reading the body fails
+     */
+    public static ResponseBodyContent read(ResponseBody responseBody, long maxBodySize) throws IOException {
+        Charset charset = Optional.ofNullable(responseBody.contentType())
+                .map(mediaType -> mediaType.charset(StandardCharsets.UTF_8))
+                .orElse(StandardCharsets.UTF_8);
+
+        return new ResponseBodyReader(maxBodySize).read(responseBody.byteStream(), charset, responseBody.contentLength());
+    }
+
+    /**
+     * Reads the given stream as a response body. The stream is not closed.
+     *
+     * @param inputStream    the body stream
+     * @param charset        the charset used to decode the body
+     * @param declaredLength the declared Content-Length or -1 if unknown
+     * @param maxBodySize    the maximum number of bytes to read
+     * @return the body and its metrics
+     * @throws IOException if reading the body fails
+     */
+    public static ResponseBodyContent read(InputStream inputStream, Charset charset, long declaredLength, long maxBodySize) throws IOException {
+        return new ResponseBodyReader(maxBodySize).read(inputStream, charset, declaredLength);
+    }
+
+    private ResponseBodyContent read(InputStream inputStream, Charset charset, long declaredLength) throws IOException {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream((int) Math.min(CHUNK_SIZE, maxBodySize));
+        byte[] chunk = new byte[CHUNK_SIZE];
+
+        int read;
+        while (length < maxBodySize && (read = inputStream.read(chunk, 0, (int) Math.min(chunk.length, maxBodySize - length))) != -1) {
+            this.consume(chunk, read);
+            digest.update(chunk, 0, read);
+            prefix.write(chunk, 0, read);
+        }
+        boolean truncated = length >= maxBodySize && inputStream.read() != -1;
+        long contentLength = truncated && declaredLength > length ? declaredLength : length;
+
+        return new ResponseBodyContent(prefix.toString(charset), contentLength, words, this.lines(),
+                HexFormat.of().formatHex(digest.digest()), truncated);
+    }
+
+    private void consume(byte[] chunk, int read) {
+        for (int i = 0; i < read; i++) {
+            byte current = chunk[i];
+            boolean whitespace = current == ' ' || current == '\t' || current == '\n' || current == '\r' || current == '\f';
+            if (!whitespace && !insideWord) {
+                words++;
+            }
+            insideWord = !whitespace;
+
+            if (current == '\n' || current == '\r') {
+                pendingSeparators++;
+            } else {
+                separatorsBeforeLastLine += pendingSeparators;
+                pendingSeparators = 0;
+                anyLineContent = true;
+            }
+        }
+        length += read;
+    }
+
+    /**
+     * An empty body has one line, same as splitting an empty string.
+     */
+    private long lines() {
+        if (length == 0) {
+            return 1;
+        }
+        return anyLineContent ? separatorsBeforeLastLine + 1 : 0;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.endava.cats.io.util;
+
+import com.endava.cats.util.RepeatedString;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Request body which writes payloads containing {@link RepeatedString} markers directly to the socket.
+ * <p>
+ * Only the literal parts of the payload and one copy of each repeated chunk are kept in memory, so very large payloads
+ * use constant memory regardless of their size. The body can be written multiple times, so requests can be retried.
+ * </p>
+ */
+public final class StreamingRequestBody extends RequestBody {
+    private final List<EncodedSegment> segments;
+    private final long contentLength;
+
+    private StreamingRequestBody(List<EncodedSegment> segments) {
+        this.segments = segments;
+        this.contentLength = segments.stream().mapToLong(segment -> (long) segment.bytes().length * segment.times()).sum();
+    }
+
+    private record EncodedSegment(byte[] bytes, int times) {
+    }
+
+    /**
+     * Creates a request body from a payload containing repeated string markers.
+     *
+     * @param payload the payload
+     * @return a request body expanding the markers while being written
+     */
+    public static StreamingRequestBody of(String payload) {
+        return new StreamingRequestBody(RepeatedString.segments(payload).stream()
+                .map(segment -> new EncodedSegment(segment.value().getBytes(StandardCharsets.UTF_8), segment.times()))
+                .toList());
+    }
+
+    /**
+     * Same as {@code RequestBody.create(byte[])}, the Content-Type is supplied through the request headers.
+     */
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        for (EncodedSegment segment : segments) {
+            for (int i = 0; i < segment.times(); i++) {
+                sink.write(segment.bytes());
+            }
+        }
+    }
+}
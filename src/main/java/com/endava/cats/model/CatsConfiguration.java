@@ -6,8 +6,9 @@ import java.util.List;
 
 /**
  * This class is used to store the configuration context for the Cats application.
+ * The {@code shard} is the part of the work run by this execution, in the {@code index/total} format.
  */
 public record CatsConfiguration(String version, String contract, String basePath,
                                 List<HttpMethod> httpMethods, int fuzzers, long totalFuzzers, int pathsToRun,
-                                int totalPaths) {
+                                int totalPaths, String shard) {
 }
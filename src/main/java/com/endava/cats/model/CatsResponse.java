@@ -5,6 +5,7 @@ import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.util.WordUtils;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,9 +16,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Model class used to hold http response details.
+ * <p>
+ * The json body and the headers of responses received from the service are only parsed on first access, as many test cases
+ * only look at the response code. Parsed values are memoized.
+ * </p>
  */
 @Builder
 @Getter
@@ -31,9 +37,12 @@ public class CatsResponse {
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
-    private final List<KeyValuePair<String, String>> headers;
+    private volatile JsonElement jsonBody;
+    private volatile List<KeyValuePair<String, String>> headers;
     private final String responseContentType;
+    private final String bodySha256;
+    private final boolean bodyTruncated;
+    private final boolean reused;
 
     @Exclude
     private final String path;
@@ -42,6 +51,13 @@ public class CatsResponse {
     @Exclude
     private final String fuzzedField;
 
+    @Exclude
+    @Getter(AccessLevel.NONE)
+    private final transient Supplier<JsonElement> jsonBodySupplier;
+    @Exclude
+    @Getter(AccessLevel.NONE)
+    private final transient Supplier<List<KeyValuePair<String, String>>> headersSupplier;
+
     /**
      * Creates a CatsResponse instance with the specified parameters.
      *
@@ -66,6 +82,73 @@ public class CatsResponse {
         return CatsResponse.from(INVALID_ERROR_CODE, "{}", "", 0);
     }
 
+    /**
+     * Gets the response body as json. Bodies which are not json are wrapped in a {@code notAJson} element.
+     * The body is parsed on first access when the response was built with a {@code jsonBodySupplier}.
+     *
+     * @return the json body
+     */
+    public JsonElement getJsonBody() {
+        JsonElement current = jsonBody;
+        if (current == null && jsonBodySupplier != null) {
+            current = jsonBodySupplier.get();
+            jsonBody = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the response headers. Headers are converted on first access when the response was built with a {@code headersSupplier}.
+     *
+     * @return the response headers
+     */
+    public List<KeyValuePair<String, String>> getHeaders() {
+        List<KeyValuePair<String, String>> current = headers;
+        if (current == null && headersSupplier != null) {
+            current = headersSupplier.get();
+            headers = current;
+        }
+        return current;
+    }
+
+    /**
+     * Checks if the response has a json body, without parsing it.
+     *
+     * @return true if the response has a json body, parsed or not, false otherwise
+     */
+    public boolean hasJsonBody() {
+        return jsonBody != null || jsonBodySupplier != null;
+    }
+
+    /**
+     * Checks if the json body is already available, either because it was built with one or because it was accessed.
+     *
+     * @return true if getting the json body will not parse the response body, false otherwise
+     */
+    public boolean isJsonBodyParsed() {
+        return jsonBody != null || jsonBodySupplier == null;
+    }
+
+    /**
+     * Creates a copy of this response for another request which was identical to the one producing this response.
+     * The copy is marked as reused and has no response time, as the other request was never sent. When this response is parsed on
+     * first access, the copy keeps the unparsed body and parses it on its own first access, so that parsed bodies are not retained.
+     *
+     * @param otherFuzzedField the field fuzzed by the other request
+     * @return a reused copy of this response having the given fuzzed field
+     */
+    public CatsResponse reusedFor(String otherFuzzedField) {
+        return CatsResponse.builder()
+                .responseCode(responseCode).httpMethod(httpMethod).reused(true)
+                .numberOfWordsInResponse(numberOfWordsInResponse).numberOfLinesInResponse(numberOfLinesInResponse)
+                .contentLengthInBytes(contentLengthInBytes)
+                .jsonBody(jsonBodySupplier == null ? jsonBody : null).jsonBodySupplier(jsonBodySupplier)
+                .headers(headersSupplier == null ? headers : null).headersSupplier(headersSupplier)
+                .responseContentType(responseContentType).bodySha256(bodySha256).bodyTruncated(bodyTruncated)
+                .path(path).body(body).fuzzedField(otherFuzzedField)
+                .build();
+    }
+
     /**
      * Retrieves the HTTP response code as a string representation.
      *
@@ -92,7 +175,7 @@ public class CatsResponse {
      * @return {@code true} if the response contains a header with the specified name, {@code false} otherwise.
      */
     public boolean containsHeader(String name) {
-        return headers.stream().anyMatch(header -> WordUtils.matchesAsLowerCase(header.getKey(), name));
+        return this.getHeaders().stream().anyMatch(header -> WordUtils.matchesAsLowerCase(header.getKey(), name));
     }
 
     /**
@@ -102,7 +185,7 @@ public class CatsResponse {
      * @return A key-value pair representing the header, or {@code null} if no such header is found.
      */
     public KeyValuePair<String, String> getHeader(String name) {
-        return Optional.ofNullable(headers).orElse(List.of()).stream()
+        return Optional.ofNullable(this.getHeaders()).orElse(List.of()).stream()
                 .filter(header -> WordUtils.matchesAsLowerCase(header.getKey(), name))
                 .findFirst()
                 .orElse(null);
@@ -122,10 +205,10 @@ public class CatsResponse {
      *
      * @param maxResponseTime The maximum allowed response time in milliseconds.
      * @return {@code true} if the actual response time exceeds the specified maximum response time
-     * and the maximum response time is not set to zero; otherwise, {@code false}.
+     * and the maximum response time is not set to zero; otherwise, {@code false}. Reused responses never exceed it.
      */
     public boolean exceedsExpectedResponseTime(long maxResponseTime) {
-        return maxResponseTime != 0 && responseTimeInMs > maxResponseTime;
+        return !reused && maxResponseTime != 0 && responseTimeInMs > maxResponseTime;
     }
 
     /**
@@ -104,7 +104,7 @@ public class CatsTestCase {
      * @return true if the test case has a valid http code, false otherwise
      */
     public boolean notIgnoredForExecutionStatistics() {
-        return response.isValidErrorCode();
+        return response.isValidErrorCode() && !response.isReused();
     }
 
     /**
@@ -13,6 +13,11 @@ import java.util.Optional;
 @EqualsAndHashCode
 @Getter
 public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
+    /**
+     * Maximum number of characters kept from the response body.
+     */
+    public static final int MAX_RESPONSE_BODY_LENGTH = 1000;
+
     private String scenario;
     private String result;
     private String resultReason;
@@ -26,6 +31,7 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
     private String httpMethod;
     private boolean switchedResult;
     private int httpResponseCode;
+    private boolean reusedResponse;
 
     /**
      * Creates a CatsTestCaseSummary object from a CatsTestCase.
@@ -47,8 +53,9 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
         summary.httpMethod = testCase.getRequest().getHttpMethod().toLowerCase(Locale.ROOT);
         summary.switchedResult = testCase.getResultIgnoreDetails() != null;
         summary.httpResponseCode = testCase.getResponse().getResponseCode();
+        summary.reusedResponse = testCase.getResponse().isReused();
         String response = Optional.ofNullable(testCase.getResponse().getBody()).orElse("[Empty response body]");
-        summary.responseBody = response.substring(0, Math.min(response.length(), 1000));
+        summary.responseBody = response.substring(0, Math.min(response.length(), MAX_RESPONSE_BODY_LENGTH));
 
         return summary;
     }
@@ -25,6 +25,7 @@ public class CatsTestReport {
     private final long executionTime;
     private final String timestamp;
     private final String catsVersion;
+    private final String shard;
 
     public List<JunitTestSuite> getTestSuites() {
         DecimalFormat decimalFormat = new DecimalFormat("#.###");
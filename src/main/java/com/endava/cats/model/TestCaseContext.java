@@ -0,0 +1,34 @@
+package com.endava.cats.model;
+
+/**
+ * Immutable context of a test case in flight. It is created when a test case starts and carries everything
+ * needed to report it, so that multiple test cases can run at the same time without sharing state.
+ *
+ * @param testNumber   the sequential number of the test case
+ * @param fuzzer       the name of the fuzzer running the test case
+ * @param contractPath the contract path being fuzzed
+ * @param httpMethod   the http method being fuzzed
+ * @param testCase     the test case being recorded
+ * @param stateful     whether the fuzzer depends on state shared with other fuzzers, like stored POST responses
+ */
+public record TestCaseContext(int testNumber, String fuzzer, String contractPath, String httpMethod,
+                              CatsTestCase testCase, boolean stateful) {
+
+    /**
+     * Returns the test id as displayed in reports.
+     *
+     * @return the test id in the format {@code Test N}
+     */
+    public String testId() {
+        return "Test " + testNumber;
+    }
+
+    /**
+     * Returns the trace id of the test case which is sent to the service.
+     *
+     * @return the trace id of the test case
+     */
+    public String traceId() {
+        return testCase.getTraceId();
+    }
+}
@@ -8,14 +8,21 @@ import java.util.List;
 
 /**
  * Entity holding details about time execution details for test cases.
+ * Percentiles are computed from fixed-memory histograms, so individual executions are not kept.
  */
 @Builder
 @Getter
 @ToString
 public class TimeExecutionDetails {
     private final String path;
-    private final List<TimeExecution> executions;
+    private final String fuzzer;
+    private final long count;
     private final TimeExecution bestCase;
     private final TimeExecution worstCase;
     private final double average;
-}
\ No newline at end of file
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final List<TimeExecutionDetails> fuzzers;
+}
@@ -6,10 +6,9 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for clustering test cases based on error similarity.
@@ -31,142 +30,209 @@ public class ClusterCompute {
      * @return List of clustered test case groups
      */
     public static List<Map<String, Object>> createClusters(List<CatsTestCaseSummary> testCases) {
-        // Filter test cases with non-2xx responses and errors
-        List<CatsTestCaseSummary> non2xxCases = filterNon2xxTestCases(testCases);
+        Accumulator accumulator = new Accumulator();
+        testCases.forEach(accumulator::add);
 
-        // Group test cases by their result reason
-        Map<String, List<CatsTestCaseSummary>> groupedByReason = groupTestCasesByReason(non2xxCases);
-
-        return createClusterResultList(groupedByReason);
+        return accumulator.clusters();
     }
 
     /**
-     * Filters test cases with non-2xx HTTP responses and containing errors.
-     *
-     * @param testCases List of test cases to filter
-     * @return Filtered list of test cases
+     * Builds clusters incrementally, one test case at a time.
+     * <p>
+     * Only what is needed for rendering is kept for each test case: the link to the test case grouped by path
+     * and the first characters of the response body of the first test case in each cluster, which is used as the cluster representative.
+     * This allows clustering reports which are too large to be loaded in memory at once. The number of links kept for each path
+     * of a cluster can be bounded, in which case the links over the limit are only counted.
+     * </p>
      */
-    private static List<CatsTestCaseSummary> filterNon2xxTestCases(List<CatsTestCaseSummary> testCases) {
-        return testCases.stream()
-                .filter(tc ->
-                        (tc.getHttpResponseCode() < MIN_HTTP_SUCCESS_CODE || tc.getHttpResponseCode() >= MAX_HTTP_SUCCESS_CODE) &&
-                                StringUtils.isNotBlank(tc.getResultReason()) &&
-                                (tc.getError() || tc.getWarning())
-                )
-                .toList();
+    public static final class Accumulator {
+        private final Map<String, ReasonClusters> clustersByReason = new LinkedHashMap<>();
+        private final int maxLinksPerPath;
+
+        /**
+         * Creates an accumulator keeping the links of all test cases.
+         */
+        public Accumulator() {
+            this(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Creates an accumulator keeping at most the given number of links for each path of a cluster.
+         *
+         * @param maxLinksPerPath the maximum number of test case links kept for each path of a cluster
+         */
+        public Accumulator(int maxLinksPerPath) {
+            this.maxLinksPerPath = maxLinksPerPath;
+        }
+
+        /**
+         * Adds a test case to the matching cluster. Only test cases with non-2xx responses which are errors or warnings are clustered.
+         *
+         * @param testCase the test case summary
+         */
+        public void add(CatsTestCaseSummary testCase) {
+            if (!isClusterCandidate(testCase)) {
+                return;
+            }
+            clustersByReason.computeIfAbsent(testCase.getResultReason(), _ -> new ReasonClusters(maxLinksPerPath)).add(testCase);
+        }
+
+        /**
+         * Returns the clusters of the test cases added so far, grouped by result reason.
+         *
+         * @return List of clustered test case groups
+         */
+        public List<Map<String, Object>> clusters() {
+            return clustersByReason.entrySet().stream()
+                    .map(entry -> createResultMapForReason(entry.getKey(), entry.getValue().clusters()))
+                    .toList();
+        }
     }
 
-    /**
-     * Groups test cases by their result reason.
-     *
-     * @param testCases List of test cases to group
-     * @return Map of test cases grouped by result reason
-     */
-    private static Map<String, List<CatsTestCaseSummary>> groupTestCasesByReason(List<CatsTestCaseSummary> testCases) {
-        return testCases.stream()
-                .collect(Collectors.groupingBy(CatsTestCaseSummary::getResultReason));
+    private static boolean isClusterCandidate(CatsTestCaseSummary tc) {
+        return (tc.getHttpResponseCode() < MIN_HTTP_SUCCESS_CODE || tc.getHttpResponseCode() >= MAX_HTTP_SUCCESS_CODE) &&
+                StringUtils.isNotBlank(tc.getResultReason()) &&
+                (tc.getError() || tc.getWarning());
     }
 
     /**
-     * Creates a list of clustered test case results.
-     *
-     * @param groupedByReason Map of test cases grouped by result reason
-     * @return List of clustered test case groups
+     * Clusters of a single result reason. Test cases are first grouped by normalized error pattern (cheap),
+     * and the expensive similarity checks are only done against the representatives of clusters having the same pattern.
      */
-    private static List<Map<String, Object>> createClusterResultList(
-            Map<String, List<CatsTestCaseSummary>> groupedByReason) {
+    private static final class ReasonClusters {
+        private final Map<String, List<Cluster>> clustersByPattern = new LinkedHashMap<>();
+        private final int maxLinksPerPath;
+        private Cluster emptyResponseCluster;
 
-        return groupedByReason.entrySet().stream()
-                .map(entry -> createResultMapForReason(entry.getKey(), entry.getValue()))
-                .toList();
+        ReasonClusters(int maxLinksPerPath) {
+            this.maxLinksPerPath = maxLinksPerPath;
+        }
+
+        void add(CatsTestCaseSummary tc) {
+            String responseBody = tc.getResponseBody();
+            if (responseBody == null || responseBody.trim().isEmpty()) {
+                if (emptyResponseCluster == null) {
+                    emptyResponseCluster = new Cluster(responseBody, maxLinksPerPath);
+                }
+                emptyResponseCluster.add(tc);
+                return;
+            }
+
+            String prefix = responseBody.length() <= COMPARE_PREFIX_LENGTH
+                    ? responseBody
+                    : responseBody.substring(0, COMPARE_PREFIX_LENGTH);
+            List<Cluster> patternClusters = clustersByPattern.computeIfAbsent(ErrorSimilarityDetector.normalizeErrorMessage(prefix), _ -> new ArrayList<>());
+
+            Cluster matching = patternClusters.stream()
+                    .filter(cluster -> ErrorSimilarityDetector.areErrorsSimilar(cluster.representativeError, responseBody))
+                    .findFirst()
+                    .orElseGet(() -> {
+                        Cluster newCluster = new Cluster(responseBody, maxLinksPerPath);
+                        patternClusters.add(newCluster);
+                        return newCluster;
+                    });
+            matching.add(tc);
+        }
+
+        List<Cluster> clusters() {
+            List<Cluster> clusters = new ArrayList<>();
+
+            // If everything has the same pattern, it's a single cluster
+            if (clustersByPattern.size() == 1) {
+                List<Cluster> patternClusters = clustersByPattern.values().iterator().next();
+                Cluster merged = patternClusters.getFirst();
+                patternClusters.stream().skip(1).forEach(merged::addAll);
+                clusters.add(merged);
+            } else {
+                clustersByPattern.values().forEach(clusters::addAll);
+            }
+
+            if (emptyResponseCluster != null) {
+                clusters.add(emptyResponseCluster);
+            }
+            return clusters;
+        }
     }
 
     /**
-     * Creates a result map for a specific reason and its test cases.
-     *
-     * @param resultReason       Reason for the test cases
-     * @param testCasesForReason List of test cases for this reason
-     * @return Map representing the result
+     * A cluster of similar errors, keeping the links to its test cases grouped by path.
      */
-    private static Map<String, Object> createResultMapForReason(
-            String resultReason, List<CatsTestCaseSummary> testCasesForReason) {
+    private static final class Cluster {
+        private final String representativeError;
+        private final int maxLinksPerPath;
+        private final Map<String, PathLinks> testCasesByPath = new LinkedHashMap<>();
+
+        Cluster(String representativeError, int maxLinksPerPath) {
+            this.representativeError = StringUtils.truncate(representativeError, CatsTestCaseSummary.MAX_RESPONSE_BODY_LENGTH);
+            this.maxLinksPerPath = maxLinksPerPath;
+        }
 
-        List<Map<String, Object>> clusterList = createClustersForTestCases(testCasesForReason);
+        void add(CatsTestCaseSummary tc) {
+            testCasesByPath.computeIfAbsent(tc.getPath(), _ -> new PathLinks())
+                    .add(String.format("<a href=\"%s.html\" target=\"_blank\">%s</a>", tc.getKey(), tc.getId()), maxLinksPerPath);
+        }
 
-        Map<String, Object> resultMap = new HashMap<>();
-        resultMap.put("resultReason", resultReason);
-        resultMap.put("clusters", clusterList);
-        return resultMap;
+        void addAll(Cluster other) {
+            other.testCasesByPath.forEach((path, links) -> testCasesByPath.computeIfAbsent(path, _ -> new PathLinks()).addAll(links, maxLinksPerPath));
+        }
     }
 
     /**
-     * Creates clusters of test cases based on error similarity.
-     *
-     * @param testCasesForReason List of test cases to cluster
-     * @return List of cluster maps
+     * The links to the test cases of a path, up to a maximum number, and the number of test cases over it.
      */
-    private static List<Map<String, Object>> createClustersForTestCases(
-            List<CatsTestCaseSummary> testCasesForReason) {
-
-        List<CatsTestCaseSummary> emptyResponseCases = new ArrayList<>();
-        List<CatsTestCaseSummary> nonEmptyResponseCases = new ArrayList<>();
-
-        // Separate empty and non-empty response cases
-        separateResponseCases(testCasesForReason, emptyResponseCases, nonEmptyResponseCases);
+    private static final class PathLinks {
+        private final List<String> links = new ArrayList<>();
+        private long omitted;
 
-        // Cluster similar error cases
-        List<List<CatsTestCaseSummary>> similarityClusters =
-                clusterBySimilarity(nonEmptyResponseCases, ErrorSimilarityDetector::areErrorsSimilar);
+        void add(String link, int maxLinks) {
+            if (links.size() < maxLinks) {
+                links.add(link);
+            } else {
+                omitted++;
+            }
+        }
 
-        // Add empty response cases to clusters if present
-        if (!emptyResponseCases.isEmpty()) {
-            similarityClusters.add(emptyResponseCases);
+        void addAll(PathLinks other, int maxLinks) {
+            other.links.forEach(link -> this.add(link, maxLinks));
+            omitted += other.omitted;
         }
 
-        return createClusterMaps(similarityClusters);
+        @Override
+        public String toString() {
+            String joined = String.join(", ", links);
+            return omitted == 0 ? joined : joined + " and " + omitted + " more";
+        }
     }
 
     /**
-     * Separates test cases into empty and non-empty response cases.
+     * Creates a result map for a specific reason and its clusters.
      *
-     * @param testCases             Source list of test cases
-     * @param emptyResponseCases    Destination list for empty response cases
-     * @param nonEmptyResponseCases Destination list for non-empty response cases
+     * @param resultReason Reason for the test cases
+     * @param clusters     Clusters of test cases for this reason
+     * @return Map representing the result
      */
-    private static void separateResponseCases(
-            List<CatsTestCaseSummary> testCases,
-            List<CatsTestCaseSummary> emptyResponseCases,
-            List<CatsTestCaseSummary> nonEmptyResponseCases) {
-
-        for (CatsTestCaseSummary tc : testCases) {
-            if (tc.getResponseBody() == null || tc.getResponseBody().trim().isEmpty()) {
-                emptyResponseCases.add(tc);
-            } else {
-                nonEmptyResponseCases.add(tc);
-            }
-        }
+    private static Map<String, Object> createResultMapForReason(String resultReason, List<Cluster> clusters) {
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("resultReason", resultReason);
+        resultMap.put("clusters", createClusterMaps(clusters));
+        return resultMap;
     }
 
     /**
      * Creates cluster maps for given clusters of test cases.
      *
-     * @param similarityClusters List of test case clusters
+     * @param clusters List of test case clusters
      * @return List of cluster maps
      */
-    private static List<Map<String, Object>> createClusterMaps(
-            List<List<CatsTestCaseSummary>> similarityClusters) {
-
+    private static List<Map<String, Object>> createClusterMaps(List<Cluster> clusters) {
         List<Map<String, Object>> clusterList = new ArrayList<>();
         int clusterCounter = 1;
 
-        for (List<CatsTestCaseSummary> cluster : similarityClusters) {
+        for (Cluster cluster : clusters) {
             Map<String, Object> clusterMap = new HashMap<>();
             clusterMap.put("clusterId", clusterCounter++);
-
-            String representativeError = cluster.getFirst().getResponseBody();
-            clusterMap.put("errorMessage", representativeError);
+            clusterMap.put("errorMessage", cluster.representativeError);
             clusterMap.put("borderColor", generateRandomHexColor());
-
             clusterMap.put("paths", createPathList(cluster));
             clusterList.add(clusterMap);
         }
@@ -177,21 +243,11 @@ public class ClusterCompute {
     /**
      * Creates a list of path information for a cluster of test cases.
      *
-     * @param cluster List of test cases in a cluster
+     * @param cluster Cluster of test cases
      * @return List of path maps
      */
-    private static List<Map<String, Object>> createPathList(List<CatsTestCaseSummary> cluster) {
-        Map<String, StringBuilder> pathGroups = new HashMap<>();
-
-        for (CatsTestCaseSummary tc : cluster) {
-            String path = tc.getPath();
-            pathGroups.computeIfAbsent(path, k -> new StringBuilder())
-                    .append(!pathGroups.get(path).isEmpty() ? ", " : "")
-                    .append(String.format("<a href=\"%s.html\" target=\"_blank\">%s</a>",
-                            tc.getKey(), tc.getId()));
-        }
-
-        return pathGroups.entrySet().stream()
+    private static List<Map<String, Object>> createPathList(Cluster cluster) {
+        return cluster.testCasesByPath.entrySet().stream()
                 .map(entry -> {
                     Map<String, Object> pathMap = new HashMap<>();
                     pathMap.put("path", entry.getKey());
@@ -201,158 +257,6 @@ public class ClusterCompute {
                 .toList();
     }
 
-    /**
-     * Clusters test cases by similarity using pattern-based pre-clustering for performance.
-     * First groups by normalized pattern (fast), then does detailed similarity checks only within groups.
-     *
-     * @param testCases         List of test cases to cluster
-     * @param similarityChecker Predicate to determine error similarity
-     * @return List of test case clusters
-     */
-    private static List<List<CatsTestCaseSummary>> clusterBySimilarity(
-            List<CatsTestCaseSummary> testCases,
-            BiPredicate<String, String> similarityChecker) {
-
-        if (testCases.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        if (testCases.size() == 1) {
-            return new ArrayList<>(List.of(testCases));
-        }
-
-        // First pass: group by normalized pattern (cheap operation)
-        Map<String, List<CatsTestCaseSummary>> patternGroups = new HashMap<>();
-
-        for (CatsTestCaseSummary tc : testCases) {
-            if (tc.getResponseBody() == null || tc.getResponseBody().trim().isEmpty()) {
-                continue;
-            }
-
-            String prefix = tc.getResponseBody().length() <= COMPARE_PREFIX_LENGTH
-                    ? tc.getResponseBody()
-                    : tc.getResponseBody().substring(0, COMPARE_PREFIX_LENGTH);
-            String pattern = ErrorSimilarityDetector.normalizeErrorMessage(prefix);
-
-            patternGroups.computeIfAbsent(pattern, k -> new ArrayList<>()).add(tc);
-        }
-
-        // If everything has the same pattern, return single cluster (huge performance win)
-        if (patternGroups.size() == 1) {
-            return new ArrayList<>(List.of(new ArrayList<>(testCases)));
-        }
-
-        // Second pass: do expensive similarity checks only within pattern groups
-        List<List<CatsTestCaseSummary>> clusters = new ArrayList<>();
-
-        for (List<CatsTestCaseSummary> group : patternGroups.values()) {
-            if (group.size() == 1) {
-                clusters.add(new ArrayList<>(group));
-            } else {
-                // Only do expensive comparisons within same-pattern groups
-                clusters.addAll(clusterByDetailedSimilarity(group, similarityChecker));
-            }
-        }
-
-        return clusters;
-    }
-
-    /**
-     * Performs detailed similarity-based clustering on a group of test cases.
-     * This is the expensive operation, so it's only called on smaller pre-filtered groups.
-     *
-     * @param testCases         List of test cases to cluster
-     * @param similarityChecker Predicate to determine error similarity
-     * @return List of test case clusters
-     */
-    private static List<List<CatsTestCaseSummary>> clusterByDetailedSimilarity(
-            List<CatsTestCaseSummary> testCases,
-            BiPredicate<String, String> similarityChecker) {
-
-        List<List<CatsTestCaseSummary>> clusters = new ArrayList<>();
-        Map<CatsTestCaseSummary, Boolean[]> comparisonTracker = new HashMap<>();
-
-        for (CatsTestCaseSummary current : testCases) {
-            boolean addedToCluster = tryAddToExistingCluster(current, clusters, comparisonTracker, similarityChecker);
-
-            if (!addedToCluster) {
-                List<CatsTestCaseSummary> newCluster = new ArrayList<>();
-                newCluster.add(current);
-                clusters.add(newCluster);
-            }
-        }
-
-        return clusters;
-    }
-
-    /**
-     * Attempts to add a test case to an existing cluster based on similarity.
-     *
-     * @param current           Current test case to add
-     * @param clusters          Existing clusters
-     * @param comparisonTracker Tracker for previous comparisons
-     * @param similarityChecker Predicate to determine error similarity
-     * @return True if added to a cluster, false otherwise
-     */
-    private static boolean tryAddToExistingCluster(
-            CatsTestCaseSummary current,
-            List<List<CatsTestCaseSummary>> clusters,
-            Map<CatsTestCaseSummary, Boolean[]> comparisonTracker,
-            BiPredicate<String, String> similarityChecker) {
-
-        for (int clusterIndex = 0; clusterIndex < clusters.size(); clusterIndex++) {
-            List<CatsTestCaseSummary> cluster = clusters.get(clusterIndex);
-            CatsTestCaseSummary representative = cluster.getFirst();
-
-            Boolean[] comparisons = getOrCreateComparisons(current, comparisonTracker, clusters.size());
-            Boolean previousComparison = comparisons[clusterIndex];
-
-            if (previousComparison != null) {
-                if (previousComparison) {
-                    cluster.add(current);
-                    return true;
-                }
-                continue;
-            }
-
-            boolean similar = similarityChecker.test(representative.getResponseBody(), current.getResponseBody());
-            comparisons[clusterIndex] = similar;
-
-            if (similar) {
-                cluster.add(current);
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Gets or creates comparison tracking array for a test case.
-     *
-     * @param current           Current test case
-     * @param comparisonTracker Existing comparison tracker
-     * @param clusterSize       Number of clusters
-     * @return Comparison tracking array
-     */
-    private static Boolean[] getOrCreateComparisons(
-            CatsTestCaseSummary current,
-            Map<CatsTestCaseSummary, Boolean[]> comparisonTracker,
-            int clusterSize) {
-
-        Boolean[] comparisons = comparisonTracker.get(current);
-        if (comparisons == null) {
-            comparisons = new Boolean[clusterSize];
-            comparisonTracker.put(current, comparisons);
-        } else if (comparisons.length < clusterSize) {
-            Boolean[] newComparisons = new Boolean[clusterSize];
-            System.arraycopy(comparisons, 0, newComparisons, 0, comparisons.length);
-            comparisons = newComparisons;
-            comparisonTracker.put(current, comparisons);
-        }
-        return comparisons;
-    }
-
     /**
      * Generates a random hex color.
      *
@@ -364,4 +268,4 @@ public class ClusterCompute {
         int b = CatsRandom.instance().nextInt(256);
         return String.format("#%02x%02x%02x", r, g, b);
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,12 @@ package com.endava.cats.report;
 import com.endava.cats.annotations.DryRun;
 import com.endava.cats.util.AnsiUtils;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Listener for tracking execution statistics of CATS tests, including errors, warnings, successes, and skipped tests.
@@ -18,65 +20,127 @@ public class ExecutionStatisticsListener {
     /**
      * Map to track the count of errors per path.
      */
-    private final Map<String, Long> errors = new HashMap<>();
+    private final Map<String, Long> errors = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of warnings per path.
      */
-    private final Map<String, Long> warns = new HashMap<>();
+    private final Map<String, Long> warns = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of successful executions per path.
      */
-    private final Map<String, Long> success = new HashMap<>();
+    private final Map<String, Long> success = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of requests that were skipped from reporting per path.
      */
-    private final Map<String, Long> skippedFromReporting = new HashMap<>();
+    private final Map<String, Long> skippedFromReporting = new ConcurrentHashMap<>();
 
     /**
      * Map to track the distribution of HTTP response codes.
      */
-    private final Map<Integer, Integer> responseCodes = new HashMap<>();
+    private final Map<Integer, Integer> responseCodes = new ConcurrentHashMap<>();
 
     /**
      * Count of skipped tests.
      */
-    @Getter
-    private int skipped;
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
      * Count of authentication errors.
      */
-    @Getter
-    private int authErrors;
+    private final AtomicInteger authErrors = new AtomicInteger();
 
     /**
      * Count of I/O errors.
      */
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger ioErrors = new AtomicInteger();
+
+    /**
+     * Count of requests re-issued after the service throttled them.
+     */
+    private final AtomicInteger throttledRetries = new AtomicInteger();
+
+    /**
+     * Total time in milliseconds spent waiting for throttling windows advertised by the service.
+     */
+    private final AtomicLong throttledTimeInMs = new AtomicLong();
+
+    /**
+     * Gets the count of skipped tests.
+     *
+     * @return The count of skipped tests.
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the count of authentication errors.
+     *
+     * @return The count of authentication errors.
+     */
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    /**
+     * Gets the count of I/O errors.
+     *
+     * @return The count of I/O errors.
+     */
+    public int getIoErrors() {
+        return this.ioErrors.get();
+    }
 
     /**
      * Increases the count of authentication errors.
      */
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of I/O errors.
      */
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
+    }
+
+    /**
+     * Records a request re-issued after the service throttled it.
+     *
+     * @param backoffInMs The time in milliseconds spent waiting before the request was re-issued.
+     */
+    public void recordThrottleBackoff(long backoffInMs) {
+        this.throttledRetries.incrementAndGet();
+        this.throttledTimeInMs.addAndGet(Math.max(0, backoffInMs));
+    }
+
+    /**
+     * Gets the count of requests re-issued after the service throttled them.
+     *
+     * @return The count of throttled retries.
+     */
+    public int getThrottledRetries() {
+        return this.throttledRetries.get();
+    }
+
+    /**
+     * Gets the total time in milliseconds spent waiting for throttling windows.
+     *
+     * @return The throttled time in milliseconds.
+     */
+    public long getThrottledTimeInMs() {
+        return this.throttledTimeInMs.get();
     }
 
     /**
      * Increases the count of skipped tests.
      */
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
     }
 
 
@@ -212,7 +276,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many authentication errors, {@code false} otherwise.
      */
     public boolean areManyAuthErrors() {
-        return getAll() > 0 && authErrors <= getAll() && authErrors >= this.getAll() / 2;
+        return getAll() > 0 && getAuthErrors() <= getAll() && getAuthErrors() >= this.getAll() / 2;
     }
 
     /**
@@ -221,7 +285,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many I/O errors, {@code false} otherwise.
      */
     public boolean areManyIoErrors() {
-        return getAll() > 0 && ioErrors >= this.getAll() / 2;
+        return getAll() > 0 && getIoErrors() >= this.getAll() / 2;
     }
 
     /**
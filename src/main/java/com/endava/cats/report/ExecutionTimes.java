@@ -0,0 +1,137 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.TimeExecution;
+import com.endava.cats.model.TimeExecutionDetails;
+import com.endava.cats.util.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Execution times of the test cases, kept in a {@link LatencyHistogram} per path, http method and fuzzer.
+ * <p>
+ * Individual executions are not kept, only the fastest and slowest test case of each fuzzer, so memory depends on the number of
+ * (path, http method, fuzzer) combinations and not on the number of test cases. Test cases can be recorded from multiple threads,
+ * and the execution times of different runs, like the shards of a sharded run, can be merged.
+ * </p>
+ */
+public final class ExecutionTimes {
+    private final Map<Key, Times> times = new ConcurrentHashMap<>();
+
+    private record Key(String httpMethod, String path, String fuzzer) {
+
+        String operation() {
+            return httpMethod + " " + path;
+        }
+    }
+
+    /**
+     * Records the execution time of a test case.
+     *
+     * @param httpMethod the http method
+     * @param path       the contract path
+     * @param fuzzer     the fuzzer which generated the test case
+     * @param testId     the test case id
+     * @param timeInMs   the response time in milliseconds
+     */
+    public void record(String httpMethod, String path, String fuzzer, String testId, long timeInMs) {
+        times.computeIfAbsent(new Key(httpMethod, path, Objects.requireNonNullElse(fuzzer, "")), _ -> new Times())
+                .record(TimeExecution.builder().testId(testId).executionInMs(timeInMs).build());
+    }
+
+    /**
+     * Adds the execution times recorded by another instance to this one.
+     *
+     * @param other the execution times to merge
+     */
+    public void merge(ExecutionTimes other) {
+        other.times.forEach((key, otherTimes) -> times.computeIfAbsent(key, _ -> new Times()).merge(otherTimes));
+    }
+
+    /**
+     * Checks if any execution time was recorded.
+     *
+     * @return true if nothing was recorded, false otherwise
+     */
+    public boolean isEmpty() {
+        return times.isEmpty();
+    }
+
+    /**
+     * Summarises the execution times per http method and path, sorted by path. Each entry also has the execution times of each fuzzer.
+     *
+     * @return the execution time details
+     */
+    public List<TimeExecutionDetails> details() {
+        Map<String, List<Map.Entry<Key, Times>>> timesPerOperation = new TreeMap<>();
+        times.entrySet().forEach(entry -> timesPerOperation.computeIfAbsent(entry.getKey().operation(), _ -> new ArrayList<>()).add(entry));
+
+        List<TimeExecutionDetails> details = new ArrayList<>(timesPerOperation.size());
+        timesPerOperation.forEach((operation, operationTimes) -> {
+            Times total = new Times();
+            List<TimeExecutionDetails> fuzzers = operationTimes.stream()
+                    .sorted(Comparator.comparing(entry -> entry.getKey().fuzzer()))
+                    .map(entry -> {
+                        total.merge(entry.getValue());
+                        return entry.getValue().toDetails(operation, entry.getKey().fuzzer(), null);
+                    })
+                    .toList();
+            details.add(total.toDetails(operation, null, fuzzers));
+        });
+
+        return details;
+    }
+
+    /**
+     * Execution times of a single (path, http method, fuzzer) or of a whole (path, http method) when fuzzers are merged.
+     */
+    private static final class Times {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicReference<TimeExecution> bestCase = new AtomicReference<>();
+        private final AtomicReference<TimeExecution> worstCase = new AtomicReference<>();
+
+        void record(TimeExecution execution) {
+            histogram.record(execution.getExecutionInMs());
+            this.keepBestAndWorst(execution, execution);
+        }
+
+        void merge(Times other) {
+            histogram.merge(other.histogram);
+            this.keepBestAndWorst(other.bestCase.get(), other.worstCase.get());
+        }
+
+        private void keepBestAndWorst(TimeExecution best, TimeExecution worst) {
+            if (best != null) {
+                bestCase.accumulateAndGet(best, (current, candidate) ->
+                        current == null || candidate.getExecutionInMs() < current.getExecutionInMs() ? candidate : current);
+            }
+            if (worst != null) {
+                worstCase.accumulateAndGet(worst, (current, candidate) ->
+                        current == null || candidate.getExecutionInMs() > current.getExecutionInMs() ? candidate : current);
+            }
+        }
+
+        TimeExecutionDetails toDetails(String operation, String fuzzer, List<TimeExecutionDetails> fuzzers) {
+            LatencyHistogram.Result result = histogram.result();
+            return TimeExecutionDetails.builder()
+                    .path(operation)
+                    .fuzzer(fuzzer)
+                    .count(result.count())
+                    .average(result.average())
+                    .bestCase(bestCase.get())
+                    .worstCase(worstCase.get())
+                    .p50(result.p50())
+                    .p90(result.p90())
+                    .p99(result.p99())
+                    .p999(result.p999())
+                    .fuzzers(fuzzers)
+                    .build();
+        }
+    }
+}
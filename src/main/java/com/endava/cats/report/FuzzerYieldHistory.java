@@ -0,0 +1,197 @@
+package com.endava.cats.report;
+
+import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.ConsoleUtils;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Errors found per test case by each fuzzer, computed from the summary reports of previous runs.
+ * <p>
+ * The expected yield of a fuzzer for an operation is smoothed towards the yield of the fuzzer across all operations,
+ * which is in turn smoothed towards the yield of all fuzzers. This way fuzzers with few or no test cases for an operation
+ * are neither favoured nor buried because of a handful of results.
+ * </p>
+ */
+public final class FuzzerYieldHistory {
+    /**
+     * History used when no previous reports are supplied. All fuzzers have the same expected yield.
+     */
+    public static final FuzzerYieldHistory EMPTY = new FuzzerYieldHistory();
+    static final int PRIOR_WEIGHT = 10;
+    private static final String ERROR = "error";
+
+    private final Map<String, Yield> operationYields = new HashMap<>();
+    private final Map<String, Yield> fuzzerYields = new HashMap<>();
+    private final Yield overallYield = new Yield();
+
+    private FuzzerYieldHistory() {
+        //ntd
+    }
+
+    /**
+     * Loads the history from the supplied report folders or {@code cats-summary-report.json} files.
+     * Test cases are streamed, so large reports are not loaded in memory.
+     *
+     * @param reports report folders or summary report files
+     * @return the fuzzers yield history
+     * @throws IOException              if a report cannot be read
+     * @throws IllegalArgumentException if a supplied path is not a report folder or a summary report
+     */
+    public static FuzzerYieldHistory load(Collection<Path> reports) throws IOException {
+        FuzzerYieldHistory history = new FuzzerYieldHistory();
+        for (Path report : reports) {
+            Path summaryReport = Files.isDirectory(report) ? report.resolve(TestCaseExporter.REPORT_JS) : report;
+            if (!Files.isRegularFile(summaryReport)) {
+                throw new IllegalArgumentException("%s is not a CATS report folder or a %s file".formatted(report, TestCaseExporter.REPORT_JS));
+            }
+            history.loadSummaryReport(summaryReport);
+        }
+        return history;
+    }
+
+    private void loadSummaryReport(Path summaryReport) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(summaryReport, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("testCases".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        this.add(JsonParser.parseReader(reader).getAsJsonObject());
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("%s is not a valid summary report: %s".formatted(summaryReport, e.getMessage()), e);
+        }
+    }
+
+    private void add(JsonObject testCase) {
+        String fuzzer = stringValue(testCase, "fuzzer");
+        String path = stringValue(testCase, "path");
+        String httpMethod = stringValue(testCase, "httpMethod");
+        if (fuzzer == null || path == null || httpMethod == null) {
+            return;
+        }
+        boolean error = ERROR.equalsIgnoreCase(stringValue(testCase, "result"));
+
+        operationYields.computeIfAbsent(operationKey(fuzzer, httpMethod, path), _ -> new Yield()).add(error);
+        fuzzerYields.computeIfAbsent(fuzzer, _ -> new Yield()).add(error);
+        overallYield.add(error);
+    }
+
+    private static String stringValue(JsonObject testCase, String property) {
+        JsonElement element = testCase.get(property);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    /**
+     * Checks if there is any historical data.
+     *
+     * @return true if no test cases were loaded, false otherwise
+     */
+    public boolean isEmpty() {
+        return overallYield.tests == 0;
+    }
+
+    /**
+     * Computes the expected number of errors per test case for the given fuzzer when run against the given operations of a path.
+     *
+     * @param fuzzer      the fuzzer
+     * @param path        the contract path
+     * @param httpMethods the http methods of the path being fuzzed
+     * @return the expected yield
+     */
+    public double expectedYield(Fuzzer fuzzer, String path, Collection<HttpMethod> httpMethods) {
+        String fuzzerName = reportedName(fuzzer);
+        double fuzzerYield = Optional.ofNullable(fuzzerYields.get(fuzzerName)).orElseGet(Yield::new).smoothed(overallYield.rate());
+
+        Yield pathYield = new Yield();
+        httpMethods.stream()
+                .map(httpMethod -> operationYields.get(operationKey(fuzzerName, httpMethod.name(), path)))
+                .filter(Objects::nonNull)
+                .forEach(pathYield::addAll);
+
+        return pathYield.smoothed(fuzzerYield);
+    }
+
+    /**
+     * Orders the fuzzers by expected yield for the given path, highest first. Fuzzers with the same expected yield keep their order.
+     *
+     * @param fuzzers     the fuzzers to order
+     * @param path        the contract path
+     * @param httpMethods the http methods of the path being fuzzed
+     * @return the fuzzers ordered by expected yield
+     */
+    public List<Fuzzer> prioritize(List<Fuzzer> fuzzers, String path, Collection<HttpMethod> httpMethods) {
+        if (this.isEmpty()) {
+            return fuzzers;
+        }
+        Map<Fuzzer, Double> yields = new HashMap<>();
+        fuzzers.forEach(fuzzer -> yields.put(fuzzer, this.expectedYield(fuzzer, path, httpMethods)));
+
+        return fuzzers.stream()
+                .sorted(Comparator.<Fuzzer>comparingDouble(yields::get).reversed())
+                .toList();
+    }
+
+    /**
+     * Reports store the fuzzer name without the Fuzzer suffix and the trim/sanitize strategy.
+     */
+    private static String reportedName(Fuzzer fuzzer) {
+        return ConsoleUtils.removeTrimSanitize(fuzzer.toString());
+    }
+
+    private static String operationKey(String fuzzer, String httpMethod, String path) {
+        return fuzzer + " " + httpMethod.toLowerCase(Locale.ROOT) + " " + path;
+    }
+
+    /**
+     * Number of test cases and how many of them were errors.
+     */
+    private static final class Yield {
+        private long tests;
+        private long errors;
+
+        void add(boolean error) {
+            tests++;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Yield other) {
+            tests += other.tests;
+            errors += other.errors;
+        }
+
+        double rate() {
+            return tests == 0 ? 0 : (double) errors / tests;
+        }
+
+        double smoothed(double prior) {
+            return (errors + PRIOR_WEIGHT * prior) / (tests + PRIOR_WEIGHT);
+        }
+    }
+}
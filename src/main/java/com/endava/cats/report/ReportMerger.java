@@ -0,0 +1,320 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.endava.cats.model.TimeExecutionDetails;
+import com.endava.cats.util.JsonUtils;
+import com.github.mustachejava.Mustache;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Merges several CATS report folders into a single one.
+ * <p>
+ * Test cases are renumbered in the order of the supplied folders, so that ids don't collide. Summaries are streamed
+ * from each {@code cats-summary-report.json} and test case files are rewritten one by one, so memory usage doesn't
+ * depend on the number of test cases. Error clusters keep the links of at most {@value #MAX_CLUSTER_LINKS_PER_PATH} test cases
+ * for each path and only count the others.
+ * </p>
+ */
+public class ReportMerger {
+    private static final String TEST_PREFIX = "Test ";
+    private static final String CLUSTERS_STYLE = "styles-cluster.css";
+    private static final int MAX_CLUSTER_LINKS_PER_PATH = 100;
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test\\d+\\.(json|html)");
+    private static final Set<String> GENERATED_FILES = Set.of(TestCaseExporter.REPORT_JS, TestCaseExporter.EXECUTION_TIME_REPORT, TestCaseExporter.REPORT_HTML);
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ReportMerger.class);
+
+    /**
+     * Result of merging report folders.
+     *
+     * @param mergedReports the number of merged report folders
+     * @param totalTests    the total number of test cases in the merged report
+     * @param success       the number of successful test cases
+     * @param warnings      the number of test cases with warnings
+     * @param errors        the number of test cases with errors
+     */
+    public record MergeResult(int mergedReports, long totalTests, long success, long warnings, long errors) {
+    }
+
+    /**
+     * Merges the given report folders into the output folder.
+     *
+     * @param reportFolders the report folders to merge, in the order in which test cases will be numbered
+     * @param outputFolder  the folder where the merged report is written; must not be one of the report folders
+     * @return the result of the merge
+     * @throws IOException              if reading any of the reports or writing the merged report fails
+     * @throws IllegalArgumentException if a report folder doesn't contain a CATS summary report or the output folder is one of the report folders
+     */
+    public MergeResult merge(List<Path> reportFolders, Path outputFolder) throws IOException {
+        validateFolders(reportFolders, outputFolder);
+        Files.createDirectories(outputFolder);
+
+        MergeState state = new MergeState();
+        Path summaryPath = outputFolder.resolve(TestCaseExporter.REPORT_JS);
+
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(summaryPath, StandardCharsets.UTF_8))) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("testCases").beginArray();
+            for (Path reportFolder : reportFolders) {
+                logger.info("Merging report {}", reportFolder);
+                this.mergeReport(reportFolder, outputFolder, writer, state);
+            }
+            writer.endArray();
+            writer.name("totalTests").value(state.statistics.getAll());
+            writer.name("success").value(state.statistics.getSuccess());
+            writer.name("warnings").value(state.statistics.getWarns());
+            writer.name("errors").value(state.statistics.getErrors());
+            writer.name("executionTime").value(state.executionTime);
+            writer.name("timestamp").value(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+            writer.name("catsVersion").value(state.catsVersion);
+            writer.endObject();
+        }
+
+        this.writeExecutionTimes(outputFolder, state);
+        this.copyHelperFiles(reportFolders.getFirst(), outputFolder);
+        this.writeSummaryPage(reportFolders.getFirst(), outputFolder, summaryPath, state);
+
+        return new MergeResult(reportFolders.size(), state.statistics.getAll(), state.statistics.getSuccess(),
+                state.statistics.getWarns(), state.statistics.getErrors());
+    }
+
+    private static void validateFolders(List<Path> reportFolders, Path outputFolder) {
+        if (reportFolders.isEmpty()) {
+            throw new IllegalArgumentException("At least one report folder must be supplied");
+        }
+        Path normalizedOutput = outputFolder.toAbsolutePath().normalize();
+        for (Path reportFolder : reportFolders) {
+            if (!Files.isRegularFile(reportFolder.resolve(TestCaseExporter.REPORT_JS))) {
+                throw new IllegalArgumentException("Folder %s does not contain a %s file".formatted(reportFolder, TestCaseExporter.REPORT_JS));
+            }
+            if (reportFolder.toAbsolutePath().normalize().equals(normalizedOutput)) {
+                throw new IllegalArgumentException("Output folder %s cannot be one of the merged report folders".formatted(outputFolder));
+            }
+        }
+    }
+
+    private void mergeReport(Path reportFolder, Path outputFolder, JsonWriter writer, MergeState state) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(reportFolder.resolve(TestCaseExporter.REPORT_JS), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "testCases" -> this.mergeTestCases(reader, reportFolder, outputFolder, writer, state);
+                    // reports produced by parallel runs overlap in time, so the longest one is the best approximation
+                    case "executionTime" -> state.executionTime = Math.max(state.executionTime, reader.nextLong());
+                    case "catsVersion" -> {
+                        String catsVersion = reader.nextString();
+                        state.catsVersion = state.catsVersion == null ? catsVersion : state.catsVersion;
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+    }
+
+    private void mergeTestCases(JsonReader reader, Path reportFolder, Path outputFolder, JsonWriter writer, MergeState state) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JsonObject testCase = JsonParser.parseReader(reader).getAsJsonObject();
+            String oldId = testCase.get("id").getAsString();
+            String newId = TEST_PREFIX + (++state.testCounter);
+            testCase.addProperty("id", newId);
+
+            this.copyTestCaseFiles(reportFolder, outputFolder, oldId, newId);
+            JsonUtils.GSON.toJson(testCase, writer);
+            state.add(JsonUtils.GSON.fromJson(testCase, CatsTestCaseSummary.class));
+        }
+        reader.endArray();
+    }
+
+    private void copyTestCaseFiles(Path reportFolder, Path outputFolder, String oldId, String newId) throws IOException {
+        if (!TestCaseFiles.copyWithNewId(reportFolder, oldId, outputFolder, newId)) {
+            logger.warning("Test case file {} not found, only the summary entry will be merged", TestCaseFiles.jsonFile(reportFolder, oldId));
+        }
+    }
+
+    private void writeExecutionTimes(Path outputFolder, MergeState state) throws IOException {
+        List<TimeExecutionDetails> executionDetails = state.executionTimes.details();
+        Files.writeString(outputFolder.resolve(TestCaseExporter.EXECUTION_TIME_REPORT), JsonUtils.GSON.toJson(executionDetails), StandardCharsets.UTF_8);
+    }
+
+    private void copyHelperFiles(Path reportFolder, Path outputFolder) throws IOException {
+        try (Stream<Path> files = Files.walk(reportFolder)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Path relative = reportFolder.relativize(file);
+                String fileName = relative.toString();
+                if (relative.getNameCount() == 1 && (GENERATED_FILES.contains(fileName) || TEST_CASE_FILE.matcher(fileName).matches())) {
+                    continue;
+                }
+                Path target = outputFolder.resolve(relative);
+                Files.createDirectories(target.getParent());
+                Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private void writeSummaryPage(Path firstReportFolder, Path outputFolder, Path summaryPath, MergeState state) throws IOException {
+        long total = state.statistics.getAll();
+        Map<String, Object> context = new HashMap<>();
+        context.put("WARNINGS", TestCaseExporter.LARGE_NUMBER_FORMAT.format(state.statistics.getWarns()));
+        context.put("SUCCESS", TestCaseExporter.LARGE_NUMBER_FORMAT.format(state.statistics.getSuccess()));
+        context.put("ERRORS", TestCaseExporter.LARGE_NUMBER_FORMAT.format(state.statistics.getErrors()));
+        context.put("TOTAL", TestCaseExporter.LARGE_NUMBER_FORMAT.format(total));
+        context.put("TIMESTAMP", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        context.put("TIMESTAMP_ISO", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ISO_DATE_TIME));
+        context.put("TEST_CASES", (Iterable<CatsTestCaseSummary>) () -> new SummaryTestCasesIterator(summaryPath));
+        context.put("EXECUTION", Duration.ofSeconds(state.executionTime).toString().toLowerCase(Locale.ROOT).substring(2));
+        context.put("TIME", state.executionTime);
+        context.put("VERSION", state.catsVersion);
+        context.put("JS", true);
+        context.put("OS", System.getProperty("os.name") + "-" + System.getProperty("os.version") + "-" + System.getProperty("os.arch"));
+        context.put("AVERAGE_RESPONSE_TIME", TestCaseExporter.SINGLE_DECIMAL_FORMAT.format(state.sentRequests == 0 ? 0 : (double) state.totalTimeInMs / state.sentRequests));
+        context.put("WARN_PERCENTAGE", percentage(state.statistics.getWarns(), total));
+        context.put("ERROR_PERCENTAGE", percentage(state.statistics.getErrors(), total));
+        context.put("SUCCESS_PERCENTAGE", percentage(state.statistics.getSuccess(), total));
+        context.put("HTTP_METHODS", state.httpMethods);
+        context.put("FUZZERS", state.fuzzers.size());
+        context.put("TOTAL_FUZZERS", state.fuzzers.size());
+        context.put("PATHS", state.paths.size());
+        context.put("TOTAL_PATHS", state.paths.size());
+        context.put("GROUPED_TEST_CASES", state.clusters.clusters());
+
+        Map<Integer, Integer> responseCodeDistribution = state.statistics.getResponseCodeDistribution();
+        context.put("RESPONSE_CODE_DISTRIBUTION", TestCaseExporter.buildResponseCodeDistributionForTemplate(responseCodeDistribution));
+        context.put("HAS_RESPONSE_CODES", !responseCodeDistribution.isEmpty());
+
+        Map<String, Long> topFailingPaths = state.statistics.getTopFailingPaths(10);
+        context.put("TOP_FAILING_PATHS", TestCaseExporter.buildTopFailingPathsForTemplate(topFailingPaths));
+        context.put("HAS_FAILING_PATHS", !topFailingPaths.isEmpty());
+
+        Mustache template = Files.exists(firstReportFolder.resolve(CLUSTERS_STYLE))
+                ? TestCaseExporter.mustacheFactory.compile("summary-clusters.mustache")
+                : TestCaseExporter.SUMMARY_MUSTACHE;
+        try (Writer writer = Files.newBufferedWriter(outputFolder.resolve(TestCaseExporter.REPORT_HTML), StandardCharsets.UTF_8)) {
+            template.execute(writer, context);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static double percentage(long count, long total) {
+        return total == 0 ? 0 : (double) count / total * 100;
+    }
+
+    /**
+     * Aggregated data of the test cases merged so far.
+     */
+    private static final class MergeState {
+        private final ExecutionStatisticsListener statistics = new ExecutionStatisticsListener();
+        private final ClusterCompute.Accumulator clusters = new ClusterCompute.Accumulator(MAX_CLUSTER_LINKS_PER_PATH);
+        private final ExecutionTimes executionTimes = new ExecutionTimes();
+        private final Set<String> httpMethods = new TreeSet<>();
+        private final Set<String> fuzzers = new TreeSet<>();
+        private final Set<String> paths = new TreeSet<>();
+        private long testCounter;
+        private long executionTime;
+        private long totalTimeInMs;
+        private long sentRequests;
+        private String catsVersion;
+
+        void add(CatsTestCaseSummary summary) {
+            if (summary.getError()) {
+                statistics.increaseErrors(summary.getPath());
+            } else if ("success".equalsIgnoreCase(summary.getResult())) {
+                statistics.increaseSuccess(summary.getPath());
+            } else {
+                statistics.increaseWarns(summary.getPath());
+            }
+            statistics.recordResponseCode(summary.getHttpResponseCode());
+            clusters.add(summary);
+            httpMethods.add(summary.getHttpMethod());
+            fuzzers.add(summary.getFuzzer());
+            paths.add(summary.getPath());
+            if (!summary.isReusedResponse()) {
+                executionTimes.record(summary.getHttpMethod(), summary.getPath(), summary.getFuzzer(), summary.getId(), summary.getTimeToExecuteInMs());
+                totalTimeInMs += summary.getTimeToExecuteInMs();
+                sentRequests++;
+            }
+        }
+    }
+
+    /**
+     * Streams the test cases from a summary report, so that the summary page can be rendered without loading them all.
+     */
+    private static final class SummaryTestCasesIterator implements Iterator<CatsTestCaseSummary> {
+        private final JsonReader reader;
+        private boolean closed;
+
+        SummaryTestCasesIterator(Path summaryPath) {
+            try {
+                this.reader = new JsonReader(Files.newBufferedReader(summaryPath, StandardCharsets.UTF_8));
+                reader.beginObject();
+                while (!"testCases".equals(reader.nextName())) {
+                    reader.skipValue();
+                }
+                reader.beginArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (reader.hasNext()) {
+                    return true;
+                }
+                reader.close();
+                closed = true;
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public CatsTestCaseSummary next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return JsonUtils.GSON.fromJson(reader, CatsTestCaseSummary.class);
+        }
+    }
+}
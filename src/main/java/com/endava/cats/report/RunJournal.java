@@ -0,0 +1,294 @@
+package com.endava.cats.report;
+
+import com.endava.cats.http.HttpMethod;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Append-only journal of the completed (path, http method, fuzzer) work units, stored as NDJSON in the report folder.
+ * <p>
+ * The first line holds the seed of the run. Each following line is a completed work unit, identified by the index of its
+ * payload within the payloads generated for the path, along with the numbers of the test cases it created. Random streams are derived from the seed and the work unit coordinates, so the seed is the only
+ * random state needed to resume a run. Completed work units are written in groups, and the file is only synced to disk
+ * after at least {@value #GROUP_COMMIT_TESTS} test cases, so that journaling doesn't slow down the run.
+ * A crash loses at most the last group, whose work units are run again when resuming.
+ * </p>
+ * <p>
+ * When resuming, the test cases of the completed work units are {@link #renumberCompletedTests() renumbered} from 1, so that the
+ * test cases of the work units which did not complete leave no gaps, and the journal is rewritten with the new numbers.
+ * </p>
+ */
+@ApplicationScoped
+public class RunJournal {
+    public static final String JOURNAL_FILE = "cats-journal.ndjson";
+    static final int GROUP_COMMIT_TESTS = 256;
+    private static final Gson JOURNAL_GSON = new GsonBuilder().disableHtmlEscaping().create();
+    private static final ScopedValue<WorkUnit> CURRENT_WORK_UNIT = ScopedValue.newInstance();
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RunJournal.class);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Set<String> completedWorkUnits = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> completedTests = new TreeSet<>();
+    private final List<WorkUnit> loadedWorkUnits = new ArrayList<>();
+    private final StringBuilder pendingWorkUnits = new StringBuilder();
+    private int pendingTests;
+    private FileChannel channel;
+
+    @RegisterForReflection
+    private record Header(long seed) {
+    }
+
+    @RegisterForReflection
+    private record WorkUnit(String path, HttpMethod method, Integer payloadIndex, String fuzzer, List<Integer> tests) {
+    }
+
+    /**
+     * Loads the work units completed by a previous run.
+     *
+     * @param journalFile the journal of the previous run
+     * @return the seed of the previous run
+     * @throws IOException              if the journal cannot be read
+     * @throws IllegalArgumentException if the journal does not start with a valid header
+     */
+    public long load(Path journalFile) throws IOException {
+        completedWorkUnits.clear();
+        completedTests.clear();
+        loadedWorkUnits.clear();
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            Header header = parseHeader(journalFile, reader.readLine());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.loadWorkUnit(journalFile, line);
+            }
+            logger.debug("Loaded {} completed work units and {} test cases from {}", completedWorkUnits.size(), completedTests.size(), journalFile);
+            return header.seed();
+        }
+    }
+
+    private static Header parseHeader(Path journalFile, String line) {
+        try {
+            Header header = line == null ? null : JOURNAL_GSON.fromJson(line, Header.class);
+            if (header == null) {
+                throw new IllegalArgumentException("File %s is not a valid journal: missing header".formatted(journalFile));
+            }
+            return header;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("File %s is not a valid journal: invalid header".formatted(journalFile), e);
+        }
+    }
+
+    /**
+     * Lines not fully written before a crash are ignored. Their work units are run again.
+     */
+    private void loadWorkUnit(Path journalFile, String line) {
+        try {
+            if (line.isBlank()) {
+                return;
+            }
+            WorkUnit workUnit = JOURNAL_GSON.fromJson(line, WorkUnit.class);
+            if (workUnit == null || workUnit.path() == null || workUnit.method() == null || workUnit.payloadIndex() == null || workUnit.fuzzer() == null) {
+                return;
+            }
+            List<Integer> tests = workUnit.tests() == null ? List.of() : workUnit.tests();
+            completedWorkUnits.add(key(workUnit.path(), workUnit.method(), workUnit.payloadIndex(), workUnit.fuzzer()));
+            completedTests.addAll(tests);
+            loadedWorkUnits.add(new WorkUnit(workUnit.path(), workUnit.method(), workUnit.payloadIndex(), workUnit.fuzzer(), tests));
+        } catch (JsonParseException _) {
+            logger.debug("Ignoring incomplete journal line from {}: {}", journalFile, line);
+        }
+    }
+
+    /**
+     * Starts recording completed work units.
+     *
+     * @param journalFile the journal file
+     * @param seed        the seed of the run
+     * @param resume      if true, the journal is rewritten with the work units loaded using {@link #load(Path)} and new work units are
+     *                    appended to it, otherwise the journal is created from scratch
+     * @throws IOException if the journal cannot be opened
+     */
+    public void start(Path journalFile, long seed, boolean resume) throws IOException {
+        writeLock.lock();
+        try {
+            pendingWorkUnits.setLength(0);
+            pendingTests = 0;
+            if (!resume) {
+                completedWorkUnits.clear();
+                completedTests.clear();
+                loadedWorkUnits.clear();
+            }
+            /* the journal is written to a temporary file first, so that a crash while rewriting it doesn't lose the completed work units */
+            Path rewrittenJournal = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+            channel = FileChannel.open(rewrittenJournal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            pendingWorkUnits.append(JOURNAL_GSON.toJson(new Header(seed))).append(System.lineSeparator());
+            loadedWorkUnits.forEach(workUnit -> pendingWorkUnits.append(JOURNAL_GSON.toJson(workUnit)).append(System.lineSeparator()));
+            this.commit();
+            channel.close();
+            Files.move(rewrittenJournal, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the numbers of the test cases created by the work units completed in the previous run.
+     *
+     * @return the test case numbers, in ascending order
+     */
+    public Set<Integer> getCompletedTests() {
+        return Collections.unmodifiableSet(completedTests);
+    }
+
+    /**
+     * Renumbers the test cases of the work units completed by the previous run from 1, keeping their order, so that the numbers
+     * of the test cases created by work units which did not complete are reused by the resumed run. The journal is rewritten with
+     * the new numbers by {@link #start(Path, long, boolean)}.
+     *
+     * @return the new number of each test case, keyed by its number in the previous run, in ascending order
+     */
+    public Map<Integer, Integer> renumberCompletedTests() {
+        Map<Integer, Integer> newNumbers = new LinkedHashMap<>();
+        completedTests.forEach(testNumber -> newNumbers.put(testNumber, newNumbers.size() + 1));
+        loadedWorkUnits.replaceAll(workUnit -> new WorkUnit(workUnit.path(), workUnit.method(), workUnit.payloadIndex(), workUnit.fuzzer(),
+                workUnit.tests().stream().map(newNumbers::get).toList()));
+        completedTests.clear();
+        completedTests.addAll(newNumbers.values());
+        return newNumbers;
+    }
+
+    /**
+     * Checks if the work unit was completed by the previous run. A path can have several payloads for the same http method,
+     * so work units are matched by the index of their payload, which doesn't depend on the order in which work units completed.
+     *
+     * @param path         the contract path
+     * @param method       the http method
+     * @param payloadIndex the index of the payload within the payloads generated for the path
+     * @param fuzzer       the fuzzer
+     * @return true if the work unit must be skipped, false otherwise
+     */
+    public boolean skipCompleted(String path, HttpMethod method, int payloadIndex, String fuzzer) {
+        return completedWorkUnits.contains(key(path, method, payloadIndex, fuzzer));
+    }
+
+    /**
+     * Runs the work unit and records it as completed. Nothing is recorded if the work unit fails, reports that it did not run
+     * all its test cases, or the journal is not started.
+     *
+     * @param path         the contract path
+     * @param method       the http method
+     * @param payloadIndex the index of the payload within the payloads generated for the path
+     * @param fuzzer       the fuzzer
+     * @param workUnit     the work unit, returning true if all its test cases were run
+     */
+    public void runWorkUnit(String path, HttpMethod method, int payloadIndex, String fuzzer, BooleanSupplier workUnit) {
+        WorkUnit current = new WorkUnit(path, method, payloadIndex, fuzzer, Collections.synchronizedList(new ArrayList<>()));
+        if (ScopedValue.where(CURRENT_WORK_UNIT, current).call(workUnit::getAsBoolean)) {
+            this.append(current);
+        }
+    }
+
+    /**
+     * Records a test case against the work unit running on the current thread, if any.
+     *
+     * @param testNumber the test case number
+     */
+    public void recordTest(int testNumber) {
+        if (CURRENT_WORK_UNIT.isBound()) {
+            CURRENT_WORK_UNIT.get().tests().add(testNumber);
+        }
+    }
+
+    /**
+     * Wraps the given task so that test cases it runs on a different thread are recorded against the work unit
+     * running on the calling thread, if any.
+     *
+     * @param task the task to wrap
+     * @param <T>  the type of the task result
+     * @return a task running within the work unit of the calling thread
+     */
+    public <T> Supplier<T> propagateWorkUnit(Supplier<T> task) {
+        if (!CURRENT_WORK_UNIT.isBound()) {
+            return task;
+        }
+        WorkUnit callerWorkUnit = CURRENT_WORK_UNIT.get();
+        return () -> ScopedValue.where(CURRENT_WORK_UNIT, callerWorkUnit).call(task::get);
+    }
+
+    private void append(WorkUnit workUnit) {
+        writeLock.lock();
+        try {
+            if (channel == null) {
+                return;
+            }
+            pendingWorkUnits.append(JOURNAL_GSON.toJson(workUnit)).append(System.lineSeparator());
+            pendingTests += workUnit.tests().size();
+            if (pendingTests >= GROUP_COMMIT_TESTS) {
+                this.commit();
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to write the run journal, resuming will re-run recent work units: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void commit() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(pendingWorkUnits.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        pendingWorkUnits.setLength(0);
+        pendingTests = 0;
+    }
+
+    /**
+     * Writes the pending work units and closes the journal.
+     */
+    public void close() {
+        writeLock.lock();
+        try {
+            if (channel == null) {
+                return;
+            }
+            this.commit();
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("Unable to write the run journal: {}", e.getMessage());
+        } finally {
+            channel = null;
+            writeLock.unlock();
+        }
+    }
+
+    private static String key(String path, HttpMethod method, int payloadIndex, String fuzzer) {
+        return path + " " + method + " " + payloadIndex + " " + fuzzer;
+    }
+}
@@ -0,0 +1,231 @@
+package com.endava.cats.report;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Time budget of a run, supplied through {@code --maxRunTime}.
+ * <p>
+ * When the first work unit of a path starts, the path gets a fair share of the remaining time: the remaining time divided by
+ * the number of paths not started yet, multiplied by the number of paths running at the same time. The time slice of the path
+ * is then split between its (http method, fuzzer) work units proportionally to the number of tests they are expected to run,
+ * taking into account how many work units of the path run at the same time.
+ * Once a work unit exhausted its slice, only one out of {@value #SAMPLE_EVERY} of its remaining test cases is executed, so that
+ * all payloads still get some coverage. No test case is executed after the budget of the run is exhausted.
+ * </p>
+ * <p>
+ * Each skipped test case is recorded against its work unit, so that the report says exactly what was not executed.
+ * Work units which skipped test cases are not complete, so they are not recorded in the run journal and are run again when resuming.
+ * </p>
+ */
+@ApplicationScoped
+public class RunTimeBudget {
+    public static final String TIME_BUDGET_REPORT = "cats-time-budget.json";
+    static final int SAMPLE_EVERY = 10;
+    private static final ScopedValue<WorkUnitSlice> CURRENT_SLICE = ScopedValue.newInstance();
+
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, PathSlice> pathSlices = new ConcurrentHashMap<>();
+    private final Map<String, BudgetedWorkUnit> workUnits = new ConcurrentHashMap<>();
+    private long deadline;
+    private int concurrentPaths;
+    private int concurrentWorkUnitsPerPath;
+    private int pathsNotStarted;
+    private boolean enabled;
+
+    /**
+     * Creates a budget using the system clock.
+     */
+    public RunTimeBudget() {
+        this(System::currentTimeMillis);
+    }
+
+    RunTimeBudget(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Test cases executed and skipped by a (path, http method, fuzzer) work unit.
+     *
+     * @param path       the contract path
+     * @param httpMethod the http method
+     * @param fuzzer     the fuzzer
+     * @param executed   the number of executed test cases
+     * @param skipped    the number of test cases skipped because of the time budget
+     */
+    @RegisterForReflection
+    public record BudgetedWorkUnit(String path, HttpMethod httpMethod, String fuzzer, AtomicLong executed, AtomicLong skipped) {
+    }
+
+    private record PathSlice(long estimatedTests, AtomicLong sliceInMs) {
+    }
+
+    private record WorkUnitSlice(BudgetedWorkUnit workUnit, long deadline, AtomicLong overBudget, AtomicLong skipped) {
+    }
+
+    /**
+     * Starts the budget of the run. A non-positive max run time disables the budget.
+     *
+     * @param maxRunTimeInSec the time budget of the run in seconds
+     * @param paths           the number of paths that will be fuzzed
+     * @param concurrentPaths the maximum number of paths fuzzed at the same time
+     * @param parallelism     the maximum number of work units running at the same time
+     */
+    public void start(long maxRunTimeInSec, int paths, int concurrentPaths, int parallelism) {
+        lock.lock();
+        try {
+            pathSlices.clear();
+            workUnits.clear();
+            this.enabled = maxRunTimeInSec > 0;
+            this.deadline = clock.getAsLong() + maxRunTimeInSec * 1000;
+            this.pathsNotStarted = Math.max(1, paths);
+            this.concurrentPaths = Math.max(1, concurrentPaths);
+            this.concurrentWorkUnitsPerPath = Math.max(1, parallelism / this.concurrentPaths);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if a time budget was supplied.
+     *
+     * @return true if the run has a time budget, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers the number of tests the work units of a path are expected to run. The time slice of the path is only
+     * computed when its first work unit starts.
+     *
+     * @param path           the contract path
+     * @param estimatedTests the expected number of tests for all the work units of the path
+     */
+    public void registerPath(String path, long estimatedTests) {
+        if (enabled) {
+            pathSlices.put(path, new PathSlice(Math.max(1, estimatedTests), new AtomicLong(-1)));
+        }
+    }
+
+    /**
+     * Runs the work unit within its share of the time slice of the path.
+     *
+     * @param path           the contract path
+     * @param method         the http method
+     * @param fuzzer         the fuzzer
+     * @param estimatedTests the expected number of tests for the work unit
+     * @param workUnit       the work unit
+     * @return true if all the test cases of the work unit were executed, false if some were skipped because of the time budget
+     */
+    public boolean runWorkUnit(String path, HttpMethod method, String fuzzer, long estimatedTests, Runnable workUnit) {
+        if (!enabled) {
+            workUnit.run();
+            return true;
+        }
+        BudgetedWorkUnit budgetedWorkUnit = workUnits.computeIfAbsent(path + " " + method + " " + fuzzer,
+                _ -> new BudgetedWorkUnit(path, method, fuzzer, new AtomicLong(), new AtomicLong()));
+        long now = clock.getAsLong();
+        long workUnitDeadline = Math.min(deadline, now + this.allowanceInMs(path, estimatedTests, now));
+
+        WorkUnitSlice slice = new WorkUnitSlice(budgetedWorkUnit, workUnitDeadline, new AtomicLong(), new AtomicLong());
+        ScopedValue.where(CURRENT_SLICE, slice).run(workUnit);
+
+        return slice.skipped().get() == 0;
+    }
+
+    /**
+     * Wraps the given task so that test cases it runs on a different thread are admitted within the time slice
+     * of the work unit running on the calling thread, if any.
+     *
+     * @param task the task to wrap
+     * @param <T>  the type of the task result
+     * @return a task running within the time slice of the calling thread
+     */
+    public <T> Supplier<T> propagateSlice(Supplier<T> task) {
+        if (!CURRENT_SLICE.isBound()) {
+            return task;
+        }
+        WorkUnitSlice callerSlice = CURRENT_SLICE.get();
+        return () -> ScopedValue.where(CURRENT_SLICE, callerSlice).call(task::get);
+    }
+
+    /**
+     * Computed in double as test estimates multiplied by long budgets can overflow.
+     */
+    private long allowanceInMs(String path, long estimatedTests, long now) {
+        PathSlice pathSlice = pathSlices.computeIfAbsent(path, _ -> new PathSlice(Math.max(1, estimatedTests), new AtomicLong(-1)));
+        long sliceInMs = this.startPathIfNeeded(pathSlice, now);
+        double share = Math.min(1d, (double) Math.max(1, estimatedTests) * concurrentWorkUnitsPerPath / pathSlice.estimatedTests());
+
+        return (long) (sliceInMs * share);
+    }
+
+    private long startPathIfNeeded(PathSlice pathSlice, long now) {
+        lock.lock();
+        try {
+            if (pathSlice.sliceInMs().get() < 0) {
+                long remainingInMs = Math.max(0, deadline - now);
+                int remainingPaths = Math.max(1, pathsNotStarted);
+                double fairShare = (double) Math.min(concurrentPaths, remainingPaths) / remainingPaths;
+                pathSlice.sliceInMs().set((long) (remainingInMs * fairShare));
+                pathsNotStarted = Math.max(0, pathsNotStarted - 1);
+            }
+            return pathSlice.sliceInMs().get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decides if the next test case of the work unit running on the current thread can be executed.
+     * Test cases running outside scheduled work units are always executed while there is time left in the budget.
+     *
+     * @return true if the test case must be executed, false if it must be skipped
+     */
+    public boolean admitTestCase() {
+        if (!enabled) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        if (!CURRENT_SLICE.isBound()) {
+            return now < deadline;
+        }
+        WorkUnitSlice slice = CURRENT_SLICE.get();
+        boolean admitted = now < slice.deadline()
+                || (now < deadline && slice.overBudget().getAndIncrement() % SAMPLE_EVERY == 0);
+
+        if (admitted) {
+            slice.workUnit().executed().incrementAndGet();
+        } else {
+            slice.workUnit().skipped().incrementAndGet();
+            slice.skipped().incrementAndGet();
+        }
+        return admitted;
+    }
+
+    /**
+     * Gets the work units which skipped test cases because of the time budget, the ones with most skipped test cases first.
+     *
+     * @return the work units with skipped test cases
+     */
+    public List<BudgetedWorkUnit> getSkippedWorkUnits() {
+        return workUnits.values().stream()
+                .filter(workUnit -> workUnit.skipped().get() > 0)
+                .sorted(Comparator.comparingLong((BudgetedWorkUnit workUnit) -> workUnit.skipped().get()).reversed()
+                        .thenComparing(BudgetedWorkUnit::path)
+                        .thenComparing(BudgetedWorkUnit::fuzzer))
+                .toList();
+    }
+}
@@ -6,10 +6,8 @@ import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.model.CatsConfiguration;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.CatsTestReport;
-import com.endava.cats.model.TimeExecution;
 import com.endava.cats.model.TimeExecutionDetails;
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.endava.cats.util.AnsiUtils;
@@ -17,6 +15,7 @@ import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.util.KeyValueSerializer;
 import com.endava.cats.util.LongTypeSerializer;
+import com.endava.cats.util.RawJsonBodyTypeAdapterFactory;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
@@ -47,12 +46,12 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -66,12 +65,13 @@ public abstract class TestCaseExporter {
     static final String REPORT_HTML = "index.html";
     static final MustacheFactory mustacheFactory = new DefaultMustacheFactory();
     static final Mustache SUMMARY_MUSTACHE = mustacheFactory.compile("summary.mustache");
-    private static final String REPORT_JS = "cats-summary-report.json";
-    private static final String EXECUTION_TIME_REPORT = "execution_times.json";
+    static final String REPORT_JS = "cats-summary-report.json";
+    static final String EXECUTION_TIME_REPORT = "execution_times.json";
     private static final String HTML = ".html";
     private static final String JSON = ".json";
     private static final Mustache TEST_CASE_MUSTACHE = mustacheFactory.compile("test-case.mustache");
     private static final String STACKTRACE = "Stacktrace";
+    private static final int MAX_TIME_BUDGET_ENTRIES_IN_CONSOLE = 10;
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseExporter.class);
 
     final ReportingArguments reportingArguments;
@@ -82,8 +82,8 @@ public abstract class TestCaseExporter {
     private Path reportingPath;
     private long t0;
     private final Gson maskingSerializer;
-    private static final DecimalFormat LARGE_NUMBER_FORMAT;
-    private static final DecimalFormat SINGLE_DECIMAL_FORMAT = new DecimalFormat("#0.0");
+    static final DecimalFormat LARGE_NUMBER_FORMAT;
+    static final DecimalFormat SINGLE_DECIMAL_FORMAT = new DecimalFormat("#0.0");
 
     @Getter
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
@@ -121,6 +121,7 @@ public abstract class TestCaseExporter {
                 .setExclusionStrategies(new ExcludeTestCaseStrategy())
                 .registerTypeAdapter(Long.class, new LongTypeSerializer())
                 .registerTypeAdapter(KeyValuePair.class, new KeyValueSerializer(reportingArguments.getMaskedHeaders()))
+                .registerTypeAdapterFactory(new RawJsonBodyTypeAdapterFactory())
                 .serializeNulls()
                 .create();
         this.osDetails = System.getProperty("os.name") + "-" + System.getProperty("os.version") + "-" + System.getProperty("os.arch");
@@ -140,7 +141,7 @@ public abstract class TestCaseExporter {
         String subFolder = reportingArguments.isTimestampReports() ? String.valueOf(System.currentTimeMillis()) : "";
         reportingPath = Paths.get(outputFolder, subFolder);
 
-        if (!reportingArguments.isTimestampReports() && reportingPath.toFile().exists()) {
+        if (!reportingArguments.isTimestampReports() && !reportingArguments.isResume() && reportingPath.toFile().exists()) {
             deleteFiles(reportingPath);
         }
         if (!reportingPath.toFile().exists()) {
@@ -191,73 +192,78 @@ public abstract class TestCaseExporter {
      * Writes performance statistics for the executed test cases, including execution time details.
      * The method checks if printing execution statistics is enabled in the reporting arguments before generating and printing the report.
      *
-     * @param executionSummaries a map containing the summaries of executed test cases
+     * @param executionTimes the execution times of the test cases, per path, http method and fuzzer
      */
-    public void writePerformanceReport(List<CatsTestCaseExecutionSummary> executionSummaries) {
+    public void writePerformanceReport(ExecutionTimes executionTimes) {
         if (reportingArguments.isPrintExecutionStatistics()) {
-            Map<String, List<CatsTestCaseExecutionSummary>> executionDetails = extractExecutionDetails(executionSummaries);
+            List<TimeExecutionDetails> executionDetails = executionTimes.details();
 
             ConsoleUtils.renderHeader(" Execution time details ");
             ConsoleUtils.emptyLine();
-            executionDetails.forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            executionDetails.stream()
+                    .filter(details -> details.getCount() > 1)
+                    .forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            this.writeExecutionTimesReport(executionDetails);
         } else {
             ConsoleUtils.emptyLine();
             logger.info("Skip printing time execution statistics. You can use --printExecutionStatistics to enable this feature!");
         }
     }
 
-    private Map<String, List<CatsTestCaseExecutionSummary>> extractExecutionDetails(List<CatsTestCaseExecutionSummary> summaries) {
-        return summaries
-                .stream()
-                .collect(Collectors.groupingBy(testCase -> testCase.httpMethod() + " " + testCase.path()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().size() > 1)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * Writes the test cases skipped because of the {@code --maxRunTime} budget, per (path, http method, fuzzer).
+     * The console only lists the work units with most skipped test cases, the full list is written to {@value RunTimeBudget#TIME_BUDGET_REPORT}.
+     *
+     * @param skippedWorkUnits the work units which skipped test cases, the ones with most skipped test cases first
+     */
+    public void writeTimeBudgetReport(List<RunTimeBudget.BudgetedWorkUnit> skippedWorkUnits) {
+        ConsoleUtils.emptyLine();
+        if (skippedWorkUnits.isEmpty()) {
+            logger.info("All test cases were executed within the --maxRunTime budget");
+        } else {
+            long skipped = skippedWorkUnits.stream().mapToLong(workUnit -> workUnit.skipped().get()).sum();
+            logger.info("{} test cases were skipped due to --maxRunTime. Work units with most skipped test cases:", AnsiUtils.yellow(skipped));
+            skippedWorkUnits.stream()
+                    .limit(MAX_TIME_BUDGET_ENTRIES_IN_CONSOLE)
+                    .forEach(workUnit -> logger.noFormat(" {} {} {} {}: {} skipped, {} executed", AnsiUtils.yellow("◼"), workUnit.fuzzer(),
+                            workUnit.httpMethod(), workUnit.path(), workUnit.skipped().get(), workUnit.executed().get()));
+        }
+        try {
+            Files.write(Paths.get(reportingPath.toFile().getAbsolutePath(), RunTimeBudget.TIME_BUDGET_REPORT), maskingSerializer.toJson(skippedWorkUnits).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("There was an issue writing the {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    RunTimeBudget.TIME_BUDGET_REPORT, e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.debug(STACKTRACE, e);
+        }
     }
 
-    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCaseExecutionSummary> value) {
-        double average = value.stream().mapToLong(CatsTestCaseExecutionSummary::responseTimeInMs).average().orElse(0);
-        List<CatsTestCaseExecutionSummary> sortedRuns = value.stream()
-                .sorted(Comparator.comparingLong(CatsTestCaseExecutionSummary::responseTimeInMs))
-                .toList();
-
-        CatsTestCaseExecutionSummary bestCaseTestCase = sortedRuns.getFirst();
-        CatsTestCaseExecutionSummary worstCaseTestCase = sortedRuns.getLast();
-        List<TimeExecution> executions = sortedRuns.stream()
-                .map(tetCase -> TimeExecution.builder()
-                        .testId(tetCase.testId())
-                        .executionInMs(tetCase.responseTimeInMs())
-                        .build())
-                .toList();
-
-        TimeExecutionDetails timeExecutionDetails = TimeExecutionDetails.builder().average(average)
-                .path(key).bestCase(TimeExecution.builder()
-                        .testId(bestCaseTestCase.testId())
-                        .executionInMs(bestCaseTestCase.responseTimeInMs())
-                        .build())
-                .worstCase(TimeExecution.builder()
-                        .testId(worstCaseTestCase.testId())
-                        .executionInMs(worstCaseTestCase.responseTimeInMs())
-                        .build())
-                .executions(executions).build();
-
-
+    private void writeExecutionTimesForPathAndHttpMethod(TimeExecutionDetails timeExecutionDetails) {
         logger.info("Details for path {} ", AnsiUtils.green(timeExecutionDetails.getPath()));
         logger.timer(AnsiUtils.yellow("Average response time: {}ms"), AnsiUtils.bold(NumberFormat.getInstance().format(timeExecutionDetails.getAverage())));
+        logger.timer(AnsiUtils.yellow("Response time percentiles: {}"), AnsiUtils.bold(percentilesString(timeExecutionDetails)));
         logger.timer(AnsiUtils.red("Worst case response time: {}"), AnsiUtils.bold(timeExecutionDetails.getWorstCase().executionTimeString()));
         logger.timer(AnsiUtils.green("Best case response time: {}"), AnsiUtils.bold(timeExecutionDetails.getBestCase().executionTimeString()));
         ConsoleUtils.emptyLine();
 
         if (reportingArguments.isPrintDetailedExecutionStatistics()) {
-            logger.timer("{} executed tests (sorted by response time):  {}", timeExecutionDetails.getExecutions().size(), timeExecutionDetails.getExecutions());
+            logger.timer("{} executed tests, response time percentiles per fuzzer:", timeExecutionDetails.getCount());
+            timeExecutionDetails.getFuzzers().forEach(fuzzerDetails -> logger.noFormat("  {} ({} tests): {}",
+                    fuzzerDetails.getFuzzer(), fuzzerDetails.getCount(), percentilesString(fuzzerDetails)));
             logger.noFormat(" ");
         }
+    }
+
+    private static String percentilesString(TimeExecutionDetails timeExecutionDetails) {
+        return "p50 %dms, p90 %dms, p99 %dms, p99.9 %dms".formatted(timeExecutionDetails.getP50(), timeExecutionDetails.getP90(),
+                timeExecutionDetails.getP99(), timeExecutionDetails.getP999());
+    }
+
+    private void writeExecutionTimesReport(List<TimeExecutionDetails> executionDetails) {
         try {
-            Files.write(Paths.get(reportingPath.toFile().getAbsolutePath(), EXECUTION_TIME_REPORT), maskingSerializer.toJson(timeExecutionDetails).getBytes(StandardCharsets.UTF_8));
+            Files.write(Paths.get(reportingPath.toFile().getAbsolutePath(), EXECUTION_TIME_REPORT), maskingSerializer.toJson(executionDetails).getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
-            logger.warning("There was an issue writing the execution_times.js: {}. Please check if CATS has proper right to write in the report location: {}",
-                    e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.warning("There was an issue writing the {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    EXECUTION_TIME_REPORT, e.getMessage(), reportingPath.toFile().getAbsolutePath());
             logger.debug(STACKTRACE, e);
         }
     }
@@ -298,6 +304,12 @@ public abstract class TestCaseExporter {
                     executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors());
         }
 
+        if (executionStatisticsListener.getThrottledRetries() > 0) {
+            String throttledTime = Duration.ofMillis(executionStatisticsListener.getThrottledTimeInMs()).toString().toLowerCase(Locale.ROOT).substring(2);
+            logger.complete(AnsiUtils.boldYellow("Service throttled {} requests which were retried after waiting {} in total"),
+                    executionStatisticsListener.getThrottledRetries(), throttledTime);
+        }
+
         // Print quality gate result
         boolean qualityGatePassed = !qualityGateArguments.shouldFailBuild(executionStatisticsListener.getErrors(), executionStatisticsListener.getWarns());
         String qualityGateStatus = qualityGatePassed
@@ -321,7 +333,11 @@ public abstract class TestCaseExporter {
      */
     public void writeSummary(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
         CatsTestReport report = this.createTestReport(summaries, executionStatisticsListener);
-        double averageResponseTime = summaries.stream().mapToDouble(CatsTestCaseSummary::getTimeToExecuteInMs).sum() / summaries.size();
+        double averageResponseTime = summaries.stream()
+                .filter(summary -> !summary.isReusedResponse())
+                .mapToDouble(CatsTestCaseSummary::getTimeToExecuteInMs)
+                .average()
+                .orElse(0);
 
         Map<String, Object> context = new HashMap<>();
         context.put("WARNINGS", LARGE_NUMBER_FORMAT.format(report.getWarnings()));
@@ -392,7 +408,9 @@ public abstract class TestCaseExporter {
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
                 .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
-                .catsVersion(appVersion).build();
+                .catsVersion(appVersion)
+                .shard(Optional.ofNullable(catsGlobalContext.getCatsConfiguration()).map(CatsConfiguration::shard).orElse(null))
+                .build();
     }
 
     /**
@@ -504,7 +522,7 @@ public abstract class TestCaseExporter {
     }
 
 
-    private List<Map<String, Object>> buildResponseCodeDistributionForTemplate(Map<Integer, Integer> distribution) {
+    static List<Map<String, Object>> buildResponseCodeDistributionForTemplate(Map<Integer, Integer> distribution) {
         return distribution.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .map(entry -> {
@@ -517,7 +535,7 @@ public abstract class TestCaseExporter {
                 .toList();
     }
 
-    private String getResponseCodeFamily(int code) {
+    private static String getResponseCodeFamily(int code) {
         if (code >= 200 && code < 300) return "2xx";
         if (code >= 300 && code < 400) return "3xx";
         if (code >= 400 && code < 500) return "4xx";
@@ -525,7 +543,7 @@ public abstract class TestCaseExporter {
         return "other";
     }
 
-    private List<Map<String, Object>> buildTopFailingPathsForTemplate(Map<String, Long> topFailingPaths) {
+    static List<Map<String, Object>> buildTopFailingPathsForTemplate(Map<String, Long> topFailingPaths) {
         return topFailingPaths.entrySet().stream()
                 .map(entry -> {
                     Map<String, Object> item = new HashMap<>();
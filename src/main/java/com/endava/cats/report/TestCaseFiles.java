@@ -0,0 +1,78 @@
+package com.endava.cats.report;
+
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The files written for each test case, {@code TestN.json} and {@code TestN.html}, where {@code Test N} is the test id.
+ */
+final class TestCaseFiles {
+    private static final String JSON = ".json";
+    private static final String HTML = ".html";
+
+    private TestCaseFiles() {
+        //ntd
+    }
+
+    /**
+     * Copies the files of a test case under a new test id, replacing the old id within the files.
+     * The source and target folders can be the same, in which case the files of the old id are kept.
+     *
+     * @param sourceFolder the folder holding the test case files
+     * @param oldId        the current test id, like {@code Test 3}
+     * @param targetFolder the folder where the files are copied
+     * @param newId        the new test id, like {@code Test 1}
+     * @return true if the test case has a json file, false otherwise
+     * @throws IOException if the files cannot be read or written
+     */
+    static boolean copyWithNewId(Path sourceFolder, String oldId, Path targetFolder, String newId) throws IOException {
+        String oldKey = oldId.replace(" ", "");
+        String newKey = newId.replace(" ", "");
+        boolean jsonFound = false;
+
+        Path jsonFile = sourceFolder.resolve(oldKey + JSON);
+        if (Files.isRegularFile(jsonFile)) {
+            JsonElement testCase;
+            try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+                testCase = JsonParser.parseReader(reader);
+            }
+            if (testCase.isJsonObject()) {
+                testCase.getAsJsonObject().addProperty("testId", newId);
+            }
+            try (Writer writer = Files.newBufferedWriter(targetFolder.resolve(newKey + JSON), StandardCharsets.UTF_8)) {
+                JsonUtils.GSON.toJson(testCase, writer);
+            }
+            jsonFound = true;
+        }
+
+        Path htmlFile = sourceFolder.resolve(oldKey + HTML);
+        if (Files.isRegularFile(htmlFile)) {
+            Pattern testIdPattern = Pattern.compile("\\b(" + Pattern.quote(oldId) + "|" + Pattern.quote(oldKey) + ")\\b");
+            String content = testIdPattern.matcher(Files.readString(htmlFile, StandardCharsets.UTF_8))
+                    .replaceAll(match -> Matcher.quoteReplacement(match.group().equals(oldKey) ? newKey : newId));
+            Files.writeString(targetFolder.resolve(newKey + HTML), content, StandardCharsets.UTF_8);
+        }
+        return jsonFound;
+    }
+
+    /**
+     * Gets the json file of a test case.
+     *
+     * @param folder the folder holding the test case files
+     * @param testId the test id, like {@code Test 1}
+     * @return the path of the json file
+     */
+    static Path jsonFile(Path folder, String testId) {
+        return folder.resolve(testId.replace(" ", "") + JSON);
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.annotations.StatefulFuzzer;
 import com.endava.cats.args.FilterArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
@@ -14,13 +15,16 @@ import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsResultFactory;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.TestCaseContext;
+import com.endava.cats.util.AnnotationUtils;
 import com.endava.cats.util.AnsiUtils;
+import com.endava.cats.util.CatsRandom;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.CyclingCharIterator;
+import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.WordUtils;
 import com.endava.cats.util.external.MediaType;
 import com.google.gson.JsonArray;
@@ -36,21 +40,25 @@ import org.slf4j.MDC;
 import org.slf4j.event.Level;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static com.endava.cats.context.CatsGlobalContext.CONTRACT_PATH;
 import static com.endava.cats.context.CatsGlobalContext.HTTP_METHOD;
@@ -69,10 +77,11 @@ public class TestCaseListener {
     private static final String FUZZER = "fuzzer";
     private static final String ID_ANSI = "id_ansi";
     static final AtomicInteger TEST = new AtomicInteger(0);
+    static final ScopedValue<TestCaseContext> CURRENT_TEST_CASE = ScopedValue.newInstance();
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501", "413", "431");
     private static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
     private static final List<String> CONTENT_TYPE_DONT_MATCH_SCHEMA = List.of("application/csv", "application/pdf");
-    final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test(\\d+)\\.(json|html)");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
@@ -81,8 +90,10 @@ public class TestCaseListener {
     private final IgnoreArguments ignoreArguments;
     private final ReportingArguments reportingArguments;
     private final FilterArguments filterArguments;
-    final List<CatsTestCaseSummary> testCaseSummaryDetails = new ArrayList<>();
-    final List<CatsTestCaseExecutionSummary> testCaseExecutionDetails = new ArrayList<>();
+    private final RunJournal runJournal;
+    private final RunTimeBudget runTimeBudget;
+    final List<CatsTestCaseSummary> testCaseSummaryDetails = Collections.synchronizedList(new ArrayList<>());
+    final ExecutionTimes executionTimes = new ExecutionTimes();
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -91,7 +102,7 @@ public class TestCaseListener {
     @ConfigProperty(name = "app.timestamp", defaultValue = "1-1-1")
     String appBuildTime;
 
-    private final Deque<String> runPerPathListener = new ArrayDeque<>();
+    private final Deque<String> runPerPathListener = new ConcurrentLinkedDeque<>();
 
     /**
      * Constructs a TestCaseListener with the provided dependencies and configuration.
@@ -102,15 +113,19 @@ public class TestCaseListener {
      * @param ignoreArguments      the arguments for ignoring test cases
      * @param reportingArguments   the arguments for reporting test cases
      * @param filterArguments      the arguments for filtering fuzzers
+     * @param runJournal           the journal recording the test cases of completed work units
+     * @param runTimeBudget        the time budget deciding which test cases are executed
      * @throws NoSuchElementException if no matching exporter is found for the specified report format
      */
-    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, TestReportsGenerator testReportsGenerator, IgnoreArguments ignoreArguments, ReportingArguments reportingArguments, FilterArguments filterArguments) {
+    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, TestReportsGenerator testReportsGenerator, IgnoreArguments ignoreArguments, ReportingArguments reportingArguments, FilterArguments filterArguments, RunJournal runJournal, RunTimeBudget runTimeBudget) {
         this.executionStatisticsListener = er;
         this.testReportsGenerator = testReportsGenerator;
         this.ignoreArguments = ignoreArguments;
         this.globalContext = catsGlobalContext;
         this.reportingArguments = reportingArguments;
         this.filterArguments = filterArguments;
+        this.runJournal = runJournal;
+        this.runTimeBudget = runTimeBudget;
     }
 
     private static String replaceBrackets(String message, Object... params) {
@@ -155,23 +170,80 @@ public class TestCaseListener {
     /**
      * Creates and executes a test by running the provided runnable.
      * Logs test start, catches exceptions during execution, logs results, and performs necessary cleanup.
+     * The test runs with its own random stream, derived from the stream of the calling fuzzer and the index of the test within it.
+     * Tests not admitted by the {@code --maxRunTime} budget are skipped without getting a test number.
      *
      * @param externalLogger the external logger for logging test-related information
      * @param fuzzer         the fuzzer associated with the test
      * @param s              the runnable representing the test logic
      */
     public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s, FuzzingData data) {
-        this.startTestCase(data);
-        try {
-            s.run();
-        } catch (Exception e) {
-            CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
-            this.reportResultError(externalLogger, data, catsResult.reason(), catsResult.message());
-            externalLogger.error("Exception while processing: {}", e.getMessage());
-            externalLogger.debug("Detailed stacktrace", e);
-            this.checkForIOErrors(e);
+        long testCaseSeed = CatsRandom.nextChildSeed();
+        if (!runTimeBudget.admitTestCase()) {
+            return;
+        }
+        TestCaseContext testCaseContext = this.startTestCase(data, fuzzer);
+        CatsRandom.runInStream(testCaseSeed, () -> ScopedValue.where(CURRENT_TEST_CASE, testCaseContext).run(() -> {
+            try {
+                s.run();
+            } catch (Exception e) {
+                CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
+                this.reportResultError(externalLogger, data, catsResult.reason(), catsResult.message());
+                externalLogger.error("Exception while processing: {}", e.getMessage());
+                externalLogger.debug("Detailed stacktrace", e);
+                this.checkForIOErrors(e);
+            }
+            this.endTestCase(testCaseContext);
+        }));
+    }
+
+    /**
+     * Returns the context of the test case being executed by the current thread.
+     *
+     * @return the current test case context
+     * @throws NoSuchElementException if called outside a test case
+     */
+    public TestCaseContext currentTestCaseContext() {
+        return CURRENT_TEST_CASE.get();
+    }
+
+    /**
+     * Wraps the given task so that it runs with the test case context and the MDC of the calling thread.
+     * This allows parts of a test case to be handed over to a different thread, like asynchronous service calls,
+     * while still being reported against the right test case. The task gets a random stream reserved on the calling thread,
+     * so that the values it generates don't depend on thread scheduling. Test cases started by the task are recorded
+     * against the work unit of the calling thread in the run journal and admitted within its {@code --maxRunTime} slice.
+     *
+     * @param task the task to wrap
+     * @param <T>  the type of the task result
+     * @return a task running with the context of the calling thread
+     */
+    public <T> Supplier<T> propagateContext(Supplier<T> task) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        TestCaseContext callerContext = CURRENT_TEST_CASE.isBound() ? CURRENT_TEST_CASE.get() : null;
+        long taskSeed = CatsRandom.nextChildSeed();
+        Supplier<T> workUnitTask = runTimeBudget.propagateSlice(runJournal.propagateWorkUnit(task));
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            setMdcContext(callerMdc);
+            try {
+                if (callerContext == null) {
+                    return CatsRandom.callInStream(taskSeed, workUnitTask);
+                }
+                return CatsRandom.callInStream(taskSeed, () -> ScopedValue.where(CURRENT_TEST_CASE, callerContext).call(workUnitTask::get));
+            } finally {
+                setMdcContext(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdcContext(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
         }
-        this.endTestCase();
     }
 
     /**
@@ -180,15 +252,31 @@ public class TestCaseListener {
      * @return the fuzzer name that is currently being run
      */
     public String getCurrentFuzzer() {
+        if (CURRENT_TEST_CASE.isBound()) {
+            return CURRENT_TEST_CASE.get().fuzzer();
+        }
         return MDC.get(FUZZER_KEY);
     }
 
     /**
-     * Returns the current test case number being executed.
+     * Checks if the fuzzer of the test case being executed is a {@link StatefulFuzzer}.
+     *
+     * @return true if the current test case is run by a stateful fuzzer, false otherwise or when called outside a test case
+     */
+    public boolean isCurrentFuzzerStateful() {
+        return CURRENT_TEST_CASE.isBound() && CURRENT_TEST_CASE.get().stateful();
+    }
+
+    /**
+     * Returns the current test case number being executed. When called outside a test case,
+     * it returns the number of test cases started so far.
      *
      * @return the test case number being executed
      */
     public int getCurrentTestCaseNumber() {
+        if (CURRENT_TEST_CASE.isBound()) {
+            return CURRENT_TEST_CASE.get().testNumber();
+        }
         return TEST.get();
     }
 
@@ -202,17 +290,25 @@ public class TestCaseListener {
         return currentTestCase().getTraceId();
     }
 
-    private void startTestCase(FuzzingData data) {
-        String testId = String.valueOf(TEST.incrementAndGet());
+    /**
+     * The fuzzer details are captured from the current fuzzer run, while MDC is only kept
+     * to decorate log lines for the thread running the test case.
+     */
+    private TestCaseContext startTestCase(FuzzingData data, Fuzzer fuzzer) {
+        int testNumber = TEST.incrementAndGet();
+        String testId = String.valueOf(testNumber);
         MDC.put(ID, testId);
         MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 7, Ansi.Color.MAGENTA));
 
         CatsTestCase testCase = new CatsTestCase();
-        testCase.setTestId("Test " + testId);
         testCase.setContractPath(data.getContractPath());
         testCase.setPath(data.getContractPath());
         testCase.getRequest().setHttpMethod(String.valueOf(data.getMethod()));
-        testCaseMap.put(testId, testCase);
+
+        boolean stateful = fuzzer != null && AnnotationUtils.findAnnotation(fuzzer.getClass(), StatefulFuzzer.class) != null;
+        TestCaseContext testCaseContext = new TestCaseContext(testNumber, MDC.get(FUZZER_KEY), data.getContractPath(), String.valueOf(data.getMethod()), testCase, stateful);
+        testCase.setTestId(testCaseContext.testId());
+        return testCaseContext;
     }
 
     /**
@@ -277,8 +373,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified path information to the current test case in the test case map.
-     * The path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified path information to the current test case.
+     * The path is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param path the path to be associated with the current test case
      */
@@ -287,8 +383,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified contract path information to the current test case in the test case map.
-     * The contract path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified contract path information to the current test case.
+     * The contract path is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param path the contract path to be associated with the current test case
      */
@@ -297,8 +393,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified server information to the current test case in the test case map.
-     * The server information is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified server information to the current test case.
+     * The server information is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param server the server information to be associated with the current test case
      */
@@ -317,8 +413,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified CatsRequest to the current test case in the test case map.
-     * The CatsRequest is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified CatsRequest to the current test case.
+     * The CatsRequest is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param request the CatsRequest to be associated with the current test case
      */
@@ -327,8 +423,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified CatsResponse to the current test case in the test case map.
-     * The CatsResponse is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified CatsResponse to the current test case.
+     * The CatsResponse is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param response the CatsResponse to be associated with the current test case
      */
@@ -340,8 +436,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified full request path information to the current test case in the test case map.
-     * The full request path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified full request path information to the current test case.
+     * The full request path is associated with the ongoing test case through its {@link TestCaseContext}.
      *
      * @param fullRequestPath the full request path to be associated with the current test case
      */
@@ -349,16 +445,17 @@ public class TestCaseListener {
         currentTestCase().setFullRequestPath(fullRequestPath);
     }
 
-    private void endTestCase() {
-        CatsTestCase currentTestCase = currentTestCase();
-        currentTestCase.setFuzzer(MDC.get(FUZZER_KEY));
+    private void endTestCase(TestCaseContext testCaseContext) {
+        CatsTestCase currentTestCase = testCaseContext.testCase();
+        currentTestCase.setFuzzer(testCaseContext.fuzzer());
         if (currentTestCase.isNotSkipped()) {
             testReportsGenerator.writeTestCase(currentTestCase);
             keepSummary(currentTestCase);
             recordResponseCode(currentTestCase);
         }
         keepExecutionDetails(currentTestCase);
-        testCaseMap.remove(MDC.get(ID));
+        runJournal.recordTest(testCaseContext.testNumber());
+        globalContext.returnPostResponseLease(testCaseContext.traceId());
         MDC.remove(ID);
         MDC.put(ID_ANSI, this.getKeyDefault());
         logger.info(SEPARATOR);
@@ -376,8 +473,8 @@ public class TestCaseListener {
 
     private void keepExecutionDetails(CatsTestCase testCase) {
         if (testCase.notIgnoredForExecutionStatistics() && reportingArguments.isPrintExecutionStatistics()) {
-            testCaseExecutionDetails.add(new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
-                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
+            executionTimes.record(testCase.getHttpMethod(), testCase.getPath(), testCase.getFuzzer(),
+                    testCase.getTestId(), testCase.getResponse().getResponseTimeInMs());
         }
     }
 
@@ -468,6 +565,65 @@ public class TestCaseListener {
         testReportsGenerator.initPath(folder);
     }
 
+    /**
+     * Restores the test cases of the work units completed before a run was interrupted, so that they are part of the final report.
+     * Test case files of work units which did not complete are removed, as those work units run again.
+     * Restored test cases are renumbered and test case numbering continues after them, so that the report has no gaps.
+     *
+     * @param newTestNumbers the new number of each test case created by completed work units, keyed by its number in the interrupted run
+     * @throws IOException if the report folder cannot be read
+     */
+    public void restoreTestCases(Map<Integer, Integer> newTestNumbers) throws IOException {
+        Path reportFolder = Path.of(reportingArguments.getOutputReportFolder());
+        Set<Integer> testCaseFiles = new TreeSet<>();
+        try (Stream<Path> files = Files.list(reportFolder)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = TEST_CASE_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int testNumber = Integer.parseInt(matcher.group(1));
+                if (!newTestNumbers.containsKey(testNumber)) {
+                    Files.delete(file);
+                } else {
+                    testCaseFiles.add(testNumber);
+                }
+            }
+        }
+        /* new numbers are never bigger than the old ones, so renumbering in ascending order doesn't overwrite files not yet renumbered */
+        int restored = 0;
+        for (int testNumber : testCaseFiles) {
+            String oldId = "Test " + testNumber;
+            String newId = "Test " + newTestNumbers.get(testNumber);
+            if (!oldId.equals(newId)) {
+                TestCaseFiles.copyWithNewId(reportFolder, oldId, reportFolder, newId);
+                Files.deleteIfExists(reportFolder.resolve("Test" + testNumber + ".json"));
+                Files.deleteIfExists(reportFolder.resolve("Test" + testNumber + ".html"));
+            }
+            Path jsonFile = TestCaseFiles.jsonFile(reportFolder, newId);
+            if (Files.isRegularFile(jsonFile)) {
+                this.restoreTestCase(JsonUtils.GSON.fromJson(Files.readString(jsonFile), CatsTestCase.class));
+                restored++;
+            }
+        }
+        TEST.set(newTestNumbers.size());
+        logger.info("Restored {} test cases from the interrupted run", restored);
+    }
+
+    private void restoreTestCase(CatsTestCase testCase) {
+        String result = String.valueOf(testCase.getResult());
+        if (Level.ERROR.toString().equalsIgnoreCase(result)) {
+            executionStatisticsListener.increaseErrors(testCase.getContractPath());
+        } else if (Level.WARN.toString().equalsIgnoreCase(result)) {
+            executionStatisticsListener.increaseWarns(testCase.getContractPath());
+        } else {
+            executionStatisticsListener.increaseSuccess(testCase.getContractPath());
+        }
+        keepSummary(testCase);
+        recordResponseCode(testCase);
+        keepExecutionDetails(testCase);
+    }
+
     /**
      * Writes an individual test case using the associated test case exporter.
      *
@@ -498,7 +654,8 @@ public class TestCaseListener {
             testReportsGenerator.writeHelperFiles();
             testReportsGenerator.writeErrorsByReason(testCaseSummaryDetails);
             testReportsGenerator.writeTopFuzzers(testCaseSummaryDetails);
-            testReportsGenerator.writePerformanceReport(testCaseExecutionDetails);
+            testReportsGenerator.writePerformanceReport(executionTimes);
+            writeTimeBudgetReportIfEnabled();
             testReportsGenerator.printExecutionDetails();
             writeRecordedErrorsIfPresent();
         } catch (Exception e) {
@@ -515,6 +672,12 @@ public class TestCaseListener {
         }
     }
 
+    private void writeTimeBudgetReportIfEnabled() {
+        if (runTimeBudget.isEnabled()) {
+            testReportsGenerator.writeTimeBudgetReport(runTimeBudget.getSkippedWorkUnits());
+        }
+    }
+
     private void writeRecordedErrorsIfPresent() {
         globalContext.writeRecordedErrorsIfPresent();
     }
@@ -794,7 +957,7 @@ public class TestCaseListener {
      * @param shouldMatchContentType      a flag indicating whether the response content type should match the one from the OpenAPI spec
      */
     public void reportResult(PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema, boolean shouldMatchContentType) {
-        expectedResultCode = this.getExpectedResponseCodeConfiguredFor(MDC.get(FUZZER_KEY), data.getPath(), String.valueOf(data.getMethod()).toLowerCase(Locale.ROOT), expectedResultCode);
+        expectedResultCode = this.getExpectedResponseCodeConfiguredFor(this.getCurrentFuzzer(), data.getPath(), String.valueOf(data.getMethod()).toLowerCase(Locale.ROOT), expectedResultCode);
         boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
         boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
         boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
@@ -871,12 +1034,10 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.storePostResponse(data.getPath(), response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
-            logger.star("Successful DELETE. Removing top POST request from the store...");
-            globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
+            logger.star("Successful DELETE. Removing corresponding POST request from the store...");
+            globalContext.consumePostResponseLease(currentTestCase().getTraceId());
         }
     }
 
@@ -994,7 +1155,7 @@ public class TestCaseListener {
     }
 
     private boolean isNullResponse(CatsResponse response) {
-        return response.getJsonBody() == null || response.getBody() == null;
+        return !response.hasJsonBody() || response.getBody() == null;
     }
 
     private boolean isResponseContentTypeNotMatchable(CatsResponse response) {
@@ -1099,7 +1260,7 @@ public class TestCaseListener {
     }
 
     private CatsTestCase currentTestCase() {
-        return testCaseMap.get(MDC.get(ID));
+        return CURRENT_TEST_CASE.get().testCase();
     }
 
     public void recordError(String error) {
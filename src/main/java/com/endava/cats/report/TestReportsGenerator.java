@@ -2,7 +2,6 @@ package com.endava.cats.report;
 
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
@@ -85,10 +84,19 @@ public class TestReportsGenerator {
     /**
      * Writes a performance report based on the provided test case execution details.
      *
-     * @param testCaseExecutionDetails the list of test case execution summaries to be included in the performance report
+     * @param executionTimes the execution times of the test cases to be included in the performance report
      */
-    public void writePerformanceReport(List<CatsTestCaseExecutionSummary> testCaseExecutionDetails) {
-        testCaseExporters.getFirst().writePerformanceReport(testCaseExecutionDetails);
+    public void writePerformanceReport(ExecutionTimes executionTimes) {
+        testCaseExporters.getFirst().writePerformanceReport(executionTimes);
+    }
+
+    /**
+     * Writes the test cases skipped because of the {@code --maxRunTime} budget.
+     *
+     * @param skippedWorkUnits the work units which skipped test cases
+     */
+    public void writeTimeBudgetReport(List<RunTimeBudget.BudgetedWorkUnit> skippedWorkUnits) {
+        testCaseExporters.getFirst().writeTimeBudgetReport(skippedWorkUnits);
     }
 
     /**
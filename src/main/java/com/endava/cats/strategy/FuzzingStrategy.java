@@ -5,6 +5,7 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
 import com.endava.cats.util.JsonUtils;
+import com.endava.cats.util.RepeatedString;
 import com.endava.cats.util.WordUtils;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -15,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -245,12 +247,27 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      * @return a list containing a single FuzzingStrategy for large values
      */
     public static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize) {
+        return getLargeValuesStrategy(largeStringsSize, StringUtils::repeat);
+    }
+
+    /**
+     * Same as {@link #getLargeValuesStrategy(int)}, but the large value is a {@link RepeatedString} marker
+     * which is only expanded while the request body is written. To be used for values sent in json bodies.
+     *
+     * @param largeStringsSize the desired size for the large strings
+     * @return a list containing a single FuzzingStrategy for large values
+     */
+    public static List<FuzzingStrategy> getRepeatedLargeValuesStrategy(int largeStringsSize) {
+        return getLargeValuesStrategy(largeStringsSize, RepeatedString::of);
+    }
+
+    private static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize, BiFunction<String, Integer, String> repeater) {
         String generatedValue = StringGenerator.generateRandomUnicode();
         int payloadSize = largeStringsSize / generatedValue.length();
         if (payloadSize == 0) {
             return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(generatedValue.substring(0, largeStringsSize))));
         }
-        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1))));
+        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(repeater.apply(generatedValue, payloadSize + 1))));
     }
 
     /**
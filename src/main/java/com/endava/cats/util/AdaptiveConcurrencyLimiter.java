@@ -0,0 +1,141 @@
+package com.endava.cats.util;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter for http calls which adapts the number of concurrent requests to the health of the service.
+ * <p>
+ * The limit grows additively while the median latency of the last samples stays close to the baseline latency,
+ * decreases gently when latency builds up, and is halved when the service signals overload through
+ * {@code 429}, {@code 503} or connection errors. The baseline is the best median latency seen so far, aged by
+ * {@code 10%} with each window of samples, so that a lasting change in the latency of the service, like a slower endpoint
+ * or a slower environment, becomes the new baseline instead of keeping the limit down for the rest of the run.
+ * </p>
+ */
+public final class AdaptiveConcurrencyLimiter {
+    static final int SAMPLE_WINDOW = 20;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double OVERLOAD_BACKOFF = 0.5;
+    private static final double BASELINE_AGING = 1.1;
+
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final long[] latencySamples = new long[SAMPLE_WINDOW];
+
+    private double limit;
+    private int inFlight;
+    private int sampleCount;
+    private long baselineLatencyNanos = Long.MAX_VALUE;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param initialLimit the number of concurrent requests allowed at start
+     * @param maxLimit     the maximum number of concurrent requests the limit can grow to
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+        if (initialLimit <= 0 || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < initialLimit <= maxLimit");
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Acquires a permit, waiting while the current limit of concurrent requests is reached.
+     */
+    public void acquire() {
+        lock.lock();
+        try {
+            while (inFlight >= getLimit()) {
+                permitReleased.awaitUninterruptibly();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit for a request which completed normally and records its latency.
+     *
+     * @param latencyNanos the latency of the request in nanoseconds
+     */
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            latencySamples[sampleCount++] = latencyNanos;
+            if (sampleCount == SAMPLE_WINDOW) {
+                this.adjustToLatency();
+                sampleCount = 0;
+            }
+            this.release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit for a request that signaled service overload and sharply decreases the limit.
+     */
+    public void onOverload() {
+        lock.lock();
+        try {
+            limit = Math.max(1, limit * OVERLOAD_BACKOFF);
+            sampleCount = 0;
+            this.release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current number of concurrent requests allowed.
+     *
+     * @return the current limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests currently holding a permit.
+     *
+     * @return the number of in flight requests
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustToLatency() {
+        long[] sorted = Arrays.copyOf(latencySamples, SAMPLE_WINDOW);
+        Arrays.sort(sorted);
+        long medianLatencyNanos = sorted[SAMPLE_WINDOW / 2];
+        baselineLatencyNanos = Math.min((long) (baselineLatencyNanos * BASELINE_AGING), medianLatencyNanos);
+
+        if (medianLatencyNanos <= baselineLatencyNanos * LATENCY_TOLERANCE) {
+            limit = Math.min(maxLimit, limit + 1);
+        } else {
+            limit = Math.max(1, limit * LATENCY_BACKOFF);
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        permitReleased.signalAll();
+    }
+}
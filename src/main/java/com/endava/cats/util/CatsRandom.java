@@ -8,12 +8,25 @@ import org.cornutum.regexpgen.random.RandomBoundsGen;
 
 import java.util.Locale;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Utility that handles random generation and seed management for deterministic random generation.
+ * <p>
+ * Besides the global generator seeded from {@code --seed}, independent random streams can be bound to a unit of work.
+ * A stream seed is derived only from the global seed and the coordinates of the work, like path, http method and fuzzer,
+ * so the values generated inside it don't depend on the order or the thread in which work units run.
+ * Each stream also derives child streams for the test cases it runs, which makes a single test case reproducible
+ * from the global seed, its coordinates and its index, without replaying the ones before it.
+ * </p>
  */
 public abstract class CatsRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final ScopedValue<RandomStream> CURRENT_STREAM = ScopedValue.newInstance();
+    private static final AtomicInteger unboundChildren = new AtomicInteger();
 
     private static Random random;
     private static RandomGen regexpRandomGen;
@@ -27,20 +40,87 @@ public abstract class CatsRandom {
 
     /**
      * Returns the current random generator.
+     * This is the generator of the random stream bound to the current thread, or the global one if no stream is bound.
      *
      * @return the current random generator
      */
     public static Random instance() {
-        return random;
+        return CURRENT_STREAM.isBound() ? CURRENT_STREAM.get().random() : random;
     }
 
     /**
      * Returns the current regexp random generator.
+     * This is backed by the random stream bound to the current thread, or by the global generator if no stream is bound.
      *
      * @return the current regexp random generator.
      */
     public static RandomGen regexpRandomGen() {
-        return regexpRandomGen;
+        return CURRENT_STREAM.isBound() ? CURRENT_STREAM.get().regexpRandomGen() : regexpRandomGen;
+    }
+
+    /**
+     * Derives the seed of the random stream identified by the given coordinates, like path, http method and fuzzer name.
+     * The same global seed and coordinates always produce the same stream seed.
+     *
+     * @param coordinates the values identifying the unit of work
+     * @return the seed of the stream
+     */
+    public static long streamSeed(Object... coordinates) {
+        long seed = mix64(storedSeed);
+        for (Object coordinate : coordinates) {
+            seed = mix64(seed + GOLDEN_GAMMA + String.valueOf(coordinate).hashCode());
+        }
+        return seed;
+    }
+
+    /**
+     * Derives the seed of the test case with the given index from the seed of the stream which runs it.
+     * The test case with index {@code n} of a fuzzer run can be regenerated with
+     * {@code testCaseSeed(streamSeed(path, httpMethod, fuzzer), n)}.
+     *
+     * @param streamSeed the seed of the parent stream
+     * @param testIndex  the 0-based index of the test case within the parent stream
+     * @return the seed of the test case stream
+     */
+    public static long testCaseSeed(long streamSeed, int testIndex) {
+        return mix64(streamSeed + GOLDEN_GAMMA * (testIndex + 1L));
+    }
+
+    /**
+     * Reserves the seed of the next child stream of the stream bound to the current thread.
+     * When no stream is bound, children are derived from the global seed in the order in which they are reserved.
+     * Seeds must be reserved on the thread owning the parent stream, before handing work to other threads, to keep them deterministic.
+     *
+     * @return the seed of the next child stream
+     */
+    public static long nextChildSeed() {
+        if (CURRENT_STREAM.isBound()) {
+            RandomStream current = CURRENT_STREAM.get();
+            return testCaseSeed(current.seed(), current.children().getAndIncrement());
+        }
+        return testCaseSeed(mix64(storedSeed), unboundChildren.getAndIncrement());
+    }
+
+    /**
+     * Runs the given task with a random stream created from the given seed bound to the current thread.
+     *
+     * @param seed the seed of the stream
+     * @param task the task to run
+     */
+    public static void runInStream(long seed, Runnable task) {
+        ScopedValue.where(CURRENT_STREAM, RandomStream.of(seed)).run(task);
+    }
+
+    /**
+     * Calls the given task with a random stream created from the given seed bound to the current thread.
+     *
+     * @param seed the seed of the stream
+     * @param task the task to call
+     * @param <T>  the type of the task result
+     * @return the result of the task
+     */
+    public static <T> T callInStream(long seed, Supplier<T> task) {
+        return ScopedValue.where(CURRENT_STREAM, RandomStream.of(seed)).call(task::get);
     }
 
     /**
@@ -56,6 +136,7 @@ public abstract class CatsRandom {
         storedSeed = seed;
         random = new Random(storedSeed);
         regexpRandomGen = new RandomBoundsGen(random);
+        unboundChildren.set(0);
     }
 
     /**
@@ -201,4 +282,20 @@ public abstract class CatsRandom {
     private static long randomSeed() {
         return ThreadLocalRandom.current().nextLong();
     }
+
+    /**
+     * SplitMix64 finalizer, spreading close inputs to unrelated seeds.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private record RandomStream(long seed, Random random, RandomGen regexpRandomGen, AtomicInteger children) {
+        static RandomStream of(long seed) {
+            Random streamRandom = Random.from(new SplittableRandom(seed));
+            return new RandomStream(seed, streamRandom, new RandomBoundsGen(streamRandom), new AtomicInteger());
+        }
+    }
 }
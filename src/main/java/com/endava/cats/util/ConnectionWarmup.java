@@ -0,0 +1,130 @@
+package com.endava.cats.util;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the connections opened while warming up the connection pool and how long their handshakes took.
+ * <p>
+ * Connect time covers the TCP handshake, the TLS handshake and the protocol negotiation through ALPN, while
+ * TLS time only covers the TLS handshake. Connections reused from the pool are not counted as opened.
+ * </p>
+ */
+public final class ConnectionWarmup extends EventListener {
+    private final LongSupplier nanoClock;
+    private final Map<Call, Long> connectStarts = new ConcurrentHashMap<>();
+    private final Map<Call, Long> secureConnectStarts = new ConcurrentHashMap<>();
+    private final Set<String> protocols = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final AtomicInteger failedRequests = new AtomicInteger();
+    private final AtomicLong totalConnectNanos = new AtomicLong();
+    private final AtomicLong maxConnectNanos = new AtomicLong();
+    private final AtomicLong totalTlsNanos = new AtomicLong();
+    private final AtomicInteger tlsHandshakes = new AtomicInteger();
+
+    /**
+     * Creates a new instance using the system clock.
+     */
+    public ConnectionWarmup() {
+        this(System::nanoTime);
+    }
+
+    ConnectionWarmup(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Outcome of the warm-up.
+     *
+     * @param requests                the number of warm-up requests
+     * @param failedRequests          the number of warm-up requests which failed
+     * @param openedConnections       the number of connections opened
+     * @param protocols               the protocols negotiated for the connections
+     * @param averageConnectInMs      the average time needed to open a connection
+     * @param maxConnectInMs          the maximum time needed to open a connection
+     * @param averageTlsHandshakeInMs the average duration of the TLS handshake, 0 for plain http
+     */
+    public record Result(int requests, int failedRequests, int openedConnections, Set<String> protocols,
+                         long averageConnectInMs, long maxConnectInMs, long averageTlsHandshakeInMs) {
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStarts.put(call, nanoClock.getAsLong());
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStarts.put(call, nanoClock.getAsLong());
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        Long start = secureConnectStarts.remove(call);
+        if (start != null) {
+            totalTlsNanos.addAndGet(nanoClock.getAsLong() - start);
+            tlsHandshakes.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        Long start = connectStarts.remove(call);
+        if (start != null) {
+            long connectNanos = nanoClock.getAsLong() - start;
+            totalConnectNanos.addAndGet(connectNanos);
+            maxConnectNanos.accumulateAndGet(connectNanos, Math::max);
+            openedConnections.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        connectStarts.remove(call);
+        secureConnectStarts.remove(call);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        protocols.add(connection.protocol().toString());
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        failedRequests.incrementAndGet();
+    }
+
+    /**
+     * Summarises the connections opened so far.
+     *
+     * @param requests the number of warm-up requests sent
+     * @return the warm-up result
+     */
+    public Result result(int requests) {
+        int opened = openedConnections.get();
+        int tls = tlsHandshakes.get();
+
+        return new Result(requests, failedRequests.get(), opened, new TreeSet<>(protocols),
+                opened == 0 ? 0 : toMillis(totalConnectNanos.get() / opened),
+                toMillis(maxConnectNanos.get()),
+                tls == 0 ? 0 : toMillis(totalTlsNanos.get() / tls));
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
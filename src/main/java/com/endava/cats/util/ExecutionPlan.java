@@ -0,0 +1,263 @@
+package com.endava.cats.util;
+
+import com.endava.cats.http.HttpMethod;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A precomputed list of (path, http method, payload, fuzzer) work units stored as NDJSON.
+ * <p>
+ * The first line is the {@link Header}. It is followed by the entries of each contract path, grouped by path.
+ * An entry either holds a payload, identified by its index within the payloads generated for the path, or a work unit
+ * referencing a payload by index. Payloads are written once, before the first work unit using them, so that the
+ * plan stays compact when many fuzzers run against the same payload.
+ * </p>
+ * <p>
+ * Payloads are matched by index with the ones generated from the contract when the plan is executed, so a plan can only be
+ * executed against the contract and the CATS version it was created with, as checked by {@link Header#checkCompatible(String, String)}.
+ * </p>
+ */
+public final class ExecutionPlan {
+    private static final Gson PLAN_GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private ExecutionPlan() {
+        //ntd
+    }
+
+    /**
+     * Details about how the plan was created.
+     *
+     * @param seed         the seed used to generate the payloads
+     * @param contract     the contract the plan was created from
+     * @param contractHash the {@link #contractHash(OpenAPI)} of the contract the plan was created from
+     * @param catsVersion  the CATS version that created the plan
+     */
+    public record Header(long seed, String contract, String contractHash, String catsVersion) {
+
+        /**
+         * Checks that the plan can be executed against the given contract and CATS version. The payloads generated by a different contract
+         * or CATS version might not match the planned ones by index.
+         *
+         * @param currentContractHash the hash of the contract the plan is executed against
+         * @param currentCatsVersion  the CATS version executing the plan
+         * @throws IllegalArgumentException if the plan was created from a different contract or by a different CATS version
+         */
+        public void checkCompatible(String currentContractHash, String currentCatsVersion) {
+            if (!Objects.equals(contractHash, currentContractHash)) {
+                throw new IllegalArgumentException("Execution plan was created from a different version of contract %s. Please create a new plan".formatted(contract));
+            }
+            if (!Objects.equals(catsVersion, currentCatsVersion)) {
+                throw new IllegalArgumentException("Execution plan was created with CATS %s, but this is CATS %s. Please create a new plan".formatted(catsVersion, currentCatsVersion));
+            }
+        }
+    }
+
+    /**
+     * A single line of the plan, following the header.
+     *
+     * @param path         the contract path
+     * @param method       the http method
+     * @param payloadIndex the index of the payload within the payloads generated for the path
+     * @param payload      the payload; only set for payload entries
+     * @param fuzzer       the fuzzer to run; only set for work unit entries
+     * @param phase        the phase in which the fuzzer runs; only set for work unit entries
+     */
+    public record Entry(String path, HttpMethod method, int payloadIndex, String payload, String fuzzer, int phase) {
+
+        /**
+         * Checks if this entry holds a payload, rather than a work unit.
+         *
+         * @return true if this is a payload entry, false otherwise
+         */
+        public boolean isPayload() {
+            return fuzzer == null;
+        }
+    }
+
+    /**
+     * Computes a hash of the parsed contract, used to check that a plan is executed against the contract it was created from.
+     * The hash does not depend on the formatting of the contract file, nor on the order of its keys.
+     *
+     * @param openAPI the parsed contract
+     * @return the SHA-256 of the contract, hex encoded
+     */
+    public static String contractHash(OpenAPI openAPI) {
+        try {
+            byte[] contract = Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(openAPI);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(contract));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to compute the hash of the contract", e);
+        }
+    }
+
+    /**
+     * Creates a new plan file, overwriting it if it already exists, and writes the header.
+     *
+     * @param file   the plan file
+     * @param header the plan header
+     * @return a writer for the plan entries
+     * @throws IOException if the file cannot be created
+     */
+    public static Writer create(Path file, Header header) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Writer writer = new Writer(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        writer.writeLine(header);
+        return writer;
+    }
+
+    /**
+     * Reads the header of a plan file.
+     *
+     * @param file the plan file
+     * @return the plan header
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is empty or the first line is not a valid header
+     */
+    public static Header readHeader(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parseHeader(file, reader.readLine());
+        }
+    }
+
+    /**
+     * Streams a plan file one contract path at a time. Only the entries of the current path are kept in memory.
+     *
+     * @param file         the plan file
+     * @param pathConsumer receives the path and its entries, in the order in which they were written
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid plan
+     */
+    public static void forEachPath(Path file, BiConsumer<String, List<Entry>> pathConsumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            parseHeader(file, reader.readLine());
+            List<Entry> pathEntries = new ArrayList<>();
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry = parseEntry(file, line, lineNumber);
+                if (!pathEntries.isEmpty() && !pathEntries.getFirst().path().equals(entry.path())) {
+                    pathConsumer.accept(pathEntries.getFirst().path(), List.copyOf(pathEntries));
+                    pathEntries.clear();
+                }
+                pathEntries.add(entry);
+            }
+            if (!pathEntries.isEmpty()) {
+                pathConsumer.accept(pathEntries.getFirst().path(), List.copyOf(pathEntries));
+            }
+        }
+    }
+
+    private static Header parseHeader(Path file, String line) {
+        try {
+            Header header = line == null ? null : PLAN_GSON.fromJson(line, Header.class);
+            if (header == null || header.contract() == null) {
+                throw new IllegalArgumentException("File %s is not a valid execution plan: missing header".formatted(file));
+            }
+            return header;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("File %s is not a valid execution plan: invalid header".formatted(file), e);
+        }
+    }
+
+    private static Entry parseEntry(Path file, String line, int lineNumber) {
+        try {
+            Entry entry = PLAN_GSON.fromJson(line, Entry.class);
+            if (entry == null || entry.path() == null || entry.method() == null) {
+                throw new IllegalArgumentException("File %s is not a valid execution plan: line %d must have a path and a method".formatted(file, lineNumber));
+            }
+            return entry;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("File %s is not a valid execution plan: line %d is not valid JSON".formatted(file, lineNumber), e);
+        }
+    }
+
+    /**
+     * Writes plan entries. Work units must be written path by path.
+     */
+    public static final class Writer implements Closeable {
+        private final BufferedWriter writer;
+        private final Set<Integer> writtenPayloads = new HashSet<>();
+        private String currentPath;
+        private long workUnits;
+
+        private Writer(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Writes a work unit, preceded by its payload if this is the first work unit of the path using it.
+         *
+         * @param path         the contract path
+         * @param method       the http method
+         * @param payloadIndex the index of the payload within the payloads generated for the path
+         * @param payload      the payload
+         * @param fuzzer       the fuzzer to run
+         * @param phase        the phase in which the fuzzer runs
+         * @throws UncheckedIOException if writing fails
+         */
+        public void writeWorkUnit(String path, HttpMethod method, int payloadIndex, String payload, String fuzzer, int phase) {
+            if (!Objects.equals(currentPath, path)) {
+                currentPath = path;
+                writtenPayloads.clear();
+            }
+            if (writtenPayloads.add(payloadIndex)) {
+                this.writeLine(new Entry(path, method, payloadIndex, payload, null, 0));
+            }
+            this.writeLine(new Entry(path, method, payloadIndex, null, fuzzer, phase));
+            workUnits++;
+        }
+
+        /**
+         * Gets the number of work units written so far.
+         *
+         * @return the number of work units
+         */
+        public long getWorkUnits() {
+            return workUnits;
+        }
+
+        private void writeLine(Object entry) {
+            try {
+                writer.write(PLAN_GSON.toJson(entry));
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
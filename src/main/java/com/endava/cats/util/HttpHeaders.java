@@ -9,6 +9,8 @@ public final class HttpHeaders {
     public static final String USER_AGENT = "User-Agent";
     public static final String CONTENT_LENGTH = "Content-Length";
     public static final String TRANSFER_ENCODING = "Transfer-Encoding";
+    public static final String RETRY_AFTER = "Retry-After";
+    public static final String X_RATE_LIMIT_RESET = "X-RateLimit-Reset";
 
     private HttpHeaders() {
         //ntd
@@ -462,13 +462,34 @@ public abstract class JsonUtils {
      * @return The value of the specified JSON variable. Returns {@code NOT_SET} if the variable is not found.
      */
     public static Object getVariableFromJson(String jsonPayload, String value) {
+        return variablesFromJson(jsonPayload).apply(value);
+    }
+
+    /**
+     * Parses the given JSON payload once and returns a function retrieving variables from it.
+     * Useful when reading multiple variables from the same payload.
+     *
+     * @param jsonPayload The JSON payload from which to retrieve the variables.
+     * @return A function returning the value of a JSON variable or {@code NOT_SET} if the variable is not found.
+     */
+    public static Function<String, Object> variablesFromJson(String jsonPayload) {
+        DocumentContext jsonDoc;
         try {
-            DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
-            return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            jsonDoc = JsonPath.parse(jsonPayload);
         } catch (JsonPathException | IllegalArgumentException _) {
-            LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
-            return NOT_SET;
+            return value -> {
+                LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
+                return NOT_SET;
+            };
         }
+        return value -> {
+            try {
+                return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            } catch (JsonPathException | IllegalArgumentException _) {
+                LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
+                return NOT_SET;
+            }
+        };
     }
 
     /**
@@ -0,0 +1,161 @@
+package com.endava.cats.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-memory histogram of latencies in milliseconds, with the same log-linear bucketing used by HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} are counted exactly. Larger values are counted in buckets which double in size with each
+ * power of two, each one split in {@value #HALF_SUB_BUCKETS} sub-buckets, so reported percentiles are within 1/{@value #HALF_SUB_BUCKETS}
+ * of the recorded value. Values above {@value #MAX_VALUE_IN_MS}ms are counted as {@value #MAX_VALUE_IN_MS}ms. The number of buckets
+ * is fixed, so memory does not grow with the number of recorded values. Buckets are allocated in chunks of {@value #CHUNK_SIZE}
+ * when a value first falls in them, so a histogram only holds the few chunks around the latencies actually seen.
+ * Recording and merging can be done concurrently.
+ * </p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final long MAX_VALUE_IN_MS = (1L << 24) - 1;
+    private static final int BUCKETS = bucketOf(MAX_VALUE_IN_MS) + 1;
+    private static final int CHUNK_SIZE = HALF_SUB_BUCKETS;
+    private static final int CHUNKS = (BUCKETS + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+    private final AtomicReferenceArray<AtomicLongArray> chunks = new AtomicReferenceArray<>(CHUNKS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalInMs = new AtomicLong();
+    private final AtomicLong minInMs = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxInMs = new AtomicLong();
+
+    /**
+     * Summary of the recorded latencies.
+     *
+     * @param count   the number of recorded values
+     * @param minInMs the lowest recorded value
+     * @param maxInMs the highest recorded value
+     * @param average the average of the recorded values
+     * @param p50     the 50th percentile
+     * @param p90     the 90th percentile
+     * @param p99     the 99th percentile
+     * @param p999    the 99.9th percentile
+     */
+    public record Result(long count, long minInMs, long maxInMs, double average, long p50, long p90, long p99, long p999) {
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (value >> shift) - HALF_SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param valueInMs the latency in milliseconds, negative values are recorded as 0
+     */
+    public void record(long valueInMs) {
+        long value = Math.clamp(valueInMs, 0, MAX_VALUE_IN_MS);
+        int bucket = bucketOf(value);
+        this.chunkOf(bucket).incrementAndGet(bucket % CHUNK_SIZE);
+        count.incrementAndGet();
+        totalInMs.addAndGet(value);
+        minInMs.accumulateAndGet(value, Math::min);
+        maxInMs.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds the values recorded by another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void merge(LatencyHistogram other) {
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            AtomicLongArray otherCounts = other.chunks.get(chunk);
+            if (otherCounts == null) {
+                continue;
+            }
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                long bucketCount = otherCounts.get(i);
+                if (bucketCount > 0) {
+                    this.chunkOf(chunk * CHUNK_SIZE).addAndGet(i, bucketCount);
+                }
+            }
+        }
+        count.addAndGet(other.count.get());
+        totalInMs.addAndGet(other.totalInMs.get());
+        minInMs.accumulateAndGet(other.minInMs.get(), Math::min);
+        maxInMs.accumulateAndGet(other.maxInMs.get(), Math::max);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the percentile value in milliseconds, or 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.clamp(percentile, 0, 100) / 100 * total));
+        long seen = 0;
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            AtomicLongArray counts = chunks.get(chunk);
+            for (int i = 0; counts != null && i < CHUNK_SIZE; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.max(minInMs.get(), Math.min(highestValueOf(chunk * CHUNK_SIZE + i), maxInMs.get()));
+                }
+            }
+        }
+        return maxInMs.get();
+    }
+
+    private AtomicLongArray chunkOf(int bucket) {
+        int chunk = bucket / CHUNK_SIZE;
+        AtomicLongArray counts = chunks.get(chunk);
+        if (counts == null) {
+            chunks.compareAndSet(chunk, null, new AtomicLongArray(CHUNK_SIZE));
+            counts = chunks.get(chunk);
+        }
+        return counts;
+    }
+
+    /**
+     * Summarises the values recorded so far.
+     *
+     * @return the latency statistics
+     */
+    public Result result() {
+        long total = count.get();
+        if (total == 0) {
+            return new Result(0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new Result(total, minInMs.get(), maxInMs.get(), (double) totalInMs.get() / total,
+                percentile(50), percentile(90), percentile(99), percentile(99.9));
+    }
+}
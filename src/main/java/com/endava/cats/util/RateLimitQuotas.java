@@ -0,0 +1,75 @@
+package com.endava.cats.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-path and per-http-method rate limits applied on top of the global {@code --maxRequestsPerMinute}.
+ * <p>
+ * Quotas are supplied as a map having contract paths (or {@code all}) as keys and http methods (or {@code all}) with
+ * the maximum number of requests per minute as values. For a given request the most specific quota is applied, in this order:
+ * path and method, path and {@code all}, {@code all} and method, {@code all} and {@code all}. All requests matching the same quota
+ * share the same bucket.
+ * </p>
+ */
+public final class RateLimitQuotas {
+    private static final String ALL = "all";
+
+    private final Map<String, RateLimiter> limiters = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param quotas the quotas in requests per minute, keyed by path and then by http method
+     * @param burst  the number of requests that can be sent back to back for each quota
+     */
+    public RateLimitQuotas(Map<String, Map<String, Object>> quotas, int burst) {
+        quotas.forEach((path, methods) -> Optional.ofNullable(methods).orElse(Map.of())
+                .forEach((method, maxRequestsPerMinute) -> limiters.put(key(path, method),
+                        new RateLimiter(parseRequestsPerMinute(path, method, maxRequestsPerMinute), burst))));
+    }
+
+    /**
+     * Acquires a permit from the most specific quota matching the given path and http method.
+     * It returns immediately when no quota is configured for them.
+     *
+     * @param path       the contract path
+     * @param httpMethod the http method
+     */
+    public void acquire(String path, String httpMethod) {
+        this.forPathAndMethod(path, httpMethod).ifPresent(RateLimiter::acquire);
+    }
+
+    /**
+     * Returns the rate limiter of the most specific quota matching the given path and http method.
+     *
+     * @param path       the contract path
+     * @param httpMethod the http method
+     * @return the matching rate limiter or empty if there is no quota matching
+     */
+    public Optional<RateLimiter> forPathAndMethod(String path, String httpMethod) {
+        if (limiters.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(limiters.get(key(path, httpMethod)))
+                .or(() -> Optional.ofNullable(limiters.get(key(path, ALL))))
+                .or(() -> Optional.ofNullable(limiters.get(key(ALL, httpMethod))))
+                .or(() -> Optional.ofNullable(limiters.get(key(ALL, ALL))));
+    }
+
+    private static String key(String path, String httpMethod) {
+        String method = String.valueOf(httpMethod).toLowerCase(Locale.ROOT);
+        String normalizedPath = ALL.equalsIgnoreCase(path) ? ALL : path;
+        return normalizedPath + " " + method;
+    }
+
+    private static int parseRequestsPerMinute(String path, String method, Object value) {
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rate limit for path %s and method %s: %s".formatted(path, method, value), e);
+        }
+    }
+}
@@ -1,42 +1,88 @@
 package com.endava.cats.util;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 
 /**
- * Rate limiter for http calls.
+ * Lock-free token bucket rate limiter for http calls.
+ * <p>
+ * The whole bucket state is kept in a single long holding the theoretical arrival time of the next permit:
+ * the distance between it and the current time encodes both the tokens left in the bucket and the refill schedule.
+ * Callers reserve a permit with a CAS and then park outside any lock until their slot starts.
+ * </p>
  */
 public final class RateLimiter {
 
     private final long intervalNanos;
-    private long nextAllowedTimeNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
 
     /**
-     * Creates a new instance.
+     * Creates a new instance without burst capacity.
      *
      * @param maxRequestsPerMinute the maximum number of requests per minute
      */
     public RateLimiter(int maxRequestsPerMinute) {
+        this(maxRequestsPerMinute, 1);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxRequestsPerMinute the maximum number of requests per minute
+     * @param burst                the number of requests that can be sent back to back after an idle period
+     */
+    public RateLimiter(int maxRequestsPerMinute, int burst) {
         if (maxRequestsPerMinute <= 0) {
             throw new IllegalArgumentException("maxRequestsPerMinute must be > 0");
         }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be > 0");
+        }
         double permitsPerSecond = maxRequestsPerMinute / 60.0;
 
         // nanos between permits (cap at 1ns to avoid division edge cases)
         this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
-        this.nextAllowedTimeNanos = System.nanoTime();
+        this.burstToleranceNanos = (burst - 1) * intervalNanos;
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
     }
 
     /**
-     * Acquires a permit.
+     * Acquires a permit, waiting until the bucket has a token available.
      */
-    public synchronized void acquire() {
-        long now = System.nanoTime();
-        long waitNanos = nextAllowedTimeNanos - now;
+    public void acquire() {
+        long now;
+        long current;
+        long next;
+        do {
+            now = System.nanoTime();
+            current = theoreticalArrivalNanos.get();
+            next = (current - now > 0 ? current : now) + intervalNanos;
+        } while (!theoreticalArrivalNanos.compareAndSet(current, next));
 
-        if (waitNanos > 0) {
+        long allowedAt = next - intervalNanos - burstToleranceNanos;
+        long waitNanos = allowedAt - now;
+        while (waitNanos > 0) {
             LockSupport.parkNanos(waitNanos);
+            waitNanos = allowedAt - System.nanoTime();
         }
+    }
 
-        nextAllowedTimeNanos += intervalNanos;
+    /**
+     * Pauses the limiter so that no permit is handed out before the given time passes.
+     * Permits already reserved for a later time are not affected.
+     *
+     * @param pauseNanos the pause duration in nanoseconds
+     */
+    public void pause(long pauseNanos) {
+        long current;
+        long resumeAt;
+        do {
+            current = theoreticalArrivalNanos.get();
+            resumeAt = System.nanoTime() + pauseNanos + burstToleranceNanos;
+            if (current - resumeAt >= 0) {
+                return;
+            }
+        } while (!theoreticalArrivalNanos.compareAndSet(current, resumeAt));
     }
 }
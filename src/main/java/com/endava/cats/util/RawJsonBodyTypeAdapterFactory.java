@@ -0,0 +1,83 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.CatsResponse;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+/**
+ * Serializes responses without parsing their json body. When the body was not already parsed, the raw body is written
+ * as is if it's valid json, or wrapped in a {@code notAJson} element otherwise, the same way {@link CatsResponse#getJsonBody()} does.
+ */
+public class RawJsonBodyTypeAdapterFactory implements TypeAdapterFactory {
+    private static final String JSON_BODY = "jsonBody";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != CatsResponse.class) {
+            return null;
+        }
+        TypeAdapter<CatsResponse> delegate = gson.getDelegateAdapter(this, TypeToken.get(CatsResponse.class));
+        TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+
+        return (TypeAdapter<T>) new TypeAdapter<CatsResponse>() {
+            @Override
+            public void write(JsonWriter out, CatsResponse value) throws IOException {
+                value.getHeaders();
+                if (value.isJsonBodyParsed() || value.getBody() == null) {
+                    delegate.write(out, value);
+                    return;
+                }
+                out.beginObject();
+                for (Map.Entry<String, JsonElement> field : delegate.toJsonTree(value).getAsJsonObject().entrySet()) {
+                    out.name(field.getKey());
+                    if (JSON_BODY.equals(field.getKey())) {
+                        out.jsonValue(toRawJson(value.getBody()));
+                    } else {
+                        elementAdapter.write(out, field.getValue());
+                    }
+                }
+                out.endObject();
+            }
+
+            @Override
+            public CatsResponse read(JsonReader in) throws IOException {
+                return delegate.read(in);
+            }
+        }.nullSafe();
+    }
+
+    private static String toRawJson(String body) {
+        if (isStrictJson(body)) {
+            return body;
+        }
+        return JsonUtils.getAsJsonString(body);
+    }
+
+    /**
+     * Same check as {@link JsonUtils#isValidJson(String)}, but skipping over the body instead of building objects from it.
+     */
+    private static boolean isStrictJson(String body) {
+        try (JsonReader reader = new JsonReader(new StringReader(body))) {
+            reader.setStrictness(Strictness.STRICT);
+            reader.skipValue();
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                return false;
+            }
+        } catch (IOException | IllegalStateException _) {
+            return false;
+        }
+        return body.contains("{") || body.contains("]");
+    }
+}
@@ -0,0 +1,125 @@
+package com.endava.cats.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact representation of very large strings made of a repeated chunk.
+ * <p>
+ * Instead of building the full value, fuzzers can use {@link #of(String, int)} which returns a short marker holding the chunk
+ * and the number of repetitions. The marker survives json serialization, as it only contains characters which are never escaped,
+ * while the chunk is escaped character by character, so repeating the escaped chunk gives the escaped large value.
+ * The request body is then streamed chunk by chunk when the request is sent, keeping memory constant regardless of the size.
+ * </p>
+ */
+public abstract class RepeatedString {
+    private static final String START = "{{cats-repeat:";
+    private static final String START_END = "}}";
+    private static final String END = "{{cats-repeat-end}}";
+
+    private RepeatedString() {
+        //ntd
+    }
+
+    /**
+     * A part of a text, repeated the given number of times.
+     *
+     * @param value the text
+     * @param times how many times the text is repeated
+     */
+    public record Segment(String value, int times) {
+
+        /**
+         * Length of the segment once repeated.
+         *
+         * @return value length multiplied by the number of repetitions
+         */
+        public long length() {
+            return (long) value.length() * times;
+        }
+    }
+
+    /**
+     * Creates a marker for the given chunk repeated {@code times} times.
+     *
+     * @param chunk the chunk to repeat
+     * @param times how many times the chunk is repeated
+     * @return a marker which can be expanded to the repeated chunk
+     */
+    public static String of(String chunk, int times) {
+        return START + times + START_END + chunk + END;
+    }
+
+    /**
+     * Checks if the given text contains repeated string markers.
+     *
+     * @param text the text
+     * @return true if the text contains at least one marker, false otherwise
+     */
+    public static boolean isPresent(String text) {
+        return text != null && text.contains(START);
+    }
+
+    /**
+     * Splits the given text into literal segments and repeated chunks. Literal segments have one repetition.
+     *
+     * @param text the text
+     * @return the segments, in order
+     */
+    public static List<Segment> segments(String text) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int markerStart = text.indexOf(START);
+
+        while (markerStart != -1) {
+            int countEnd = text.indexOf(START_END, markerStart + START.length());
+            int chunkEnd = countEnd == -1 ? -1 : text.indexOf(END, countEnd + START_END.length());
+            int times = countEnd == -1 ? -1 : parseTimes(text.substring(markerStart + START.length(), countEnd));
+
+            if (chunkEnd == -1 || times < 0) {
+                markerStart = text.indexOf(START, markerStart + 1);
+                continue;
+            }
+            addLiteral(segments, text.substring(literalStart, markerStart));
+            segments.add(new Segment(text.substring(countEnd + START_END.length(), chunkEnd), times));
+
+            literalStart = chunkEnd + END.length();
+            markerStart = text.indexOf(START, literalStart);
+        }
+        addLiteral(segments, text.substring(literalStart));
+
+        return segments;
+    }
+
+    /**
+     * Replaces all markers from the given text with the repeated chunks.
+     * This is used when the full value is needed, for example in urls or headers.
+     *
+     * @param text the text
+     * @return the text with markers expanded or the same text if there are no markers
+     */
+    public static String expand(String text) {
+        if (!isPresent(text)) {
+            return text;
+        }
+        List<Segment> segments = segments(text);
+        StringBuilder builder = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8, segments.stream().mapToLong(Segment::length).sum()));
+        segments.forEach(segment -> builder.repeat(segment.value(), segment.times()));
+
+        return builder.toString();
+    }
+
+    private static void addLiteral(List<Segment> segments, String literal) {
+        if (!literal.isEmpty()) {
+            segments.add(new Segment(literal, 1));
+        }
+    }
+
+    private static int parseTimes(String times) {
+        try {
+            return Integer.parseInt(times);
+        } catch (NumberFormatException _) {
+            return -1;
+        }
+    }
+}
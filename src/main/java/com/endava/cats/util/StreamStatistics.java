@@ -0,0 +1,155 @@
+package com.endava.cats.util;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the protocol and the stream level timings of the requests sent to the service.
+ * <p>
+ * Stream acquire time covers finding or opening a connection with a free stream, while time to first byte covers sending the request
+ * and waiting for the response headers. Concurrent streams are counted per connection, so HTTP/1.1 connections never go above 1.
+ * </p>
+ */
+public final class StreamStatistics extends EventListener {
+    private final LongSupplier nanoClock;
+    private final Map<Call, Long> callStarts = new ConcurrentHashMap<>();
+    private final Map<Call, Long> requestStarts = new ConcurrentHashMap<>();
+    private final Map<Connection, AtomicInteger> activeStreams = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestsPerProtocol = new ConcurrentHashMap<>();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final AtomicInteger maxConcurrentStreams = new AtomicInteger();
+    private final AtomicInteger failedRequests = new AtomicInteger();
+    private final AtomicLong acquiredStreams = new AtomicLong();
+    private final AtomicLong totalAcquireNanos = new AtomicLong();
+    private final AtomicLong respondedStreams = new AtomicLong();
+    private final AtomicLong totalTimeToFirstByteNanos = new AtomicLong();
+    private final AtomicLong maxTimeToFirstByteNanos = new AtomicLong();
+
+    /**
+     * Creates a new instance using the system clock.
+     */
+    public StreamStatistics() {
+        this(System::nanoTime);
+    }
+
+    StreamStatistics(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Summary of the streams opened so far.
+     *
+     * @param requestsPerProtocol               the number of requests sent using each negotiated protocol
+     * @param openedConnections                 the number of connections opened
+     * @param maxConcurrentStreamsPerConnection the maximum number of streams open at the same time on a connection
+     * @param failedRequests                    the number of requests which failed
+     * @param averageStreamAcquireInMs          the average time needed to get a stream on a connection
+     * @param averageTimeToFirstByteInMs        the average time between sending the request headers and receiving the response headers
+     * @param maxTimeToFirstByteInMs            the maximum time between sending the request headers and receiving the response headers
+     */
+    public record Result(Map<String, Long> requestsPerProtocol, int openedConnections, int maxConcurrentStreamsPerConnection, int failedRequests,
+                         long averageStreamAcquireInMs, long averageTimeToFirstByteInMs, long maxTimeToFirstByteInMs) {
+
+        /**
+         * Checks if any request was sent over HTTP/2.
+         *
+         * @return true if HTTP/2 was negotiated or used with prior knowledge, false otherwise
+         */
+        public boolean isHttp2Negotiated() {
+            return requestsPerProtocol.containsKey(Protocol.HTTP_2.toString()) || requestsPerProtocol.containsKey(Protocol.H2_PRIOR_KNOWLEDGE.toString());
+        }
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStarts.put(call, nanoClock.getAsLong());
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        openedConnections.incrementAndGet();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        requestsPerProtocol.computeIfAbsent(connection.protocol().toString(), _ -> new AtomicLong()).incrementAndGet();
+        int active = activeStreams.computeIfAbsent(connection, _ -> new AtomicInteger()).incrementAndGet();
+        maxConcurrentStreams.accumulateAndGet(active, Math::max);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        activeStreams.computeIfPresent(connection, (_, active) -> active.decrementAndGet() <= 0 ? null : active);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        long now = nanoClock.getAsLong();
+        Long start = callStarts.remove(call);
+        if (start != null) {
+            totalAcquireNanos.addAndGet(now - start);
+            acquiredStreams.incrementAndGet();
+        }
+        requestStarts.put(call, now);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        Long start = requestStarts.remove(call);
+        if (start != null) {
+            long timeToFirstByte = nanoClock.getAsLong() - start;
+            totalTimeToFirstByteNanos.addAndGet(timeToFirstByte);
+            maxTimeToFirstByteNanos.accumulateAndGet(timeToFirstByte, Math::max);
+            respondedStreams.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        this.clear(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        this.clear(call);
+        failedRequests.incrementAndGet();
+    }
+
+    private void clear(Call call) {
+        callStarts.remove(call);
+        requestStarts.remove(call);
+    }
+
+    /**
+     * Summarises the streams opened so far.
+     *
+     * @return the stream statistics
+     */
+    public Result result() {
+        Map<String, Long> protocols = new TreeMap<>();
+        requestsPerProtocol.forEach((protocol, requests) -> protocols.put(protocol, requests.get()));
+        long acquired = acquiredStreams.get();
+        long responded = respondedStreams.get();
+
+        return new Result(protocols, openedConnections.get(), maxConcurrentStreams.get(), failedRequests.get(),
+                acquired == 0 ? 0 : toMillis(totalAcquireNanos.get() / acquired),
+                responded == 0 ? 0 : toMillis(totalTimeToFirstByteNanos.get() / responded),
+                toMillis(maxTimeToFirstByteNanos.get()));
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,87 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.CatsResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Extracts the time a service asks clients to wait from {@code 429} and {@code 503} responses,
+ * using the {@code Retry-After} header and falling back to {@code X-RateLimit-Reset}.
+ */
+public final class ThrottleHeaders {
+    /**
+     * {@code X-RateLimit-Reset} values above this are considered epoch seconds, while lower values are considered seconds to wait.
+     */
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private ThrottleHeaders() {
+        //ntd
+    }
+
+    /**
+     * Returns the time to wait advertised by the given response.
+     *
+     * @param response the service response
+     * @return the time to wait or empty if the response is not throttled or doesn't advertise a valid wait time
+     */
+    public static Optional<Duration> backoffFrom(CatsResponse response) {
+        return backoffFrom(response, Clock.systemUTC());
+    }
+
+    static Optional<Duration> backoffFrom(CatsResponse response, Clock clock) {
+        if (!isThrottled(response.getResponseCode())) {
+            return Optional.empty();
+        }
+        return headerValue(response, HttpHeaders.RETRY_AFTER).flatMap(value -> parseRetryAfter(value, clock))
+                .or(() -> headerValue(response, HttpHeaders.X_RATE_LIMIT_RESET).flatMap(value -> parseRateLimitReset(value, clock)));
+    }
+
+    /**
+     * Checks if the response code is one that services use to signal throttling.
+     *
+     * @param responseCode the http response code
+     * @return true if the response code is 429 or 503, false otherwise
+     */
+    public static boolean isThrottled(int responseCode) {
+        return responseCode == 429 || responseCode == 503;
+    }
+
+    private static Optional<String> headerValue(CatsResponse response, String name) {
+        return Optional.ofNullable(response.getHeader(name)).map(KeyValuePair::getValue).map(String::trim);
+    }
+
+    private static Optional<Duration> parseRetryAfter(String value, Clock clock) {
+        try {
+            return nonNegative(Duration.ofSeconds(Long.parseLong(value)));
+        } catch (NumberFormatException _) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return nonNegative(Duration.between(clock.instant(), retryAt));
+            } catch (DateTimeParseException _) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static Optional<Duration> parseRateLimitReset(String value, Clock clock) {
+        try {
+            long reset = Long.parseLong(value);
+            if (reset > EPOCH_SECONDS_THRESHOLD) {
+                return nonNegative(Duration.between(clock.instant(), Instant.ofEpochSecond(reset)));
+            }
+            return nonNegative(Duration.ofSeconds(reset));
+        } catch (NumberFormatException _) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> nonNegative(Duration duration) {
+        return Optional.of(duration.isNegative() ? Duration.ZERO : duration);
+    }
+}
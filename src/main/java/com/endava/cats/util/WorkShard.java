@@ -0,0 +1,114 @@
+package com.endava.cats.util;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * One shard of a run split across several machines, identified by its 1-based index and the total number of shards.
+ * <p>
+ * Work units are assigned to shards group by group, where a group is typically a contract path. Within a group, units are
+ * taken from the heaviest to the lightest and each is assigned to the least loaded shard. Ties are broken starting from a shard
+ * derived from a stable hash of the group, so that small groups are spread across shards. The assignment depends only on the group
+ * and its units, which means every shard computes it independently, regardless of execution order or parallelism.
+ * </p>
+ *
+ * @param index the 1-based index of the shard
+ * @param total the total number of shards
+ */
+public record WorkShard(int index, int total) {
+    /**
+     * A single shard owning all the work.
+     */
+    public static final WorkShard ALL = new WorkShard(1, 1);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index the 1-based index of the shard
+     * @param total the total number of shards
+     */
+    public WorkShard {
+        if (total <= 0 || index <= 0 || index > total) {
+            throw new IllegalArgumentException("Shard must satisfy 0 < index <= total, got %d/%d".formatted(index, total));
+        }
+    }
+
+    /**
+     * Parses a shard in the {@code index/total} format, for example {@code 2/4}.
+     *
+     * @param value the shard as text
+     * @return the parsed shard
+     * @throws IllegalArgumentException if the value is not in the {@code index/total} format or the index is not within total
+     */
+    public static WorkShard parse(String value) {
+        String[] parts = String.valueOf(value).trim().split("/", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be in the index/total format, got " + value);
+        }
+        try {
+            return new WorkShard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard must be in the index/total format, got " + value, e);
+        }
+    }
+
+    /**
+     * Checks if this shard owns only a part of the work.
+     *
+     * @return true if there is more than one shard, false otherwise
+     */
+    public boolean isPartial() {
+        return total > 1;
+    }
+
+    /**
+     * Selects the units of a group owned by this shard.
+     *
+     * @param group    the group of the units, used to spread small groups across shards
+     * @param units    all the units of the group, as seen by every shard
+     * @param key      a stable key uniquely identifying each unit within the group
+     * @param weight   the estimated cost of each unit, like the number of tests it will run
+     * @param <T>      the type of the units
+     * @return the units owned by this shard, in their original order
+     */
+    public <T> List<T> select(String group, List<T> units, Function<T, String> key, ToIntFunction<T> weight) {
+        if (!isPartial()) {
+            return units;
+        }
+        int firstShard = Math.floorMod(String.valueOf(group).hashCode(), total);
+        long[] loads = new long[total];
+        List<T> heaviestFirst = units.stream()
+                .sorted(Comparator.<T>comparingInt(weight).reversed().thenComparing(key))
+                .toList();
+
+        Set<String> owned = new HashSet<>();
+        for (T unit : heaviestFirst) {
+            if (this.assign(unit, loads, firstShard, weight) == index - 1) {
+                owned.add(key.apply(unit));
+            }
+        }
+
+        return units.stream().filter(unit -> owned.contains(key.apply(unit))).toList();
+    }
+
+    private <T> int assign(T unit, long[] loads, int firstShard, ToIntFunction<T> weight) {
+        int selected = firstShard;
+        for (int i = 1; i < total; i++) {
+            int candidate = (firstShard + i) % total;
+            if (loads[candidate] < loads[selected]) {
+                selected = candidate;
+            }
+        }
+        loads[selected] += Math.max(1, weight.applyAsInt(unit));
+        return selected;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
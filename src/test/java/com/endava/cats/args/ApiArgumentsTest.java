@@ -6,6 +6,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -17,6 +18,18 @@ import java.util.stream.Stream;
 @QuarkusTest
 class ApiArgumentsTest {
 
+    @ParameterizedTest
+    @CsvSource({"1,0,2,1", "8,0,2,8", "1,100,2,200", "300,100,2,300", "1,10,0,10"})
+    void shouldComputeInFlightWindow(int maxInFlightRequests, int http2MaxConcurrentStreams, int http2Connections, int expected) {
+        ApiArguments apiArguments = new ApiArguments();
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", maxInFlightRequests);
+        ReflectionTestUtils.setField(apiArguments, "http2MaxConcurrentStreams", http2MaxConcurrentStreams);
+        ReflectionTestUtils.setField(apiArguments, "http2Connections", http2Connections);
+
+        Assertions.assertThat(apiArguments.getInFlightWindow()).isEqualTo(expected);
+        Assertions.assertThat(apiArguments.isHttp2Multiplexing()).isEqualTo(http2MaxConcurrentStreams > 0);
+    }
+
     @Test
     void shouldNotReturnRemoteContractWhenNull() {
         ApiArguments apiArguments = new ApiArguments();
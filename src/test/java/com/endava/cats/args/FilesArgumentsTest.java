@@ -192,6 +192,23 @@ class FilesArgumentsTest {
         org.assertj.core.api.Assertions.assertThat(queryParamsForPets).containsOnlyKeys("argRefData", "anotherArgRefData", "allField", "anotherAllField", "field", "name");
     }
 
+    @Test
+    void shouldLoadRateLimits() throws Exception {
+        FilesArguments filesArguments = new FilesArguments();
+        filesArguments.setRateLimitsFile(new File("src/test/resources/rateLimits.yml"));
+        filesArguments.loadRateLimits();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRateLimits()).containsOnlyKeys("all", "/pets");
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRateLimits().get("/pets")).containsEntry("get", 120);
+    }
+
+    @Test
+    void shouldReturnEmptyRateLimitsWhenNotSupplied() {
+        FilesArguments filesArguments = new FilesArguments();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRateLimits()).isEmpty();
+    }
+
     @Test
     void shouldLoadUrlParams() {
         FilesArguments filesArguments = new FilesArguments();
@@ -6,6 +6,7 @@ import com.endava.cats.fuzzer.headers.UserDictionaryHeadersFuzzer;
 import com.endava.cats.fuzzer.http.CheckDeletedResourcesNotAvailableFuzzer;
 import com.endava.cats.fuzzer.http.HappyPathFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.WorkShard;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
@@ -752,4 +753,31 @@ class FilterArgumentsTest {
                 .containsExactly("HappyPath")
                 .hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnAllWorkWhenShardNotSupplied() {
+        ReflectionTestUtils.setField(filterArguments, "shard", null);
+
+        Assertions.assertThat(filterArguments.getWorkShard()).isEqualTo(WorkShard.ALL);
+    }
+
+    @Test
+    void shouldReturnSuppliedShard() {
+        ReflectionTestUtils.setField(filterArguments, "shard", "3/5");
+
+        WorkShard workShard = filterArguments.getWorkShard();
+        ReflectionTestUtils.setField(filterArguments, "shard", null);
+
+        Assertions.assertThat(workShard).isEqualTo(new WorkShard(3, 5));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenInvalidShard() {
+        ReflectionTestUtils.setField(filterArguments, "shard", "6/5");
+
+        Assertions.assertThatThrownBy(() -> filterArguments.validateShard(spec))
+                .isInstanceOf(picocli.CommandLine.ParameterException.class)
+                .hasMessageContaining("Invalid value for --shard");
+        ReflectionTestUtils.setField(filterArguments, "shard", null);
+    }
+}
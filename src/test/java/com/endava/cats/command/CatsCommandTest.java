@@ -9,25 +9,38 @@ import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.command.model.ConfigOptions;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.contract.PathTagsLinter;
 import com.endava.cats.fuzzer.http.CheckDeletedResourcesNotAvailableFuzzer;
+import com.endava.cats.fuzzer.http.HappyPathFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.report.TestReportsGenerator;
 import com.endava.cats.util.VersionChecker;
+import com.endava.cats.util.WorkShard;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
 
 @QuarkusTest
 class CatsCommandTest {
@@ -57,6 +70,7 @@ class CatsCommandTest {
         filterArguments = Mockito.mock(FilterArguments.class);
         ReflectionTestUtils.setField(catsMain, "filterArguments", filterArguments);
         Mockito.when(filterArguments.getHttpMethods()).thenReturn(HttpMethod.restMethods());
+        Mockito.when(filterArguments.getWorkShard()).thenReturn(WorkShard.ALL);
         ReflectionTestUtils.setField(reportingArguments, "verbosity", ReportingArguments.Verbosity.DETAILED);
         ReflectionTestUtils.setField(catsMain, "spec", Mockito.mock(CommandLine.Model.CommandSpec.class));
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
@@ -185,6 +199,211 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldRunPathsInParallelWhenParallelismSupplied() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 4);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinter"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new PathTagsLinter(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(
+                List.of("/pet", "/pets", "/pet/findByStatus", "/pet/findByTags", "/pet/{petId}", "/pet/{petId}/uploadImage", "/store/inventory"));
+
+        spyMain.run();
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+
+        Mockito.verify(spyMain).startFuzzing(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(13)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(9)).beforeFuzz(Mockito.eq(PathTagsLinter.class), Mockito.anyString(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).beforeFuzz(Mockito.eq(CheckDeletedResourcesNotAvailableFuzzer.class), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunFuzzersInParallelAndPathsSequentiallyWhenSequentialPathsSupplied() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 4);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", true);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinter"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new PathTagsLinter(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(
+                List.of("/pet", "/pets", "/pet/findByStatus", "/pet/findByTags", "/pet/{petId}", "/pet/{petId}/uploadImage", "/store/inventory"));
+
+        spyMain.run();
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", false);
+
+        Mockito.verify(spyMain).startFuzzing(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(13)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(9)).beforeFuzz(Mockito.eq(PathTagsLinter.class), Mockito.anyString(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).beforeFuzz(Mockito.eq(CheckDeletedResourcesNotAvailableFuzzer.class), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunStatefulFuzzersAfterIndependentFuzzersWhenParallel() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 4);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", true);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        CheckDeletedResourcesNotAvailableFuzzer statefulFuzzer = Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class);
+        PathTagsLinter independentFuzzer = Mockito.spy(new PathTagsLinter(testCaseListener));
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinter"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(statefulFuzzer, independentFuzzer));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of());
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pets"));
+
+        spyMain.run();
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", false);
+
+        InOrder inOrder = Mockito.inOrder(independentFuzzer, statefulFuzzer);
+        inOrder.verify(independentFuzzer, Mockito.atLeastOnce()).fuzz(Mockito.any());
+        inOrder.verify(statefulFuzzer, Mockito.atLeastOnce()).fuzz(Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunPathsOfSameFamilyInOrderWhenParallel() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 4);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        HappyPathFuzzer statefulFuzzer = Mockito.mock(HappyPathFuzzer.class);
+        List<String> fuzzedPaths = Collections.synchronizedList(new ArrayList<>());
+        Mockito.doAnswer(invocation -> fuzzedPaths.add(invocation.<FuzzingData>getArgument(0).getContractPath())).when(statefulFuzzer).fuzz(Mockito.any());
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("HappyPathFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(statefulFuzzer));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of());
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pets/{id}", "/pets"));
+
+        spyMain.run();
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+
+        Assertions.assertThat(fuzzedPaths).contains("/pets", "/pets/{id}");
+        Assertions.assertThat(fuzzedPaths.lastIndexOf("/pets")).isLessThan(fuzzedPaths.indexOf("/pets/{id}"));
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunOnlyWorkUnitsOfShard() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getWorkShard()).thenReturn(new WorkShard(1, 2));
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinter"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new PathTagsLinter(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(
+                List.of("/pet", "/pets", "/pet/findByStatus", "/pet/findByTags", "/pet/{petId}", "/pet/{petId}/uploadImage", "/store/inventory"));
+
+        spyMain.run();
+
+        Mockito.verify(testCaseListener, Mockito.atLeastOnce()).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.atMost(12)).afterFuzz(Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldAssignDependentWorkUnitsOfPathToSameShard() {
+        List<FuzzingData> fuzzingData = List.of(FuzzingData.builder().method(HttpMethod.GET).build(),
+                FuzzingData.builder().method(HttpMethod.DELETE).build(), FuzzingData.builder().method(HttpMethod.POST).build());
+        HappyPathFuzzer happyPathFuzzer = new HappyPathFuzzer(null);
+        CheckDeletedResourcesNotAvailableFuzzer checkDeletedFuzzer = new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null);
+        List<Boolean> ownsDependentWorkUnits = new ArrayList<>();
+
+        for (int shard = 1; shard <= 2; shard++) {
+            Mockito.when(filterArguments.getWorkShard()).thenReturn(new WorkShard(shard, 2));
+            BiPredicate<Fuzzer, FuzzingData> inShard = ReflectionTestUtils.invokeMethod(catsMain, "selectShardWorkUnits", "/pets",
+                    fuzzingData, List.of(happyPathFuzzer, new PathTagsLinter(testCaseListener)), List.of(checkDeletedFuzzer));
+
+            boolean ownsDependent = inShard.test(happyPathFuzzer, fuzzingData.getFirst());
+            Assertions.assertThat(fuzzingData).allSatisfy(data -> {
+                Assertions.assertThat(inShard.test(happyPathFuzzer, data)).isEqualTo(ownsDependent);
+                Assertions.assertThat(inShard.test(checkDeletedFuzzer, data)).isEqualTo(ownsDependent);
+            });
+            ownsDependentWorkUnits.add(ownsDependent);
+        }
+        Mockito.when(filterArguments.getWorkShard()).thenReturn(WorkShard.ALL);
+
+        Assertions.assertThat(ownsDependentWorkUnits).containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    void shouldAssignDependentWorkUnitsOfPathFamilyToSameShard() {
+        List<FuzzingData> postData = List.of(FuzzingData.builder().path("/pets").method(HttpMethod.POST).build());
+        List<FuzzingData> deleteData = List.of(FuzzingData.builder().path("/pets/{id}").method(HttpMethod.DELETE).build());
+        HappyPathFuzzer happyPathFuzzer = new HappyPathFuzzer(null);
+        CheckDeletedResourcesNotAvailableFuzzer checkDeletedFuzzer = new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null);
+        List<Boolean> ownsFamily = new ArrayList<>();
+
+        for (int shard = 1; shard <= 2; shard++) {
+            Mockito.when(filterArguments.getWorkShard()).thenReturn(new WorkShard(shard, 2));
+            BiPredicate<Fuzzer, FuzzingData> postInShard = ReflectionTestUtils.invokeMethod(catsMain, "selectShardWorkUnits", "/pets",
+                    postData, List.of(happyPathFuzzer), List.of(checkDeletedFuzzer));
+            BiPredicate<Fuzzer, FuzzingData> deleteInShard = ReflectionTestUtils.invokeMethod(catsMain, "selectShardWorkUnits", "/pets/{id}",
+                    deleteData, List.of(happyPathFuzzer), List.of(checkDeletedFuzzer));
+
+            boolean ownsPost = postInShard.test(happyPathFuzzer, postData.getFirst());
+            Assertions.assertThat(deleteInShard.test(happyPathFuzzer, deleteData.getFirst())).isEqualTo(ownsPost);
+            Assertions.assertThat(deleteInShard.test(checkDeletedFuzzer, deleteData.getFirst())).isEqualTo(ownsPost);
+            ownsFamily.add(ownsPost);
+        }
+        Mockito.when(filterArguments.getWorkShard()).thenReturn(WorkShard.ALL);
+
+        Assertions.assertThat(ownsFamily).containsExactlyInAnyOrder(true, false);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets,/pets", "/pets/{id},/pets", "/pets/{id}/toys,/pets/{id}/toys", "/pets/{id}/toys/{toyId},/pets/{id}/toys", "/pets/mine,/pets/mine"})
+    void shouldGroupPathsWithTheirParentPostPath(String path, String family) {
+        Assertions.assertThat(CatsCommand.pathFamily(path)).isEqualTo(family);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,false,0", "4,true,0", "4,false,1"})
+    void shouldReuseGeneratedExamplesAcrossPathsUnlessPathsRunConcurrently(int parallelism, boolean sequentialPaths, int clears) {
+        ReflectionTestUtils.setField(processingArguments, "parallelism", parallelism);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", sequentialPaths);
+        CatsGlobalContext globalContext = Mockito.mock(CatsGlobalContext.class);
+        Object originalGlobalContext = ReflectionTestUtils.getField(catsMain, "globalContext");
+        ReflectionTestUtils.setField(catsMain, "globalContext", globalContext);
+        Mockito.doReturn(List.of()).when(fuzzingDataFactory).fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.invokeMethod(catsMain, "createFuzzingData", Map.entry("/pets", new PathItem()), new OpenAPI());
+        ReflectionTestUtils.setField(catsMain, "globalContext", originalGlobalContext);
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+        ReflectionTestUtils.setField(processingArguments, "sequentialPaths", false);
+
+        Mockito.verify(globalContext, Mockito.times(clears)).clearGeneratedExamples();
+    }
+
     @Test
     void shouldReturnErrorsExitCode() {
         Mockito.when(executionStatisticsListener.getErrors()).thenReturn(190L);
@@ -0,0 +1,116 @@
+package com.endava.cats.command;
+
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+class MergeCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMergeReportsAndRenumberTestCases() throws IOException {
+        Path first = createReport("first", "/users", 1, 2);
+        Path second = createReport("second", "/orders", 1);
+        Files.createDirectories(first.resolve("assets"));
+        Files.writeString(first.resolve("assets").resolve("script.js"), "// script");
+        Files.writeString(first.resolve("styles.css"), "body {}");
+        Path output = tempDir.resolve("merged");
+
+        int exitCode = new CommandLine(new MergeCommand()).execute(first.toString(), second.toString(), "-o", output.toString());
+
+        assertThat(exitCode).isZero();
+        JsonObject summary = JsonUtils.GSON.fromJson(Files.readString(output.resolve("cats-summary-report.json")), JsonObject.class);
+        JsonArray testCases = summary.getAsJsonArray("testCases");
+        assertThat(testCases).hasSize(3);
+        assertThat(testCases.get(2).getAsJsonObject().get("id").getAsString()).isEqualTo("Test 3");
+        assertThat(testCases.get(2).getAsJsonObject().get("path").getAsString()).isEqualTo("/orders");
+        assertThat(summary.get("totalTests").getAsLong()).isEqualTo(3);
+        assertThat(summary.get("errors").getAsLong()).isEqualTo(3);
+
+        JsonObject thirdTest = JsonUtils.GSON.fromJson(Files.readString(output.resolve("Test3.json")), JsonObject.class);
+        assertThat(thirdTest.get("testId").getAsString()).isEqualTo("Test 3");
+        assertThat(Files.readString(output.resolve("Test3.html"))).contains("Test 3", "cats replay Test3").doesNotContain("Test 1", "Test1");
+        assertThat(Files.readString(output.resolve("execution_times.json"))).contains("get /users", "get /orders");
+        assertThat(Files.readString(output.resolve("index.html"))).contains("Test3.html");
+        assertThat(output.resolve("styles.css")).exists();
+        assertThat(output.resolve("assets").resolve("script.js")).exists();
+    }
+
+    @Test
+    void shouldMergeReportsWithoutTestCases() throws IOException {
+        Path first = createReport("first", "/users");
+        Path second = createReport("second", "/orders");
+        Path output = tempDir.resolve("merged");
+
+        int exitCode = new CommandLine(new MergeCommand()).execute(first.toString(), second.toString(), "-o", output.toString());
+
+        assertThat(exitCode).isZero();
+        assertThat(Files.readString(output.resolve("index.html"))).doesNotContain("NaN");
+    }
+
+    @Test
+    void shouldNotMergeIntoOneOfTheReportFolders() throws IOException {
+        Path first = createReport("first", "/users", 1);
+        Path second = createReport("second", "/orders", 1);
+
+        int exitCode = new CommandLine(new MergeCommand()).execute(first.toString(), second.toString(), "-o", first.toString());
+
+        assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+    }
+
+    @Test
+    void shouldNotMergeFoldersWithoutSummaryReport() throws IOException {
+        Path first = createReport("first", "/users", 1);
+        Path empty = Files.createDirectories(tempDir.resolve("empty"));
+
+        int exitCode = new CommandLine(new MergeCommand()).execute(first.toString(), empty.toString(), "-o", tempDir.resolve("merged").toString());
+
+        assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+    }
+
+    private Path createReport(String name, String path, int... testNumbers) throws IOException {
+        Path folder = Files.createDirectories(tempDir.resolve(name));
+        JsonArray testCases = new JsonArray();
+        for (int testNumber : testNumbers) {
+            JsonObject summary = new JsonObject();
+            summary.addProperty("id", "Test " + testNumber);
+            summary.addProperty("scenario", "Send invalid values");
+            summary.addProperty("result", "error");
+            summary.addProperty("resultReason", "Unexpected response code");
+            summary.addProperty("fuzzer", "SomeFuzzer");
+            summary.addProperty("path", path);
+            summary.addProperty("responseBody", "{\"error\": \"boom\"}");
+            summary.addProperty("timeToExecuteInMs", 10L * testNumber);
+            summary.addProperty("httpMethod", "get");
+            summary.addProperty("httpResponseCode", 500);
+            testCases.add(summary);
+
+            JsonObject testCase = new JsonObject();
+            testCase.addProperty("testId", "Test " + testNumber);
+            testCase.addProperty("contractPath", path);
+            Files.writeString(folder.resolve("Test" + testNumber + ".json"), JsonUtils.GSON.toJson(testCase));
+            Files.writeString(folder.resolve("Test" + testNumber + ".html"),
+                    "<h1>Test %d</h1><pre>cats replay Test%d</pre>".formatted(testNumber, testNumber));
+        }
+        JsonObject report = new JsonObject();
+        report.add("testCases", testCases);
+        report.addProperty("executionTime", 5);
+        report.addProperty("catsVersion", "1.0.0");
+        Files.writeString(folder.resolve("cats-summary-report.json"), JsonUtils.GSON.toJson(report));
+
+        return folder;
+    }
+}
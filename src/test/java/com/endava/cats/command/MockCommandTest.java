@@ -0,0 +1,101 @@
+package com.endava.cats.command;
+
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.io.MockServer;
+import com.endava.cats.model.FuzzingData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import Server;
+import ServerVariable;
+import ServerVariables;
+import jakarta.inject.Inject;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@QuarkusTest
+class MockCommandTest {
+
+    @Inject
+    FuzzingDataFactory fuzzingDataFactory;
+
+    @Inject
+    CatsGlobalContext catsGlobalContext;
+
+    private MockCommand mockCommand;
+
+    @BeforeEach
+    void init() {
+        mockCommand = new MockCommand(fuzzingDataFactory, catsGlobalContext);
+    }
+
+    @Test
+    void shouldRequireContract() {
+        CommandLine commandLine = new CommandLine(mockCommand);
+        Assertions.assertThat(commandLine.getCommandSpec().findOption("--contract").required()).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"GET,/v3/pet/findByStatus,200", "POST,/v3/pet,200", "GET,/pet/findByStatus,404", "GET,/v3/unknown,404"})
+    void shouldServeContractOperations(String method, String path, int responseCode) throws IOException {
+        new CommandLine(mockCommand).parseArgs("--contract", "src/test/resources/openapi.yml", "--port", "0", "--seed", "42");
+
+        try (MockServer mockServer = mockCommand.startServer();
+             Response response = new OkHttpClient().newCall(new Request.Builder().url("http://localhost:" + mockServer.port() + path)
+                     .method(method, HttpMethod.requiresBody(method) ? okhttp3.RequestBody.create("{}".getBytes()) : null).build()).execute()) {
+            Assertions.assertThat(response.code()).isEqualTo(responseCode);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"http://localhost:8080/v3/;/v3", "/api;/api", "http://localhost:8080;''", "https://{host}/{version};/v1"}, delimiter = ';')
+    void shouldTakeBasePathFromFirstServer(String url, String basePath) {
+        Server server = new Server().url(url);
+        if (url.contains("{")) {
+            server.variables(new ServerVariables()
+                    .addServerVariable("host", new ServerVariable()._default("localhost"))
+                    .addServerVariable("version", new ServerVariable()._default("v1")));
+        }
+        OpenAPI openAPI = new OpenAPI().servers(List.of(server));
+
+        Assertions.assertThat(MockCommand.basePath(openAPI)).isEqualTo(basePath);
+    }
+
+    @Test
+    void shouldServeFromRootWithoutServers() {
+        Assertions.assertThat(MockCommand.basePath(new OpenAPI())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidErrorRate() {
+        new CommandLine(mockCommand).parseArgs("--contract", "src/test/resources/openapi.yml", "--errorRate", "2");
+
+        Assertions.assertThatThrownBy(() -> mockCommand.startServer()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldUseLowestDocumentedCodes() {
+        FuzzingData data = FuzzingData.builder().contractPath("/pets").method(HttpMethod.GET)
+                .responseCodes(Set.of("404", "201", "200", "503", "default"))
+                .responses(Map.of("200", List.of("{\"id\":1}"), "503", List.of()))
+                .responseContentTypes(Map.of("200", List.of("application/vnd+json")))
+                .build();
+
+        MockServer.Operation operation = MockCommand.toOperation(data);
+
+        Assertions.assertThat(operation).isEqualTo(new MockServer.Operation("/pets", HttpMethod.GET, 200, "{\"id\":1}", "application/vnd+json", 503, "{\"error\":\"mock error\"}"));
+    }
+}
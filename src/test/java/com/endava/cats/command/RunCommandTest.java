@@ -5,6 +5,7 @@ import com.endava.cats.args.FilterArguments;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.report.TestReportsGenerator;
+import com.endava.cats.util.WorkShard;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
@@ -38,12 +39,14 @@ class RunCommandTest {
     @BeforeEach
     void init() {
         filterArguments = Mockito.mock(FilterArguments.class);
+        Mockito.when(filterArguments.getWorkShard()).thenReturn(WorkShard.ALL);
         testCaseListener = Mockito.mock(TestCaseListener.class);
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
         ReflectionTestUtils.setField(apiArguments, "contract", "contract");
         ReflectionTestUtils.setField(apiArguments, "server", "http://server");
         ReflectionTestUtils.setField(catsCommand, "filterArguments", filterArguments);
         ReflectionTestUtils.setField(runCommand, "catsCommand", catsCommand);
+        ReflectionTestUtils.setField(runCommand, "planFile", null);
         ReflectionTestUtils.setField(catsCommand, "testCaseListener", testCaseListener);
         CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
         Mockito.when(spec.commandLine()).thenReturn(Mockito.mock(CommandLine.class));
@@ -80,6 +83,18 @@ class RunCommandTest {
         Assertions.assertThatThrownBy(() -> runCommand.run()).isInstanceOf(CommandLine.ParameterException.class).hasMessage("You must provide a valid non-empty <file>");
     }
 
+    @Test
+    void shouldThrowExceptionWhenEmptyPlan() {
+        ReflectionTestUtils.setField(runCommand, "planFile", new File("src/test/resources/nonExistent.ndjson"));
+        Assertions.assertThatThrownBy(() -> runCommand.run()).isInstanceOf(CommandLine.ParameterException.class).hasMessage("You must provide a valid non-empty --plan file");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenInvalidPlan() {
+        ReflectionTestUtils.setField(runCommand, "planFile", new File("src/test/resources/functionalFuzzer.yml"));
+        Assertions.assertThatThrownBy(() -> runCommand.run()).isInstanceOf(CommandLine.ParameterException.class).hasMessageStartingWith("Invalid --plan file");
+    }
+
     @Test
     void shouldReturnNonZeroExitCode() {
         ExecutionStatisticsListener listener = Mockito.mock(ExecutionStatisticsListener.class);
@@ -5,6 +5,8 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @QuarkusTest
 class CatsGlobalContextTest {
@@ -26,6 +31,73 @@ class CatsGlobalContextTest {
         Assertions.assertThat(context.getGeneratedExamplesCache().get("/test")).containsExactly("example");
     }
 
+    @Test
+    void shouldPublishSchemasAddedInBatchWhenBatchEnds() throws Exception {
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.putSchemaReference("Existing", new ObjectSchema());
+
+        Map<String, Boolean> seenInBatch = context.batchSchemaWrites(() -> {
+            context.putSchemaReference("First", new ObjectSchema());
+            context.putSchemaReference("Second", new StringSchema());
+            try (ExecutorService otherThread = Executors.newSingleThreadExecutor()) {
+                return Map.of("self", context.getSchemaMap().containsKey("Second"),
+                        "other", otherThread.submit(() -> context.getSchemaMap().containsKey("First")).get(),
+                        "otherExisting", otherThread.submit(() -> context.getSchemaMap().containsKey("Existing")).get());
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Assertions.assertThat(seenInBatch).containsEntry("self", true).containsEntry("other", false).containsEntry("otherExisting", true);
+        Assertions.assertThat(context.getSchemaMap()).containsKeys("Existing", "First", "Second");
+    }
+
+    @Test
+    void shouldClearGeneratedExamples() {
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.addGeneratedExample("/test", List.of("example"));
+        context.clearGeneratedExamples();
+
+        Assertions.assertThat(context.isExampleAlreadyGenerated("/test")).isFalse();
+    }
+
+    @Test
+    void shouldLeaseConsumeAndReturnPostResponses() {
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.storePostResponse("/pets", "first");
+        context.storePostResponse("/pets", "second");
+
+        Assertions.assertThat(context.leasePostResponse("/pets", "test1")).contains("first");
+        Assertions.assertThat(context.leasePostResponse("/pets", "test2")).contains("second");
+        Assertions.assertThat(context.leasePostResponse("/pets", "test3")).isEmpty();
+
+        Assertions.assertThat(context.consumePostResponseLease("test1")).isTrue();
+        context.returnPostResponseLease("test2");
+        context.returnPostResponseLease("test3");
+
+        Assertions.assertThat(context.getPostSuccessfulResponses().get("/pets")).containsExactly("second");
+        Assertions.assertThat(context.consumePostResponseLease("test1")).isFalse();
+    }
+
+    @Test
+    void shouldOnlyPeekPostResponseWhenNoLeaseOwner() {
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.storePostResponse("/pets", "first");
+
+        Assertions.assertThat(context.leasePostResponse("/pets", null)).contains("first");
+        Assertions.assertThat(context.leasePostResponse("/pets", null)).contains("first");
+        Assertions.assertThat(context.leasePostResponse("/other", null)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepNullSchemaReferencesInSchemaMap() {
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.getSchemaMap().putIfAbsent("missing", null);
+
+        Assertions.assertThat(context.getSchemaMap()).containsKey("missing");
+        Assertions.assertThat(context.getSchemaMap().get("missing")).isNull();
+    }
+
     @Test
     void shouldResolveParametersReferences() {
         CatsGlobalContext context = new CatsGlobalContext();
@@ -34,7 +106,7 @@ class CatsGlobalContextTest {
         Mockito.when(openAPI.getComponents()).thenReturn(components);
         Map<String, Parameter> parameterMap = Map.of("Example", new Parameter());
         Mockito.when(components.getParameters()).thenReturn(parameterMap);
-        context.init(openAPI, List.of(), new Properties(), new CatsConfiguration("1", "2", "3", List.of(), 4, 4, 5, 6), Set.of(), Set.of());
+        context.init(openAPI, List.of(), new Properties(), new CatsConfiguration("1", "2", "3", List.of(), 4, 4, 5, 6, "1/1"), Set.of(), Set.of());
 
         String reference = "#/components/parameters/Example";
         Object resolvedObject = context.getObjectFromPathsReference(reference);
@@ -54,7 +126,7 @@ class CatsGlobalContextTest {
         Mockito.when(openAPI.getComponents()).thenReturn(components);
         Map<String, io.swagger.v3.oas.models.headers.Header> headerMap = Map.of("Example", new Header());
         Mockito.when(components.getHeaders()).thenReturn(headerMap);
-        context.init(openAPI, List.of(), new Properties(), new CatsConfiguration("1", "2", "3", List.of(), 4, 4, 5, 6), Set.of(), Set.of());
+        context.init(openAPI, List.of(), new Properties(), new CatsConfiguration("1", "2", "3", List.of(), 4, 4, 5, 6, "1/1"), Set.of(), Set.of());
 
         String reference = "#/components/headers/Example";
         Object resolvedObject = context.getObjectFromPathsReference(reference);
@@ -35,6 +35,12 @@ class CatsDSLParserTest {
         Assertions.assertThat(actual).isEqualTo(initial);
     }
 
+    @ParameterizedTest
+    @CsvSource({"test,false", "$$HOME,false", "T(java.time.OffsetDateTime).now(),true", "${request.field},true", "auth_script,true", "#(uuid),true"})
+    void shouldCheckIfValueIsDynamic(String value, boolean dynamic) {
+        Assertions.assertThat(CatsDSLParser.isDynamic(value)).isEqualTo(dynamic);
+    }
+
     @Test
     void shouldReturnNullWhenValueIsNull() {
         Assertions.assertThat(CatsDSLParser.parseAndGetResult(null, Map.of())).isNull();
@@ -27,6 +27,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @QuarkusTest
 class FieldsIteratorExecutorTest {
@@ -70,6 +72,16 @@ class FieldsIteratorExecutorTest {
         Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
     }
 
+    @Test
+    void shouldDispatchTestCasesWhenPipeliningEnabled() {
+        Mockito.when(serviceCaller.isPipeliningEnabled()).thenReturn(true);
+        Mockito.when(serviceCaller.dispatch(Mockito.any())).thenAnswer(invocation -> CompletableFuture.supplyAsync(invocation.<Supplier<?>>getArgument(0)));
+        fieldsIteratorExecutor.execute(setupContextBuilder().expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX).build());
+
+        Mockito.verify(serviceCaller, Mockito.times(4)).dispatch(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
+    }
+
     @ParameterizedTest
     @CsvSource({"true,true", "true,false", "false,false", "false,true"})
     void shouldReportError(boolean isMatch, boolean isSupplied) {
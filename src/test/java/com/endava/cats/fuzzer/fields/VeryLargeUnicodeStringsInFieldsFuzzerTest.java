@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.fields;
 import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.RepeatedString;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +36,7 @@ class VeryLargeUnicodeStringsInFieldsFuzzerTest {
     void shouldGetPayloadSize() {
         Mockito.when(processingArguments.getLargeStringsSize()).thenReturn(20000);
 
-        Assertions.assertThat(veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).getFirst().getData().toString()).hasSizeGreaterThan(20000);
+        Assertions.assertThat(RepeatedString.expand(veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).getFirst().getData().toString())).hasSizeGreaterThan(20000);
     }
 
     @Test
@@ -0,0 +1,46 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@QuarkusTest
+class HeaderTemplateTest {
+
+    @Test
+    void shouldEvaluateStaticValuesOnce() {
+        Map<String, Object> suppliedHeaders = new LinkedHashMap<>();
+        suppliedHeaders.put("X-Static", "value");
+        suppliedHeaders.put("X-Number", 12);
+        HeaderTemplate template = HeaderTemplate.of(suppliedHeaders, "Authorization"::equalsIgnoreCase);
+        AtomicInteger contextCalls = new AtomicInteger();
+
+        Assertions.assertThat(template.headers()).extracting(HeaderTemplate.SuppliedHeader::isDynamic).containsOnly(false);
+        Assertions.assertThat(template.headers()).extracting(header -> template.valueOf(header, () -> {
+            contextCalls.incrementAndGet();
+            return Map.of();
+        })).containsExactly("value", "12");
+        Assertions.assertThat(contextCalls).hasValue(0);
+    }
+
+    @Test
+    void shouldEvaluateDynamicValuesForEachRequest() {
+        HeaderTemplate template = HeaderTemplate.of(Map.of("Authorization", "T(java.lang.String).valueOf(42)"), "Authorization"::equalsIgnoreCase);
+        HeaderTemplate.SuppliedHeader header = template.headers().getFirst();
+        AtomicInteger contextCalls = new AtomicInteger();
+
+        Assertions.assertThat(header.isDynamic()).isTrue();
+        Assertions.assertThat(header.authentication()).isTrue();
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThat(template.valueOf(header, () -> {
+                contextCalls.incrementAndGet();
+                return Map.of();
+            })).isEqualTo("42");
+        }
+        Assertions.assertThat(contextCalls).hasValue(2);
+    }
+}
@@ -0,0 +1,91 @@
+package com.endava.cats.io;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@QuarkusTest
+class MockServerTest {
+    private static final List<MockServer.Operation> OPERATIONS = List.of(
+            new MockServer.Operation("/pets/{id}", HttpMethod.GET, 200, "{\"id\":1}", "application/json", 404, "{\"error\":\"missing\"}"),
+            new MockServer.Operation("/pets/mine", HttpMethod.GET, 200, "{\"mine\":true}", "application/json", 500, "{}"),
+            new MockServer.Operation("/pets", HttpMethod.POST, 201, "", "application/json", 500, "{}"));
+    private final OkHttpClient client = new OkHttpClient();
+
+    private String[] call(MockServer mockServer, String method, String path) throws IOException {
+        Request request = new Request.Builder().url("http://localhost:" + mockServer.port() + path)
+                .method(method, HttpMethod.requiresBody(method) ? okhttp3.RequestBody.create(new byte[0]) : null)
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            return new String[]{String.valueOf(response.code()), response.body().string()};
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"GET;/pets/1;200;{\"id\":1}", "GET;/pets/mine;200;{\"mine\":true}", "POST;/pets;201;", "DELETE;/pets;405;{\"error\":\"http method not found in contract\"}",
+            "GET;/owners;404;{\"error\":\"path not found in contract\"}"}, delimiter = ';')
+    void shouldAnswerWithContractResponses(String method, String path, String responseCode, String body) throws IOException {
+        try (MockServer mockServer = MockServer.start(0, "", OPERATIONS, MockServer.Latency.NONE, 0, 0, 1)) {
+            String[] response = call(mockServer, method, path);
+
+            Assertions.assertThat(response[0]).isEqualTo(responseCode);
+            Assertions.assertThat(response[1]).isEqualTo(body == null ? "" : body);
+            Assertions.assertThat(mockServer.servedRequests()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldAnswerWithErrorResponsesAccordingToErrorRate() throws IOException {
+        try (MockServer mockServer = MockServer.start(0, "", OPERATIONS, MockServer.Latency.FIXED, 50, 1, 1)) {
+            long t0 = System.currentTimeMillis();
+            String[] response = call(mockServer, "GET", "/pets/1");
+
+            Assertions.assertThat(System.currentTimeMillis() - t0).isGreaterThanOrEqualTo(50);
+            Assertions.assertThat(response).containsExactly("404", "{\"error\":\"missing\"}");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/v3/pets/mine,200", "/v3/pets,405", "/pets/mine,404"})
+    void shouldServeOperationsUnderBasePath(String path, String responseCode) throws IOException {
+        try (MockServer mockServer = MockServer.start(0, "/v3", OPERATIONS, MockServer.Latency.NONE, 0, 0, 1)) {
+            Assertions.assertThat(call(mockServer, "GET", path)[0]).isEqualTo(responseCode);
+        }
+    }
+
+    @Test
+    void shouldAnswerWithSameErrorsForSameSeed() throws IOException {
+        Assertions.assertThat(responseCodes(7)).isEqualTo(responseCodes(7)).contains("200", "404");
+    }
+
+    private List<String> responseCodes(long seed) throws IOException {
+        List<String> responseCodes = new ArrayList<>();
+        try (MockServer mockServer = MockServer.start(0, "", OPERATIONS, MockServer.Latency.NONE, 0, 0.5, seed)) {
+            for (int i = 0; i < 20; i++) {
+                responseCodes.add(call(mockServer, "GET", "/pets/1")[0]);
+            }
+        }
+        return responseCodes;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NONE,0,0", "FIXED,20,20", "UNIFORM,0,40", "EXPONENTIAL,0,10000"})
+    void shouldComputeDelaysWithinDistribution(MockServer.Latency latency, long min, long max) {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(latency.nextDelayInMs(20, random)).isBetween(min, max);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.OkHttpClient;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class MultiplexedConnectionsTest {
+
+    @Test
+    void shouldSpreadStreamsOverLanes() throws Exception {
+        MultiplexedConnections connections = new MultiplexedConnections(new OkHttpClient(), 2, 2, 1);
+        List<MultiplexedConnections.Lane> lanes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lanes.add(connections.acquire());
+        }
+
+        Assertions.assertThat(lanes.stream().distinct()).hasSize(2);
+        Assertions.assertThat(lanes).allSatisfy(lane -> Assertions.assertThat(lane.streams().availablePermits()).isZero());
+    }
+
+    @Test
+    void shouldNeverExceedStreamsPerLaneWhenAcquiringConcurrently() {
+        MultiplexedConnections connections = new MultiplexedConnections(new OkHttpClient(), 3, 2, 1);
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<MultiplexedConnections.Lane>> acquired = IntStream.range(0, 6)
+                    .mapToObj(_ -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return connections.acquire();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, executorService))
+                    .toList();
+
+            Assertions.assertThat(acquired).allSatisfy(lane -> Assertions.assertThat(lane).succeedsWithin(1, TimeUnit.SECONDS));
+            Assertions.assertThat(acquired.stream().map(CompletableFuture::join).distinct())
+                    .allSatisfy(lane -> Assertions.assertThat(lane.streams().availablePermits()).isZero());
+        }
+    }
+
+    @Test
+    void shouldWaitForFreeStreamWhenAllLanesAreBusy() throws Exception {
+        MultiplexedConnections connections = new MultiplexedConnections(new OkHttpClient(), 1, 1, 1);
+        MultiplexedConnections.Lane busy = connections.acquire();
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<MultiplexedConnections.Lane> waiting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return connections.acquire();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executorService);
+            TimeUnit.MILLISECONDS.sleep(100);
+            Assertions.assertThat(waiting).isNotDone();
+
+            busy.release();
+            Assertions.assertThat(waiting).succeedsWithin(1, TimeUnit.SECONDS).isSameAs(busy);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.KeyValuePair;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+@QuarkusTest
+class RequestCacheTest {
+
+    private static CatsRequest request(String traceId, String body, String headerValue) {
+        return CatsRequest.builder().httpMethod("POST").url("http://localhost/pets").payload(body)
+                .headers(List.of(new KeyValuePair<>("X-Cats-Trace-Id", traceId), new KeyValuePair<>("Accept", headerValue)))
+                .build();
+    }
+
+    @Test
+    void shouldIgnoreHeadersChangingWithEachTestCase() {
+        String first = RequestCache.keyOf(request("1", "{}", "application/json"), "X-Cats-Trace-Id"::equalsIgnoreCase);
+        String second = RequestCache.keyOf(request("2", "{}", "application/json"), "X-Cats-Trace-Id"::equalsIgnoreCase);
+
+        Assertions.assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void shouldBuildDifferentKeysForDifferentBodiesOrHeaders() {
+        String key = RequestCache.keyOf(request("1", "{}", "application/json"), _ -> false);
+
+        Assertions.assertThat(RequestCache.keyOf(request("1", "{\"a\":1}", "application/json"), _ -> false)).isNotEqualTo(key);
+        Assertions.assertThat(RequestCache.keyOf(request("1", "{}", "application/xml"), _ -> false)).isNotEqualTo(key);
+    }
+
+    @Test
+    void shouldCountReusedResponses() {
+        RequestCache requestCache = new RequestCache();
+        requestCache.put("key", CatsResponse.from(200, "{}", "POST", 1));
+
+        Assertions.assertThat(requestCache.get("other")).isEmpty();
+        Assertions.assertThat(requestCache.get("key")).isPresent();
+        Assertions.assertThat(requestCache.savedRequests()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {429, 503})
+    void shouldNotStoreThrottledResponses(int responseCode) {
+        RequestCache requestCache = new RequestCache();
+        requestCache.put("key", CatsResponse.from(responseCode, "{}", "POST", 1));
+
+        Assertions.assertThat(requestCache.get("key")).isEmpty();
+    }
+
+    @Test
+    void shouldStopStoringWhenBodiesExceedMaxSize() {
+        RequestCache requestCache = new RequestCache();
+        String body = "{\"value\":\"" + "a".repeat(20 * 1024 * 1024) + "\"}";
+        for (int i = 0; i < 4; i++) {
+            requestCache.put("key" + i, CatsResponse.builder().responseCode(200).body(body).build());
+        }
+
+        Assertions.assertThat(requestCache.get("key2")).isPresent();
+        Assertions.assertThat(requestCache.get("key3")).isEmpty();
+        Assertions.assertThat(requestCache.bodyBytes()).isLessThanOrEqualTo(64L * 1024 * 1024);
+    }
+
+    @Test
+    void shouldStoreUnparsedBody() {
+        RequestCache requestCache = new RequestCache();
+        CatsResponse response = CatsResponse.builder().responseCode(200).body("{\"a\":1}")
+                .jsonBodySupplier(() -> JsonParser.parseString("{\"a\":1}")).build();
+        requestCache.put("key", response);
+        response.getJsonBody();
+
+        CatsResponse cached = requestCache.get("key").orElseThrow();
+        Assertions.assertThat(ReflectionTestUtils.getField(cached, "jsonBody")).isNull();
+        Assertions.assertThat(cached.getJsonBody()).hasToString("{\"a\":1}");
+    }
+}
@@ -9,12 +9,18 @@ import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.ConnectionWarmup;
 import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.util.RateLimitQuotas;
+import com.endava.cats.util.RepeatedString;
+import com.endava.cats.util.StreamStatistics;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
@@ -36,7 +42,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @QuarkusTest
 class ServiceCallerTest {
@@ -52,6 +62,7 @@ class ServiceCallerTest {
     CatsGlobalContext catsGlobalContext;
     FilesArguments filesArguments;
     WfcAuthProvider wfcAuthProvider;
+    ExecutionStatisticsListener executionStatisticsListener;
     private ServiceCaller serviceCaller;
 
     @BeforeAll
@@ -69,6 +80,13 @@ class ServiceCallerTest {
         wireMockServer.stubFor(WireMock.get("/pets/fault/malformed").willReturn(WireMock.aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK)));
         wireMockServer.stubFor(WireMock.get("/pets/fault/random").willReturn(WireMock.aResponse().withFault(Fault.RANDOM_DATA_THEN_CLOSE)));
 
+        wireMockServer.stubFor(WireMock.get("/throttled").inScenario("throttle").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse().withStatus(429).withHeader("Retry-After", "1")).willSetStateTo("released"));
+        wireMockServer.stubFor(WireMock.get("/throttled").inScenario("throttle").whenScenarioStateIs("released")
+                .willReturn(WireMock.ok("{}")));
+        wireMockServer.stubFor(WireMock.get("/deduplicated").willReturn(WireMock.okJson("{\"pet\":\"pet\"}")));
+        wireMockServer.stubFor(WireMock.get("/throttled-no-window").willReturn(WireMock.aResponse().withStatus(429)));
+
         wireMockServer.stubFor(WireMock.delete("/pets/1").willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.head(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.trace(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
@@ -96,7 +114,8 @@ class ServiceCallerTest {
         filesArguments = new FilesArguments();
         wfcAuthProvider = new WfcAuthProvider(authArguments, apiArguments);
         TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
-        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments, wfcAuthProvider);
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments, wfcAuthProvider, executionStatisticsListener);
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
         ReflectionTestUtils.setField(authArguments, "basicAuth", "user:password");
         ReflectionTestUtils.setField(authArguments, "wfcAuthFile", null);
@@ -150,6 +169,131 @@ class ServiceCallerTest {
         Assertions.assertThat(t1 - t0).isLessThan(1000);
     }
 
+    @Test
+    void shouldCallServiceAsynchronouslyWithinInFlightWindow() {
+        TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
+        Mockito.when(testCaseListener.propagateContext(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+        ServiceCaller asyncServiceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments, wfcAuthProvider, executionStatisticsListener);
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 2);
+        asyncServiceCaller.initHttpClient();
+        asyncServiceCaller.initRateLimiter();
+        asyncServiceCaller.initInFlightWindow();
+
+        List<CompletableFuture<CatsResponse>> responses = IntStream.range(0, 5)
+                .mapToObj(i -> asyncServiceCaller.dispatch(() -> asyncServiceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                        .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build())))
+                .toList();
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 1);
+
+        Assertions.assertThat(responses).extracting(response -> response.join().responseCodeAsString()).containsOnly("200");
+        Mockito.verify(testCaseListener, Mockito.times(5)).propagateContext(Mockito.any());
+    }
+
+    @Test
+    void shouldNotDispatchTasksAfterClose() {
+        ServiceCaller closedServiceCaller = new ServiceCaller(catsGlobalContext, Mockito.mock(TestCaseListener.class), filesArguments, authArguments, apiArguments, processingArguments, wfcAuthProvider, executionStatisticsListener);
+        closedServiceCaller.initInFlightWindow();
+        closedServiceCaller.close();
+
+        Assertions.assertThatThrownBy(() -> closedServiceCaller.dispatch(() -> "task")).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldMultiplexRequestsAndRecordStreamStatistics() {
+        TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
+        Mockito.when(testCaseListener.propagateContext(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+        ServiceCaller multiplexingServiceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments, wfcAuthProvider, executionStatisticsListener);
+        ReflectionTestUtils.setField(apiArguments, "http2MaxConcurrentStreams", 2);
+        multiplexingServiceCaller.initHttpClient();
+        multiplexingServiceCaller.initRateLimiter();
+        multiplexingServiceCaller.initInFlightWindow();
+        boolean pipelining = multiplexingServiceCaller.isPipeliningEnabled();
+
+        List<CompletableFuture<CatsResponse>> responses = IntStream.range(0, 6)
+                .mapToObj(i -> multiplexingServiceCaller.dispatch(() -> multiplexingServiceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                        .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build())))
+                .toList();
+        ReflectionTestUtils.setField(apiArguments, "http2MaxConcurrentStreams", 0);
+
+        Assertions.assertThat(pipelining).isTrue();
+        Assertions.assertThat(responses).extracting(response -> response.join().responseCodeAsString()).containsOnly("200");
+        StreamStatistics.Result streams = multiplexingServiceCaller.getStreamStatistics();
+        Assertions.assertThat(streams.requestsPerProtocol()).containsEntry("http/1.1", 6L);
+        Assertions.assertThat(streams.isHttp2Negotiated()).isFalse();
+        Assertions.assertThat(streams.maxConcurrentStreamsPerConnection()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseResponseOfIdenticalRequestWhenDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        List<CatsResponse> responses = Stream.of("field1", "field2")
+                .map(field -> serviceCaller.call(ServiceData.builder().relativePath("/deduplicated").payload("{}").httpMethod(HttpMethod.GET)
+                        .headers(Collections.emptySet()).fuzzedField(field).contentType("application/json").build()))
+                .toList();
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/deduplicated")));
+        Assertions.assertThat(responses).extracting(CatsResponse::responseCodeAsString).containsOnly("200");
+        Assertions.assertThat(responses).extracting(CatsResponse::getFuzzedField).containsExactly("field1", "field2");
+        Assertions.assertThat(responses).extracting(CatsResponse::isReused).containsExactly(false, true);
+        Assertions.assertThat(responses.getLast().getResponseTimeInMs()).isZero();
+        Assertions.assertThat(responses.getLast().exceedsExpectedResponseTime(1)).isFalse();
+        Assertions.assertThat(responses.getLast().getJsonBody().toString()).isEqualTo("{\"pet\":\"pet\"}");
+        Assertions.assertThat(serviceCaller.getDeduplicatedRequests()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"DELETE,/pets/1,false", "GET,/deduplicated,true"})
+    void shouldNotReuseResponsesOfUnsafeMethodsOrStatefulFuzzers(HttpMethod httpMethod, String path, boolean statefulFuzzer) {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+        Mockito.when(testCaseListener.isCurrentFuzzerStateful()).thenReturn(statefulFuzzer);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        List<CatsResponse> responses = Stream.of("field1", "field2")
+                .map(field -> serviceCaller.call(ServiceData.builder().relativePath(path).payload("{}").httpMethod(httpMethod)
+                        .headers(Collections.emptySet()).fuzzedField(field).contentType("application/json").build()))
+                .toList();
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(responses).extracting(CatsResponse::isReused).containsExactly(false, false);
+        Assertions.assertThat(serviceCaller.getDeduplicatedRequests()).isZero();
+    }
+
+    @Test
+    void shouldPauseAndRetryWhenServiceAdvertisesRetryAfter() {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        RateLimitQuotas rateLimitQuotas = Mockito.mock(RateLimitQuotas.class);
+        ReflectionTestUtils.setField(serviceCaller, "rateLimitQuotas", rateLimitQuotas);
+
+        long t0 = System.currentTimeMillis();
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+        long t1 = System.currentTimeMillis();
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(t1 - t0).isGreaterThanOrEqualTo(900);
+        Mockito.verify(executionStatisticsListener).recordThrottleBackoff(Mockito.longThat(backoff -> backoff >= 900));
+        Mockito.verify(rateLimitQuotas, Mockito.times(2)).acquire(Mockito.any(), Mockito.eq("GET"));
+    }
+
+    @Test
+    void shouldNotRetryWhenThrottledWithoutWindow() {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled-no-window").payload("{}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("429");
+        Mockito.verifyNoInteractions(executionStatisticsListener);
+    }
+
     @Test
     void givenAServer_whenDoingADeleteCall_thenProperDetailsAreBeingReturned() {
         serviceCaller.initHttpClient();
@@ -175,6 +319,20 @@ class ServiceCallerTest {
         wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("test=2&id=1")));
     }
 
+    @Test
+    void shouldStreamRepeatedStringsInJsonBody() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{\"name\":\"" + RepeatedString.of("ab", 1000) + "\"}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets"))
+                .withHeader("Content-Length", WireMock.equalTo("2011"))
+                .withRequestBody(WireMock.equalTo("{\"name\":\"" + "ab".repeat(1000) + "\"}")));
+    }
+
     @Test
     void shouldNotReturnJson() {
         serviceCaller.initHttpClient();
@@ -188,6 +346,24 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldTruncateResponseBodyBiggerThanMaxResponseBodySize() {
+        wireMockServer.stubFor(WireMock.get("/large").willReturn(WireMock.ok("word ".repeat(1000))));
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodySize", 100);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/large").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodySize", 10485760);
+
+        Assertions.assertThat(catsResponse.getBody()).hasSize(100);
+        Assertions.assertThat(catsResponse.isBodyTruncated()).isTrue();
+        Assertions.assertThat(catsResponse.getContentLengthInBytes()).isGreaterThanOrEqualTo(100);
+        Assertions.assertThat(catsResponse.getNumberOfWordsInResponse()).isEqualTo(20);
+        Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
+    }
+
     @ParameterizedTest
     @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/malformed,957,protocol exception", "/pets/fault/random,952,empty reply from server", "/pets/fault/empty,952,empty reply from server"})
     void shouldHandleIOExceptions(String path, String responseCode, String expectedBody) {
@@ -373,6 +549,26 @@ class ServiceCallerTest {
         Assertions.assertThat(serviceCaller.okHttpClient.writeTimeoutMillis()).isEqualTo(48000);
     }
 
+    @Test
+    void shouldWarmUpConnections() {
+        wireMockServer.stubFor(WireMock.head(WireMock.urlEqualTo("/")).willReturn(WireMock.aResponse()));
+        ReflectionTestUtils.setField(apiArguments, "warmupConnections", 3);
+        ReflectionTestUtils.setField(apiArguments, "keepAliveInSec", 60);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        ConnectionWarmup.Result warmup = serviceCaller.warmUpConnections();
+        ReflectionTestUtils.setField(apiArguments, "warmupConnections", 0);
+        ReflectionTestUtils.setField(apiArguments, "keepAliveInSec", 900);
+
+        Assertions.assertThat(warmup.requests()).isEqualTo(3);
+        Assertions.assertThat(warmup.failedRequests()).isZero();
+        Assertions.assertThat(warmup.openedConnections()).isBetween(1, 3);
+        Assertions.assertThat(warmup.protocols()).containsOnly("http/1.1");
+        Assertions.assertThat(serviceCaller.okHttpClient.connectionPool().idleConnectionCount()).isEqualTo(warmup.openedConnections());
+        wireMockServer.verify(3, WireMock.headRequestedFor(WireMock.urlEqualTo("/")));
+    }
+
     @Test
     void shouldRemoveSkippedHeaders() {
         ServiceData data = ServiceData.builder().headers(Set.of(CatsHeader.builder().name("catsHeader").build())).skippedHeaders(Set.of("catsHeader")).build();
@@ -387,7 +583,9 @@ class ServiceCallerTest {
         ReflectionTestUtils.setField(filesArguments, "queryFile", new File("src/test/resources/queryParams.yml"));
         filesArguments.loadQueryParams();
 
-        String finalUrl = serviceCaller.addAdditionalQueryParams("http://localhost", "/pets");
+        ServiceData data = ServiceData.builder().relativePath("/pets").payload("{}").httpMethod(HttpMethod.POST).build();
+
+        String finalUrl = serviceCaller.constructUrl(data, "{}");
         Assertions.assertThat(finalUrl).contains("jwt", "small", "large", "param");
     }
 
@@ -602,9 +800,21 @@ class ServiceCallerTest {
                     "tenantId": "abcd"
                 }
                 """;
-        String url = "http://localhost:8080/configs/{configId}/tenants/{tenantId}";
-        String result = serviceCaller.addPathParamsIfNotReplaced(url, json);
-        Assertions.assertThat(result).isEqualTo("http://localhost:8080/configs/123/tenants/abcd");
+        ServiceData data = ServiceData.builder().relativePath("/configs/{configId}/tenants/{tenantId}").payload("").pathParamsPayload(json).httpMethod(HttpMethod.GET).build();
+        String result = serviceCaller.constructUrl(data, "");
+        Assertions.assertThat(result).isEqualTo("http://localhost:" + wireMockServer.port() + "/configs/123/tenants/abcd");
+    }
+
+    @Test
+    void shouldOnlyKeepUrlTemplatesOfContractPaths() {
+        Map<?, ?> urlTemplates = (Map<?, ?>) ReflectionTestUtils.getField(serviceCaller, "urlTemplates");
+        urlTemplates.clear();
+        Stream.of("/configs/1", "/configs/2", "/configs/{configId}")
+                .map(path -> ServiceData.builder().relativePath(path).contractPath("/configs/{configId}").payload("")
+                        .pathParamsPayload("{\"configId\": \"123\"}").httpMethod(HttpMethod.GET).build())
+                .forEach(data -> serviceCaller.constructUrl(data, ""));
+
+        Assertions.assertThat(urlTemplates).hasSize(1);
     }
 
     @Test
@@ -690,9 +900,9 @@ class ServiceCallerTest {
                     "tenantId": "special/chars&more"
                 }
                 """;
-        String url = "http://localhost:8080/configs/{configId}/tenants/{tenantId}";
-        String result = serviceCaller.addPathParamsIfNotReplaced(url, json);
-        Assertions.assertThat(result).isEqualTo("http://localhost:8080/configs/value%20with%20spaces/tenants/special%2Fchars%26more");
+        ServiceData data = ServiceData.builder().relativePath("/configs/{configId}/tenants/{tenantId}").payload("").pathParamsPayload(json).httpMethod(HttpMethod.GET).build();
+        String result = serviceCaller.constructUrl(data, "");
+        Assertions.assertThat(result).isEqualTo("http://localhost:" + wireMockServer.port() + "/configs/value%20with%20spaces/tenants/special%2Fchars%26more");
     }
 
     @Test
@@ -808,6 +1018,21 @@ class ServiceCallerTest {
         Assertions.assertThat(result).contains("queryParam=value");
     }
 
+    @Test
+    void shouldKeepRefDataQueryParamsForGetMethodWithPayload() {
+        String url = "/items/{id}";
+        ReflectionTestUtils.setField(filesArguments, "refData", Map.of(url, Map.of("id", "5", "filter", "active")));
+        ServiceData data = ServiceData.builder()
+                .relativePath(url)
+                .payload("{\"id\":\"123\",\"filter\":\"all\"}")
+                .httpMethod(HttpMethod.GET)
+                .build();
+        String result = serviceCaller.constructUrl(data, "{\"id\":\"5\",\"filter\":\"active\"}");
+
+        Assertions.assertThat(result).endsWith("/items/5?filter=active");
+        Assertions.assertThat(data.getPathParams()).containsOnly("id");
+    }
+
     @Test
     void shouldAddQueryParamsFromPathParamsPayloadDirectly() {
         String pathParamsPayload = """
@@ -816,37 +1041,37 @@ class ServiceCallerTest {
                     "queryParam2": "value2"
                 }
                 """;
-        String url = "http://localhost:8080/items";
         ServiceData data = ServiceData.builder()
+                .relativePath("/items")
                 .pathParamsPayload(pathParamsPayload)
                 .queryParams(Set.of("queryParam1", "queryParam2"))
                 .httpMethod(HttpMethod.POST)
                 .build();
-        String result = serviceCaller.addQueryParamsFromPathParamsPayload(url, data);
+        String result = serviceCaller.constructUrl(data, "{}");
         Assertions.assertThat(result).contains("queryParam1=value1", "queryParam2=value2");
     }
 
     @Test
     void shouldReturnOriginalUrlWhenNoQueryParams() {
-        String url = "http://localhost:8080/items";
         ServiceData data = ServiceData.builder()
+                .relativePath("/items")
                 .pathParamsPayload("{\"param\":\"value\"}")
                 .queryParams(Collections.emptySet())
                 .httpMethod(HttpMethod.POST)
                 .build();
-        String result = serviceCaller.addQueryParamsFromPathParamsPayload(url, data);
-        Assertions.assertThat(result).isEqualTo(url);
+        String result = serviceCaller.constructUrl(data, "{}");
+        Assertions.assertThat(result).isEqualTo("http://localhost:" + wireMockServer.port() + "/items");
     }
 
     @Test
     void shouldReturnOriginalUrlWhenPathParamsPayloadIsNull() {
-        String url = "http://localhost:8080/items";
         ServiceData data = ServiceData.builder()
+                .relativePath("/items")
                 .pathParamsPayload(null)
                 .queryParams(Set.of("param"))
                 .httpMethod(HttpMethod.POST)
                 .build();
-        String result = serviceCaller.addQueryParamsFromPathParamsPayload(url, data);
-        Assertions.assertThat(result).isEqualTo(url);
+        String result = serviceCaller.constructUrl(data, "{}");
+        Assertions.assertThat(result).isEqualTo("http://localhost:" + wireMockServer.port() + "/items");
     }
 }
@@ -0,0 +1,54 @@
+package com.endava.cats.io;
+
+import com.endava.cats.util.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+@QuarkusTest
+class UrlTemplateTest {
+
+    @Test
+    void shouldReplaceUrlParamsOnlyWhenRequested() {
+        UrlTemplate template = UrlTemplate.of("http://localhost/tenants/{tenantId}/items/{id}", List.of("tenantId:a b"), Map.of());
+
+        Assertions.assertThat(template.newValues(true).path()).isEqualTo("http://localhost/tenants/a%20b/items/{id}");
+        Assertions.assertThat(template.newValues(false).path()).isEqualTo("http://localhost/tenants/{tenantId}/items/{id}");
+    }
+
+    @Test
+    void shouldKeepFirstValueAndFillMissingVariables() {
+        UrlTemplate template = UrlTemplate.of("http://localhost/{id}/copies/{id}/{other}", List.of(), Map.of());
+        UrlTemplate.Values values = template.newValues(true);
+
+        values.set("id", "1");
+        values.set("id", "2");
+        Assertions.assertThat(values.hasMissing()).isTrue();
+        Assertions.assertThat(values.setMissing(variable -> variable + "/value")).containsExactly("other");
+        Assertions.assertThat(values.hasMissing()).isFalse();
+        Assertions.assertThat(values.path()).isEqualTo("http://localhost/1/copies/1/other%2Fvalue");
+    }
+
+    @Test
+    void shouldAddRequestQueryParamsBeforeAdditionalQueryParams() {
+        UrlTemplate template = UrlTemplate.of("http://localhost/pets", List.of(), Map.of("jwt", "large"));
+
+        String url = template.newValues(true).url(List.of(new KeyValuePair<>("limit", "2")));
+
+        Assertions.assertThat(url).isEqualTo("http://localhost/pets?limit=2&jwt=large");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http://localhost/pets", "http://localhost/pets/{unclosed", "http://localhost/pets}"})
+    void shouldKeepUrlsWithoutVariables(String url) {
+        UrlTemplate.Values values = UrlTemplate.of(url, List.of(), Map.of()).newValues(true);
+
+        Assertions.assertThat(values.hasMissing()).isFalse();
+        Assertions.assertThat(values.path()).isEqualTo(url);
+    }
+}
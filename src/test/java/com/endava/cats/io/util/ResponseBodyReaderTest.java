@@ -0,0 +1,70 @@
+package com.endava.cats.io.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class ResponseBodyReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{\"id\": 1,\n\"name\": \"cats\"}", "line1\r\nline2\n\n", "\n\n", "  spaced   words\tand\ttabs  ", "\nfirst"})
+    void shouldComputeSameMetricsAsFullBody(String body) throws IOException {
+        ResponseBodyReader.ResponseBodyContent content = read(body, 1024);
+
+        Assertions.assertThat(content.body()).isEqualTo(body);
+        Assertions.assertThat(content.truncated()).isFalse();
+        Assertions.assertThat(content.contentLengthInBytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(content.numberOfWords()).isEqualTo(new StringTokenizer(body).countTokens());
+        Assertions.assertThat(content.numberOfLines()).isEqualTo(body.split("[\r\n]").length);
+    }
+
+    @Test
+    void shouldStopReadingAfterMaxBodySize() throws IOException {
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+        };
+
+        ResponseBodyReader.ResponseBodyContent content = ResponseBodyReader.read(endless, StandardCharsets.UTF_8, -1, 10_000);
+
+        Assertions.assertThat(content.truncated()).isTrue();
+        Assertions.assertThat(content.body()).hasSize(10_000);
+        Assertions.assertThat(content.contentLengthInBytes()).isEqualTo(10_000);
+        Assertions.assertThat(content.numberOfWords()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseDeclaredLengthWhenTruncated() throws IOException {
+        byte[] body = "x".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        ResponseBodyReader.ResponseBodyContent content = ResponseBodyReader.read(new ByteArrayInputStream(body), StandardCharsets.UTF_8, body.length, 10);
+
+        Assertions.assertThat(content.truncated()).isTrue();
+        Assertions.assertThat(content.body()).isEqualTo("x".repeat(10));
+        Assertions.assertThat(content.contentLengthInBytes()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldHashBodyAndNotTruncateWhenExactlyMaxBodySize() throws IOException {
+        ResponseBodyReader.ResponseBodyContent content = read("abc", 3);
+
+        Assertions.assertThat(content.truncated()).isFalse();
+        Assertions.assertThat(content.sha256()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    private static ResponseBodyReader.ResponseBodyContent read(String body, long maxBodySize) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return ResponseBodyReader.read(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, bytes.length, maxBodySize);
+    }
+}
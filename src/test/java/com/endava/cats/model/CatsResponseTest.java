@@ -1,5 +1,7 @@
 package com.endava.cats.model;
 
+import com.endava.cats.util.KeyValuePair;
+import com.google.gson.JsonParser;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -8,6 +10,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.IOException;
 import java.net.ProtocolException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @QuarkusTest
 class CatsResponseTest {
@@ -54,4 +58,36 @@ class CatsResponseTest {
 
         Assertions.assertThat(response.responseCode()).isEqualTo(957);
     }
+
+    @Test
+    void shouldParseJsonBodyAndHeadersOnlyOnceAndOnlyWhenAccessed() {
+        AtomicInteger parsed = new AtomicInteger();
+        CatsResponse response = CatsResponse.builder()
+                .body("{\"id\": 1}")
+                .jsonBodySupplier(() -> {
+                    parsed.incrementAndGet();
+                    return JsonParser.parseString("{\"id\": 1}");
+                })
+                .headersSupplier(() -> List.of(new KeyValuePair<>("X-Id", "1")))
+                .build();
+
+        Assertions.assertThat(parsed).hasValue(0);
+        Assertions.assertThat(response.getJsonBody().getAsJsonObject().get("id").getAsInt()).isEqualTo(1);
+        Assertions.assertThat(response.getJsonBody()).isNotNull();
+        Assertions.assertThat(parsed).hasValue(1);
+        Assertions.assertThat(response.getHeader("X-Id")).isNotNull();
+    }
+
+    @Test
+    void shouldKnowIfJsonBodyIsParsedWithoutParsingIt() {
+        CatsResponse response = CatsResponse.builder()
+                .jsonBodySupplier(() -> JsonParser.parseString("{\"id\": 1}"))
+                .build();
+
+        Assertions.assertThat(response.hasJsonBody()).isTrue();
+        Assertions.assertThat(response.isJsonBodyParsed()).isFalse();
+        response.getJsonBody();
+        Assertions.assertThat(response.isJsonBodyParsed()).isTrue();
+        Assertions.assertThat(CatsResponse.builder().build().hasJsonBody()).isFalse();
+    }
 }
@@ -46,4 +46,12 @@ class CatsTestCaseTest {
         Assertions.assertThat(catsTestCase.isNotSkipped()).isFalse();
     }
 
+    @Test
+    void shouldIgnoreReusedResponsesForExecutionStatistics() {
+        CatsTestCase catsTestCase = new CatsTestCase();
+        catsTestCase.setResponse(CatsResponse.builder().responseCode(200).responseTimeInMs(100).build().reusedFor("field"));
+
+        Assertions.assertThat(catsTestCase.notIgnoredForExecutionStatistics()).isFalse();
+        Assertions.assertThat(catsTestCase.getResponse().isReused()).isTrue();
+    }
 }
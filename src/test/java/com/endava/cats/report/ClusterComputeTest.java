@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -242,6 +243,17 @@ class ClusterComputeTest {
         assertThat(clusterList).hasSizeGreaterThanOrEqualTo(2);
     }
 
+    @Test
+    void testCreateClustersKeepsOnlyPrefixOfRepresentativeError() {
+        CatsTestCaseSummary testCase = createTestCaseSummary(500, "Server Error", "error", "Error");
+        ReflectionTestUtils.setField(testCase, "responseBody", "Error: " + "A".repeat(5000));
+
+        List<Map<String, Object>> clusters = ClusterCompute.createClusters(List.of(testCase));
+
+        List<Map<String, Object>> clusterList = (List<Map<String, Object>>) clusters.getFirst().get("clusters");
+        assertThat((String) clusterList.getFirst().get("errorMessage")).hasSize(CatsTestCaseSummary.MAX_RESPONSE_BODY_LENGTH).startsWith("Error: AAA");
+    }
+
     @Test
     void testCreateClustersWithSingleTestCaseInGroup() {
         List<CatsTestCaseSummary> testCases = List.of(
@@ -318,6 +330,50 @@ class ClusterComputeTest {
         assertThat(clusterList).isNotEmpty();
     }
 
+    @Test
+    void shouldGroupTestCaseLinksByPathWhenAddingIncrementally() {
+        ClusterCompute.Accumulator accumulator = new ClusterCompute.Accumulator();
+        accumulator.add(createTestCaseSummary("Test 1", "/users", "Error: File not found at /path/1"));
+        accumulator.add(createTestCaseSummary("Test 2", "/orders", "Error: File not found at /path/2"));
+        accumulator.add(createTestCaseSummary("Test 3", "/users", "Error: File not found at /path/3"));
+
+        List<Map<String, Object>> clusters = accumulator.clusters();
+
+        assertThat(clusters).hasSize(1);
+        List<Map<String, Object>> clusterList = (List<Map<String, Object>>) clusters.getFirst().get("clusters");
+        assertThat(clusterList).hasSize(1);
+        assertThat(clusterList.getFirst()).containsEntry("errorMessage", "Error: File not found at /path/1");
+        List<Map<String, Object>> paths = (List<Map<String, Object>>) clusterList.getFirst().get("paths");
+        assertThat(paths).containsExactly(
+                Map.of("path", "/users", "testCases", "<a href=\"Test1.html\" target=\"_blank\">Test 1</a>, <a href=\"Test3.html\" target=\"_blank\">Test 3</a>"),
+                Map.of("path", "/orders", "testCases", "<a href=\"Test2.html\" target=\"_blank\">Test 2</a>"));
+    }
+
+    @Test
+    void shouldOnlyCountLinksOverMaxLinksPerPath() {
+        ClusterCompute.Accumulator accumulator = new ClusterCompute.Accumulator(2);
+        for (int i = 1; i <= 5; i++) {
+            accumulator.add(createTestCaseSummary("Test " + i, "/users", "Error: File not found at /path/" + i));
+        }
+
+        List<Map<String, Object>> clusterList = (List<Map<String, Object>>) accumulator.clusters().getFirst().get("clusters");
+        List<Map<String, Object>> paths = (List<Map<String, Object>>) clusterList.getFirst().get("paths");
+
+        assertThat(paths).containsExactly(Map.of("path", "/users",
+                "testCases", "<a href=\"Test1.html\" target=\"_blank\">Test 1</a>, <a href=\"Test2.html\" target=\"_blank\">Test 2</a> and 3 more"));
+    }
+
+    private static CatsTestCaseSummary createTestCaseSummary(String testId, String path, String responseBody) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setResponse(CatsResponse.builder().responseCode(404).body(responseBody).build());
+        testCase.setResult("error");
+        testCase.setPath(path);
+        testCase.setContractPath(path);
+        testCase.setResultReason("Not Found");
+        testCase.setTestId(testId);
+        return CatsTestCaseSummary.fromCatsTestCase(testCase);
+    }
+
     private static CatsTestCaseSummary createTestCaseSummary(int httpResponseCode, String resultReason, String result, String responseBody) {
         CatsTestCase testCase = new CatsTestCase();
         testCase.setResponse(CatsResponse.builder().responseCode(httpResponseCode).body(responseBody).build());
@@ -187,4 +187,14 @@ class ExecutionStatisticsListenerTest {
         Assertions.assertThat(listener.getSkippedFromReporting()).isZero();
     }
 
+    @Test
+    void shouldRecordThrottleBackoff() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.recordThrottleBackoff(1200);
+        listener.recordThrottleBackoff(-5);
+
+        Assertions.assertThat(listener.getThrottledRetries()).isEqualTo(2);
+        Assertions.assertThat(listener.getThrottledTimeInMs()).isEqualTo(1200);
+    }
+
 }
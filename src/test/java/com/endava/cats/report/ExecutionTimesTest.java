@@ -0,0 +1,53 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.TimeExecutionDetails;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class ExecutionTimesTest {
+
+    @Test
+    void shouldGroupExecutionTimesPerPathAndHttpMethodWithFuzzerDetails() {
+        ExecutionTimes executionTimes = new ExecutionTimes();
+        executionTimes.record("POST", "/users", "EmptyStringsInFieldsFuzzer", "Test 1", 10);
+        executionTimes.record("POST", "/users", "EmptyStringsInFieldsFuzzer", "Test 2", 30);
+        executionTimes.record("POST", "/users", "NullValuesInFieldsFuzzer", "Test 3", 20);
+        executionTimes.record("GET", "/users", "NullValuesInFieldsFuzzer", "Test 4", 5);
+
+        List<TimeExecutionDetails> details = executionTimes.details();
+
+        Assertions.assertThat(details).extracting(TimeExecutionDetails::getPath).containsExactly("GET /users", "POST /users");
+        TimeExecutionDetails post = details.getLast();
+        Assertions.assertThat(post.getCount()).isEqualTo(3);
+        Assertions.assertThat(post.getAverage()).isEqualTo(20);
+        Assertions.assertThat(post.getP50()).isEqualTo(20);
+        Assertions.assertThat(post.getP99()).isEqualTo(30);
+        Assertions.assertThat(post.getBestCase().getTestId()).isEqualTo("Test 1");
+        Assertions.assertThat(post.getWorstCase().getTestId()).isEqualTo("Test 2");
+        Assertions.assertThat(post.getFuzzers()).extracting(TimeExecutionDetails::getFuzzer)
+                .containsExactly("EmptyStringsInFieldsFuzzer", "NullValuesInFieldsFuzzer");
+        Assertions.assertThat(post.getFuzzers().getFirst().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMergeExecutionTimes() {
+        ExecutionTimes first = new ExecutionTimes();
+        ExecutionTimes second = new ExecutionTimes();
+        first.record("GET", "/users", "NullValuesInFieldsFuzzer", "Test 1", 10);
+        second.record("GET", "/users", "NullValuesInFieldsFuzzer", "Test 2", 50);
+        second.record("GET", "/users", "EmptyStringsInFieldsFuzzer", "Test 3", 1);
+
+        first.merge(second);
+        TimeExecutionDetails details = first.details().getFirst();
+
+        Assertions.assertThat(first.isEmpty()).isFalse();
+        Assertions.assertThat(details.getCount()).isEqualTo(3);
+        Assertions.assertThat(details.getBestCase().getTestId()).isEqualTo("Test 3");
+        Assertions.assertThat(details.getWorstCase().getTestId()).isEqualTo("Test 2");
+        Assertions.assertThat(details.getFuzzers()).hasSize(2);
+    }
+}
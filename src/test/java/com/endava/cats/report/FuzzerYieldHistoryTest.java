@@ -0,0 +1,106 @@
+package com.endava.cats.report;
+
+import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class FuzzerYieldHistoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldOrderFuzzersByErrorsPerTestCase() throws IOException {
+        Path report = createReport("first",
+                testCase("HeaderNames", "/users", "success"),
+                testCase("HeaderNames", "/users", "success"),
+                testCase("NewFields", "/users", "error"),
+                testCase("NewFields", "/users", "success"),
+                testCase("RemoveFields", "/users", "error"),
+                testCase("RemoveFields", "/users", "error"));
+        Fuzzer headerNames = fuzzer("HeaderNamesFuzzer");
+        Fuzzer newFields = fuzzer("NewFieldsFuzzer");
+        Fuzzer removeFields = fuzzer("RemoveFieldsFuzzer");
+
+        FuzzerYieldHistory history = FuzzerYieldHistory.load(List.of(report));
+
+        assertThat(history.isEmpty()).isFalse();
+        assertThat(history.prioritize(List.of(headerNames, newFields, removeFields), "/users", Set.of(HttpMethod.POST)))
+                .containsExactly(removeFields, newFields, headerNames);
+    }
+
+    @Test
+    void shouldUseFuzzerYieldFromOtherPathsWhenNoHistoryForPath() throws IOException {
+        Path report = createReport("first",
+                testCase("HeaderNames", "/orders", "success"),
+                testCase("NewFields", "/orders", "error"));
+        Fuzzer headerNames = fuzzer("HeaderNamesFuzzer");
+        Fuzzer newFields = fuzzer("NewFieldsFuzzer");
+        Fuzzer unknown = fuzzer("UnknownFuzzer");
+
+        FuzzerYieldHistory history = FuzzerYieldHistory.load(List.of(report.resolve(TestCaseExporter.REPORT_JS)));
+
+        assertThat(history.prioritize(List.of(headerNames, unknown, newFields), "/users", Set.of(HttpMethod.POST)))
+                .containsExactly(newFields, unknown, headerNames);
+    }
+
+    @Test
+    void shouldKeepOrderWhenNoHistory() {
+        Fuzzer headerNames = fuzzer("HeaderNamesFuzzer");
+        Fuzzer newFields = fuzzer("NewFieldsFuzzer");
+
+        assertThat(FuzzerYieldHistory.EMPTY.prioritize(List.of(newFields, headerNames), "/users", Set.of(HttpMethod.POST)))
+                .containsExactly(newFields, headerNames);
+    }
+
+    @Test
+    void shouldRejectFolderWithoutSummaryReport() {
+        assertThatThrownBy(() -> FuzzerYieldHistory.load(List.of(tempDir)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a CATS report folder");
+    }
+
+    private static Fuzzer fuzzer(String name) {
+        Fuzzer fuzzer = Mockito.mock(Fuzzer.class);
+        Mockito.when(fuzzer.toString()).thenReturn(name);
+        return fuzzer;
+    }
+
+    private static JsonObject testCase(String fuzzer, String path, String result) {
+        JsonObject testCase = new JsonObject();
+        testCase.addProperty("fuzzer", fuzzer);
+        testCase.addProperty("path", path);
+        testCase.addProperty("httpMethod", "post");
+        testCase.addProperty("result", result);
+        return testCase;
+    }
+
+    private Path createReport(String name, JsonObject... testCases) throws IOException {
+        Path folder = Files.createDirectories(tempDir.resolve(name));
+        JsonArray cases = new JsonArray();
+        for (JsonObject testCase : testCases) {
+            cases.add(testCase);
+        }
+        JsonObject report = new JsonObject();
+        report.addProperty("catsVersion", "1.0.0");
+        report.add("testCases", cases);
+        Files.writeString(folder.resolve(TestCaseExporter.REPORT_JS), JsonUtils.GSON.toJson(report));
+        return folder;
+    }
+}
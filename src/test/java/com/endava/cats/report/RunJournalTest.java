@@ -0,0 +1,185 @@
+package com.endava.cats.report;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class RunJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path journalFile;
+    private RunJournal runJournal;
+
+    @BeforeEach
+    void setup() {
+        journalFile = tempDir.resolve(RunJournal.JOURNAL_FILE);
+        runJournal = new RunJournal();
+    }
+
+    @Test
+    void shouldRecordCompletedWorkUnitsAndLoadThem() throws IOException {
+        runJournal.start(journalFile, 42, false);
+        runJournal.runWorkUnit("/users", HttpMethod.POST, 0, "FirstFuzzer", completed(() -> {
+            runJournal.recordTest(1);
+            runJournal.recordTest(2);
+        }));
+        runJournal.runWorkUnit("/users", HttpMethod.POST, 1, "FirstFuzzer", completed(() -> runJournal.recordTest(3)));
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        long seed = resumed.load(journalFile);
+
+        assertThat(seed).isEqualTo(42);
+        assertThat(resumed.getCompletedTests()).containsExactly(1, 2, 3);
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 0, "FirstFuzzer")).isTrue();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 1, "FirstFuzzer")).isTrue();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 2, "FirstFuzzer")).isFalse();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.GET, 0, "FirstFuzzer")).isFalse();
+    }
+
+    @Test
+    void shouldSkipExactlyThePayloadsCompletedOutOfOrder() throws IOException {
+        runJournal.start(journalFile, 42, false);
+        runJournal.runWorkUnit("/users", HttpMethod.POST, 2, "FirstFuzzer", completed(() -> runJournal.recordTest(1)));
+        runJournal.runWorkUnit("/users", HttpMethod.POST, 0, "FirstFuzzer", completed(() -> runJournal.recordTest(2)));
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        resumed.load(journalFile);
+
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 0, "FirstFuzzer")).isTrue();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 1, "FirstFuzzer")).isFalse();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.POST, 2, "FirstFuzzer")).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreWorkUnitsWithoutPayloadIndex() throws IOException {
+        Files.writeString(journalFile, """
+                {"seed":3}
+                {"path":"/users","method":"GET","fuzzer":"FirstFuzzer","tests":[1]}
+                """);
+
+        runJournal.load(journalFile);
+
+        assertThat(runJournal.skipCompleted("/users", HttpMethod.GET, 0, "FirstFuzzer")).isFalse();
+    }
+
+    @Test
+    void shouldNotRecordFailedWorkUnit() throws IOException {
+        runJournal.start(journalFile, 1, false);
+        assertThatThrownBy(() -> runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "FirstFuzzer", () -> {
+            runJournal.recordTest(1);
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        resumed.load(journalFile);
+
+        assertThat(resumed.getCompletedTests()).isEmpty();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.GET, 0, "FirstFuzzer")).isFalse();
+    }
+
+    @Test
+    void shouldNotRecordIncompleteWorkUnit() throws IOException {
+        runJournal.start(journalFile, 1, false);
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "FirstFuzzer", () -> {
+            runJournal.recordTest(1);
+            return false;
+        });
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        resumed.load(journalFile);
+
+        assertThat(resumed.getCompletedTests()).isEmpty();
+        assertThat(resumed.skipCompleted("/users", HttpMethod.GET, 0, "FirstFuzzer")).isFalse();
+    }
+
+    @Test
+    void shouldOnlySyncAfterGroupOfTests() throws IOException {
+        runJournal.start(journalFile, 1, false);
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "FirstFuzzer", completed(() -> runJournal.recordTest(1)));
+
+        assertThat(Files.readAllLines(journalFile)).hasSize(1);
+
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "SecondFuzzer",
+                completed(() -> IntStream.rangeClosed(2, RunJournal.GROUP_COMMIT_TESTS).forEach(runJournal::recordTest)));
+
+        assertThat(Files.readAllLines(journalFile)).hasSize(3);
+        runJournal.close();
+    }
+
+    @Test
+    void shouldAppendWhenResumingAndIgnoreIncompleteLines() throws IOException {
+        runJournal.start(journalFile, 7, false);
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "FirstFuzzer", completed(() -> runJournal.recordTest(1)));
+        runJournal.close();
+        Files.writeString(journalFile, "{\"path\":\"/users\",\"meth", StandardOpenOption.APPEND);
+
+        RunJournal resumed = new RunJournal();
+        assertThat(resumed.load(journalFile)).isEqualTo(7);
+        resumed.start(journalFile, 7, true);
+        resumed.runWorkUnit("/users", HttpMethod.GET, 0, "SecondFuzzer", completed(() -> resumed.recordTest(2)));
+        resumed.close();
+
+        RunJournal resumedAgain = new RunJournal();
+        resumedAgain.load(journalFile);
+        assertThat(resumedAgain.getCompletedTests()).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldRenumberCompletedTestsAndRewriteJournalWhenResuming() throws IOException {
+        runJournal.start(journalFile, 7, false);
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 0, "FirstFuzzer", completed(() -> {
+            runJournal.recordTest(2);
+            runJournal.recordTest(3);
+        }));
+        runJournal.runWorkUnit("/users", HttpMethod.GET, 1, "FirstFuzzer", completed(() -> runJournal.recordTest(7)));
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        resumed.load(journalFile);
+        assertThat(resumed.renumberCompletedTests()).containsExactly(Map.entry(2, 1), Map.entry(3, 2), Map.entry(7, 3));
+        resumed.start(journalFile, 7, true);
+        resumed.runWorkUnit("/users", HttpMethod.GET, 2, "FirstFuzzer", completed(() -> resumed.recordTest(4)));
+        resumed.close();
+
+        RunJournal resumedAgain = new RunJournal();
+        assertThat(resumedAgain.load(journalFile)).isEqualTo(7);
+        assertThat(resumedAgain.getCompletedTests()).containsExactly(1, 2, 3, 4);
+        assertThat(resumedAgain.skipCompleted("/users", HttpMethod.GET, 1, "FirstFuzzer")).isTrue();
+    }
+
+    @Test
+    void shouldRejectJournalWithoutHeader() throws IOException {
+        Files.writeString(journalFile, "");
+
+        assertThatThrownBy(() -> runJournal.load(journalFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a valid journal");
+    }
+
+    private static BooleanSupplier completed(Runnable workUnit) {
+        return () -> {
+            workUnit.run();
+            return true;
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.endava.cats.report;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+class RunTimeBudgetTest {
+
+    private AtomicLong clock;
+    private RunTimeBudget runTimeBudget;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong();
+        runTimeBudget = new RunTimeBudget(clock::get);
+    }
+
+    @Test
+    void shouldAdmitAllTestCasesWhenNoBudget() {
+        runTimeBudget.start(0, 2, 1, 1);
+        List<Boolean> admitted = new ArrayList<>();
+
+        runTimeBudget.runWorkUnit("/users", HttpMethod.GET, "FirstFuzzer", 1, () -> {
+            clock.set(Long.MAX_VALUE / 2);
+            admitted.add(runTimeBudget.admitTestCase());
+        });
+
+        assertThat(runTimeBudget.isEnabled()).isFalse();
+        assertThat(admitted).containsOnly(true);
+        assertThat(runTimeBudget.getSkippedWorkUnits()).isEmpty();
+    }
+
+    @Test
+    void shouldSampleTestCasesOnceWorkUnitSliceIsExhausted() {
+        runTimeBudget.start(10, 2, 1, 1);
+        runTimeBudget.registerPath("/users", 10);
+        List<Boolean> admitted = new ArrayList<>();
+
+        runTimeBudget.runWorkUnit("/users", HttpMethod.GET, "FirstFuzzer", 5, () -> {
+            admitted.add(runTimeBudget.admitTestCase());
+            /* path slice is 5000ms, the work unit expects half of the tests of the path */
+            clock.set(2499);
+            admitted.add(runTimeBudget.admitTestCase());
+            clock.set(2500);
+            IntStream.range(0, 20).forEach(_ -> admitted.add(runTimeBudget.admitTestCase()));
+        });
+
+        assertThat(admitted.stream().filter(Boolean::booleanValue)).hasSize(4);
+        assertThat(runTimeBudget.getSkippedWorkUnits()).singleElement().satisfies(workUnit -> {
+            assertThat(workUnit.path()).isEqualTo("/users");
+            assertThat(workUnit.httpMethod()).isEqualTo(HttpMethod.GET);
+            assertThat(workUnit.fuzzer()).isEqualTo("FirstFuzzer");
+            assertThat(workUnit.executed()).hasValue(4);
+            assertThat(workUnit.skipped()).hasValue(18);
+        });
+    }
+
+    @Test
+    void shouldRecomputePathSliceFromRemainingTime() {
+        runTimeBudget.start(10, 2, 1, 1);
+        runTimeBudget.registerPath("/users", 1);
+        runTimeBudget.registerPath("/orders", 2);
+        List<Boolean> admitted = new ArrayList<>();
+
+        runTimeBudget.runWorkUnit("/users", HttpMethod.GET, "FirstFuzzer", 1, () -> clock.set(8000));
+        /* 2000ms left for the last path, half of it for the work unit */
+        runTimeBudget.runWorkUnit("/orders", HttpMethod.GET, "FirstFuzzer", 1, () -> {
+            clock.set(8999);
+            admitted.add(runTimeBudget.admitTestCase());
+            clock.set(9000);
+            admitted.add(runTimeBudget.admitTestCase());
+            admitted.add(runTimeBudget.admitTestCase());
+        });
+
+        assertThat(admitted).containsExactly(true, true, false);
+        assertThat(runTimeBudget.getSkippedWorkUnits()).singleElement()
+                .satisfies(workUnit -> assertThat(workUnit.path()).isEqualTo("/orders"));
+    }
+
+    @Test
+    void shouldSkipAllTestCasesOnceRunBudgetIsExhausted() {
+        runTimeBudget.start(10, 1, 1, 1);
+        List<Boolean> admitted = new ArrayList<>();
+
+        runTimeBudget.runWorkUnit("/users", HttpMethod.POST, "FirstFuzzer", 3, () -> {
+            clock.set(10_000);
+            IntStream.range(0, 3).forEach(_ -> admitted.add(runTimeBudget.admitTestCase()));
+        });
+
+        assertThat(admitted).containsOnly(false);
+        assertThat(runTimeBudget.admitTestCase()).isFalse();
+        assertThat(runTimeBudget.getSkippedWorkUnits()).singleElement()
+                .satisfies(workUnit -> assertThat(workUnit.skipped()).hasValue(3));
+    }
+
+    @Test
+    void shouldReportIfWorkUnitRanAllTestCases() {
+        runTimeBudget.start(10, 1, 1, 1);
+
+        boolean complete = runTimeBudget.runWorkUnit("/users", HttpMethod.GET, "FirstFuzzer", 1, runTimeBudget::admitTestCase);
+        boolean truncated = runTimeBudget.runWorkUnit("/users", HttpMethod.POST, "FirstFuzzer", 1, () -> {
+            clock.set(10_000);
+            runTimeBudget.admitTestCase();
+        });
+
+        assertThat(complete).isTrue();
+        assertThat(truncated).isFalse();
+    }
+
+    @Test
+    void shouldAdmitPropagatedTestCasesWithinSliceOfCallingWorkUnit() {
+        runTimeBudget.start(10, 2, 1, 1);
+        runTimeBudget.registerPath("/users", 10);
+        List<Boolean> admitted = new ArrayList<>();
+
+        boolean complete = runTimeBudget.runWorkUnit("/users", HttpMethod.GET, "FirstFuzzer", 5, () -> {
+            Supplier<Boolean> task = runTimeBudget.propagateSlice(runTimeBudget::admitTestCase);
+            clock.set(2500);
+            try (ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, 2).forEach(_ -> admitted.add(CompletableFuture.supplyAsync(task, dispatcher).join()));
+            }
+        });
+
+        assertThat(admitted).containsExactly(true, false);
+        assertThat(complete).isFalse();
+        assertThat(runTimeBudget.getSkippedWorkUnits()).singleElement()
+                .satisfies(workUnit -> assertThat(workUnit.skipped()).hasValue(1));
+    }
+}
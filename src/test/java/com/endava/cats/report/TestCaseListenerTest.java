@@ -7,6 +7,7 @@ import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.exception.CatsException;
 import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.fuzzer.http.CheckDeletedResourcesNotAvailableFuzzer;
 import com.endava.cats.fuzzer.http.RandomResourcesFuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
@@ -18,6 +19,7 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.JsonUtils;
 import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
@@ -28,6 +30,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
@@ -36,6 +39,8 @@ import org.slf4j.event.Level;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +49,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class TestCaseListenerTest {
@@ -74,7 +87,7 @@ class TestCaseListenerTest {
         executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
         ignoreArguments = Mockito.mock(IgnoreArguments.class);
         filterArguments = Mockito.mock(FilterArguments.class);
-        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, testReportsGenerator, ignoreArguments, reportingArguments, filterArguments);
+        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, testReportsGenerator, ignoreArguments, reportingArguments, filterArguments, new RunJournal(), new RunTimeBudget());
         catsGlobalContext.getDiscriminators().clear();
         catsGlobalContext.getFuzzersConfiguration().clear();
     }
@@ -84,6 +97,57 @@ class TestCaseListenerTest {
         TestCaseListener.TEST.set(0);
     }
 
+    @Test
+    void shouldRestoreCompletedTestCasesAndRemoveIncompleteOnes(@TempDir Path reportFolder) throws IOException {
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        CatsTestCase completed = new CatsTestCase();
+        completed.setTestId("Test 1");
+        completed.setContractPath("/users");
+        completed.setResult("error");
+        completed.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        completed.setResponse(CatsResponse.builder().responseCode(500).build());
+        Files.writeString(reportFolder.resolve("Test1.json"), JsonUtils.GSON.toJson(completed));
+        Files.writeString(reportFolder.resolve("Test1.html"), "<html/>");
+        Files.writeString(reportFolder.resolve("Test3.json"), "{}");
+        Files.writeString(reportFolder.resolve("Test3.html"), "<html/>");
+
+        testCaseListener.restoreTestCases(Map.of(1, 1, 2, 2));
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(1);
+        Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(2);
+        Assertions.assertThat(reportFolder.resolve("Test1.html")).exists();
+        Assertions.assertThat(reportFolder.resolve("Test3.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test3.html")).doesNotExist();
+        Mockito.verify(executionStatisticsListener).increaseErrors("/users");
+        Mockito.verify(executionStatisticsListener).recordResponseCode(500);
+    }
+
+    @Test
+    void shouldRenumberRestoredTestCasesWithoutGaps(@TempDir Path reportFolder) throws IOException {
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        for (int testNumber : List.of(2, 3, 5)) {
+            CatsTestCase testCase = new CatsTestCase();
+            testCase.setTestId("Test " + testNumber);
+            testCase.setContractPath("/users");
+            testCase.setResult("success");
+            testCase.setRequest(CatsRequest.builder().httpMethod("POST").build());
+            testCase.setResponse(CatsResponse.builder().responseCode(200).build());
+            Files.writeString(reportFolder.resolve("Test" + testNumber + ".json"), JsonUtils.GSON.toJson(testCase));
+            Files.writeString(reportFolder.resolve("Test" + testNumber + ".html"), "<a href=\"Test" + testNumber + ".json\">Test " + testNumber + "</a>");
+        }
+
+        testCaseListener.restoreTestCases(Map.of(2, 1, 5, 2));
+
+        Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(2);
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(CatsTestCaseSummary::getId).containsExactlyInAnyOrder("Test 1", "Test 2");
+        Assertions.assertThat(reportFolder.resolve("Test2.json")).content().contains("\"testId\":\"Test 2\"");
+        Assertions.assertThat(reportFolder.resolve("Test2.html")).hasContent("<a href=\"Test2.json\">Test 2</a>");
+        Assertions.assertThat(reportFolder.resolve("Test1.html")).hasContent("<a href=\"Test1.json\">Test 1</a>");
+        Assertions.assertThat(reportFolder.resolve("Test3.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test5.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test5.html")).doesNotExist();
+    }
+
     @Test
     void givenAFunction_whenExecutingATestCase_thenTheCorrectContextIsCreatedAndTheTestCaseIsWrittenToFile() {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -261,28 +325,51 @@ class TestCaseListenerTest {
 
     @Test
     void shouldStorePostRequestAndRemoveAfterDelete() {
+        catsGlobalContext.getPostSuccessfulResponses().clear();
         CatsResponse response = CatsResponse.builder().body("{}").responseCode(200).build();
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("300", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.POST);
         Mockito.when(data.getPath()).thenReturn("/test");
-        MDC.put(TestCaseListener.ID, "1");
-        testCaseListener.testCaseMap.put("1", new CatsTestCase());
-        testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
 
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+            Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
+            Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
 
+            Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
+            Mockito.when(data.getPath()).thenReturn("/test/{testId}");
+            catsGlobalContext.leasePostResponse("/test", testCaseListener.getTestIdentifier());
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+            Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
+            Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+        }, FuzzingData.builder().build());
+        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnLeasedPostResponseWhenDeleteNotSuccessful() {
+        catsGlobalContext.getPostSuccessfulResponses().clear();
+        catsGlobalContext.storePostResponse("/test", "{\"id\": 1}");
+        CatsResponse response = CatsResponse.builder().body("{}").responseCode(500).build();
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getResponseCodes()).thenReturn(Set.of("300", "400"));
+        Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
         Mockito.when(data.getPath()).thenReturn("/test/{testId}");
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
 
-        MDC.remove(TestCaseListener.ID);
-        testCaseListener.testCaseMap.clear();
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("DELETE").build());
+            catsGlobalContext.leasePostResponse("/test", testCaseListener.getTestIdentifier());
+            Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        }, FuzzingData.builder().build());
+
+        Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).containsExactly("{\"id\": 1}");
+        catsGlobalContext.getPostSuccessfulResponses().clear();
     }
 
     @Test
@@ -852,6 +939,102 @@ class TestCaseListenerTest {
         prepareTestCaseListenerSimpleSetup(CatsResponse.builder().build(), () -> Assertions.assertThat(testCaseListener.getTestIdentifier()).isNotNull());
     }
 
+    @Test
+    void shouldKeepTestCasesIsolatedWhenRunningConcurrently() throws Exception {
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> scenarios = IntStream.range(0, 20)
+                    .mapToObj(i -> executorService.submit(() -> {
+                        AtomicReference<String> scenario = new AtomicReference<>();
+                        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                            testCaseListener.addScenario(logger, "Scenario {}", i);
+                            Thread.yield();
+                            scenario.set(testCaseListener.currentTestCaseContext().testCase().getScenario());
+                        }, FuzzingData.builder().build());
+                        return scenario.get() + "-" + i;
+                    }))
+                    .toList();
+
+            for (Future<String> scenario : scenarios) {
+                String[] parts = scenario.get().split("-", -1);
+                Assertions.assertThat(parts[0]).isEqualTo("Scenario " + parts[1]);
+            }
+        }
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(20);
+    }
+
+    @Test
+    void shouldKnowWhenCurrentFuzzerIsStateful() {
+        AtomicBoolean stateful = new AtomicBoolean();
+        testCaseListener.createAndExecuteTest(logger, Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class),
+                () -> stateful.set(testCaseListener.isCurrentFuzzerStateful()), FuzzingData.builder().build());
+        AtomicBoolean independent = new AtomicBoolean(true);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> independent.set(testCaseListener.isCurrentFuzzerStateful()), FuzzingData.builder().build());
+
+        Assertions.assertThat(stateful).isTrue();
+        Assertions.assertThat(independent).isFalse();
+        Assertions.assertThat(testCaseListener.isCurrentFuzzerStateful()).isFalse();
+    }
+
+    @Test
+    void shouldPropagateTestCaseContextToOtherThreads() {
+        AtomicReference<String> scenario = new AtomicReference<>();
+        AtomicReference<String> currentFuzzer = new AtomicReference<>();
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "test", "post");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addScenario(logger, "Async scenario");
+            Supplier<String> task = testCaseListener.propagateContext(() -> {
+                scenario.set(testCaseListener.currentTestCaseContext().testCase().getScenario());
+                return testCaseListener.getCurrentFuzzer();
+            });
+            try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+                currentFuzzer.set(CompletableFuture.supplyAsync(task, executorService).join());
+            }
+        }, FuzzingData.builder().build());
+
+        Assertions.assertThat(scenario.get()).isEqualTo("Async scenario");
+        Assertions.assertThat(currentFuzzer.get()).isEqualTo("RandomResources");
+    }
+
+    @Test
+    void shouldRecordDispatchedTestCasesInRunJournalSoThatResumeKeepsThem(@TempDir Path reportFolder) throws IOException {
+        RunJournal runJournal = new RunJournal();
+        Path journalFile = reportFolder.resolve(RunJournal.JOURNAL_FILE);
+        TestCaseListener journaledListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, testReportsGenerator, ignoreArguments,
+                reportingArguments, filterArguments, runJournal, new RunTimeBudget());
+        FuzzingData data = FuzzingData.builder().contractPath("/users").method(HttpMethod.POST).build();
+        runJournal.start(journalFile, 1, false);
+
+        runJournal.runWorkUnit("/users", HttpMethod.POST, 0, "FirstFuzzer", () -> {
+            try (ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, 3)
+                        .mapToObj(_ -> CompletableFuture.supplyAsync(journaledListener.propagateContext(() -> {
+                            journaledListener.createAndExecuteTest(logger, fuzzer, () -> {
+                            }, data);
+                            return null;
+                        }), dispatcher))
+                        .toList()
+                        .forEach(CompletableFuture::join);
+            }
+            return true;
+        });
+        runJournal.close();
+
+        RunJournal resumed = new RunJournal();
+        resumed.load(journalFile);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        CatsTestCase dispatched = new CatsTestCase();
+        dispatched.setTestId("Test 2");
+        dispatched.setContractPath("/users");
+        dispatched.setResult("success");
+        dispatched.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        dispatched.setResponse(CatsResponse.builder().responseCode(200).build());
+        Files.writeString(reportFolder.resolve("Test2.json"), JsonUtils.GSON.toJson(dispatched));
+        testCaseListener.restoreTestCases(resumed.renumberCompletedTests());
+
+        Assertions.assertThat(resumed.getCompletedTests()).containsExactly(1, 2, 3);
+        Assertions.assertThat(reportFolder.resolve("Test2.json")).exists();
+    }
+
     @Test
     void shouldReturnCurrentFuzzer() {
         testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "test", "post");
@@ -864,7 +1047,7 @@ class TestCaseListenerTest {
         FuzzingData data = FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).path("/test").build();
         Mockito.when(reportingArguments.isSummaryInConsole()).thenReturn(true);
         ReflectionTestUtils.setField(catsGlobalContext, "catsConfiguration",
-                new CatsConfiguration("/test", "test", "test", List.of(), 1, 2, 2, 3));
+                new CatsConfiguration("/test", "test", "test", List.of(), 1, 2, 2, 3, "1/1"));
         TestCaseListener testCaseListenerSpy = Mockito.spy(testCaseListener);
         testCaseListenerSpy.updateUnknownProgress(data);
         Mockito.verify(testCaseListenerSpy).notifySummaryObservers("/test");
@@ -0,0 +1,110 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldThrowExceptionForInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0 < initialLimit <= maxLimit");
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10);
+
+        completeWindows(limiter, 3, 1_000_000);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotGrowBeyondMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 3);
+
+        completeWindows(limiter, 5, 1_000_000);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDecreaseLimitWhenLatencyBuildsUp() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20);
+        completeWindows(limiter, 1, 1_000_000);
+
+        completeWindows(limiter, 1, 10_000_000);
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldGrowAgainWhenHigherLatencyLasts() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20);
+        completeWindows(limiter, 1, 1_000_000);
+        completeWindows(limiter, 1, 10_000_000);
+        int decreasedLimit = limiter.getLimit();
+
+        completeWindows(limiter, 30, 10_000_000);
+
+        assertThat(limiter.getLimit()).isGreaterThan(decreasedLimit);
+    }
+
+    @Test
+    void shouldBackOffSharplyOnOverload() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 20);
+        limiter.acquire();
+
+        limiter.onOverload();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotGoBelowOne() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 20);
+        limiter.acquire();
+
+        limiter.onOverload();
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBlockWhenLimitReached() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1);
+        limiter.acquire();
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Void> waiting = CompletableFuture.runAsync(limiter::acquire, executorService);
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(waiting).isNotDone();
+
+            limiter.onSuccess(1_000_000);
+            waiting.get(1, TimeUnit.SECONDS);
+        }
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    private static void completeWindows(AdaptiveConcurrencyLimiter limiter, int windows, long latencyNanos) {
+        for (int i = 0; i < windows * AdaptiveConcurrencyLimiter.SAMPLE_WINDOW; i++) {
+            limiter.acquire();
+            limiter.onSuccess(latencyNanos);
+        }
+    }
+}
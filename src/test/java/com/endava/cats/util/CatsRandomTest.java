@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -369,4 +371,80 @@ class CatsRandomTest {
             assertThat(regexpGen).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("Random Stream Tests")
+    class RandomStreamTests {
+
+        @Test
+        @DisplayName("Should derive same stream seed for same global seed and coordinates")
+        void shouldDeriveSameStreamSeed() {
+            long first = CatsRandom.streamSeed("/pets", "POST", "SomeFuzzer");
+            CatsRandom.initRandom(12345L);
+            long second = CatsRandom.streamSeed("/pets", "POST", "SomeFuzzer");
+
+            assertThat(first).isEqualTo(second);
+            assertThat(CatsRandom.streamSeed("/pets", "GET", "SomeFuzzer")).isNotEqualTo(first);
+            assertThat(CatsRandom.testCaseSeed(first, 0)).isNotEqualTo(CatsRandom.testCaseSeed(first, 1));
+        }
+
+        @Test
+        @DisplayName("Should derive different stream seeds for different global seeds")
+        void shouldDeriveDifferentStreamSeedsForDifferentGlobalSeeds() {
+            long first = CatsRandom.streamSeed("/pets");
+            CatsRandom.initRandom(54321L);
+
+            assertThat(CatsRandom.streamSeed("/pets")).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("Should generate same values in stream regardless of global generator usage")
+        void shouldGenerateSameValuesInStream() {
+            long seed = CatsRandom.streamSeed("/pets", "POST", "SomeFuzzer");
+            String first = CatsRandom.callInStream(seed, () -> CatsRandom.alphanumeric(20));
+            CatsRandom.next(100);
+            String second = CatsRandom.callInStream(seed, () -> CatsRandom.alphanumeric(20));
+
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("Should use stream for regexp random generator")
+        void shouldUseStreamForRegexpRandomGen() {
+            RandomGen global = CatsRandom.regexpRandomGen();
+            Random globalRandom = CatsRandom.instance();
+
+            CatsRandom.runInStream(CatsRandom.streamSeed("/pets"), () -> {
+                assertThat(CatsRandom.regexpRandomGen()).isNotSameAs(global).isSameAs(CatsRandom.regexpRandomGen());
+                assertThat(CatsRandom.instance()).isNotSameAs(globalRandom);
+            });
+            assertThat(CatsRandom.regexpRandomGen()).isSameAs(global);
+        }
+
+        @Test
+        @DisplayName("Should regenerate child stream directly from its index")
+        void shouldRegenerateChildStreamFromIndex() {
+            long seed = CatsRandom.streamSeed("/pets", "POST", "SomeFuzzer");
+            List<String> children = new ArrayList<>();
+            CatsRandom.runInStream(seed, () -> {
+                for (int i = 0; i < 3; i++) {
+                    children.add(CatsRandom.callInStream(CatsRandom.nextChildSeed(), () -> CatsRandom.alphanumeric(10)));
+                }
+            });
+
+            String regenerated = CatsRandom.callInStream(CatsRandom.testCaseSeed(seed, 2), () -> CatsRandom.alphanumeric(10));
+
+            assertThat(children).doesNotHaveDuplicates();
+            assertThat(regenerated).isEqualTo(children.get(2));
+        }
+
+        @Test
+        @DisplayName("Should restart unbound child seeds when random is initialized")
+        void shouldRestartUnboundChildSeeds() {
+            long first = CatsRandom.nextChildSeed();
+            CatsRandom.initRandom(12345L);
+
+            assertThat(CatsRandom.nextChildSeed()).isEqualTo(first);
+        }
+    }
 }
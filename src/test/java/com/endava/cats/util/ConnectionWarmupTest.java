@@ -0,0 +1,65 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Protocol;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class ConnectionWarmupTest {
+
+    @Test
+    void shouldReportHandshakeTimesOfOpenedConnections() {
+        AtomicLong nanos = new AtomicLong();
+        ConnectionWarmup connectionWarmup = new ConnectionWarmup(nanos::get);
+        Call first = Mockito.mock(Call.class);
+        Call second = Mockito.mock(Call.class);
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.protocol()).thenReturn(Protocol.HTTP_2);
+
+        connectionWarmup.connectStart(first, null, Proxy.NO_PROXY);
+        connectionWarmup.connectStart(second, null, Proxy.NO_PROXY);
+        nanos.set(10_000_000);
+        connectionWarmup.secureConnectStart(first);
+        nanos.set(30_000_000);
+        connectionWarmup.secureConnectEnd(first, null);
+        connectionWarmup.connectEnd(first, null, Proxy.NO_PROXY, Protocol.HTTP_2);
+        connectionWarmup.connectionAcquired(first, connection);
+        nanos.set(50_000_000);
+        connectionWarmup.connectEnd(second, null, Proxy.NO_PROXY, Protocol.HTTP_2);
+        connectionWarmup.connectionAcquired(second, connection);
+
+        ConnectionWarmup.Result result = connectionWarmup.result(2);
+
+        Assertions.assertThat(result.requests()).isEqualTo(2);
+        Assertions.assertThat(result.openedConnections()).isEqualTo(2);
+        Assertions.assertThat(result.averageConnectInMs()).isEqualTo(40);
+        Assertions.assertThat(result.maxConnectInMs()).isEqualTo(50);
+        Assertions.assertThat(result.averageTlsHandshakeInMs()).isEqualTo(20);
+        Assertions.assertThat(result.protocols()).containsOnly("h2");
+    }
+
+    @Test
+    void shouldNotCountFailedConnections() {
+        ConnectionWarmup connectionWarmup = new ConnectionWarmup(() -> 0);
+        Call call = Mockito.mock(Call.class);
+
+        connectionWarmup.connectStart(call, null, Proxy.NO_PROXY);
+        connectionWarmup.connectFailed(call, null, Proxy.NO_PROXY, null, new IOException("refused"));
+        connectionWarmup.callFailed(call, new IOException("refused"));
+
+        ConnectionWarmup.Result result = connectionWarmup.result(1);
+
+        Assertions.assertThat(result.failedRequests()).isEqualTo(1);
+        Assertions.assertThat(result.openedConnections()).isZero();
+        Assertions.assertThat(result.averageConnectInMs()).isZero();
+        Assertions.assertThat(result.protocols()).isEmpty();
+    }
+}
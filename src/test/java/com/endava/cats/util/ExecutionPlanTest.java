@@ -0,0 +1,101 @@
+package com.endava.cats.util;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class ExecutionPlanTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteAndReadHeader() throws IOException {
+        Path plan = tempDir.resolve("plans").resolve("plan.ndjson");
+        try (ExecutionPlan.Writer _ = ExecutionPlan.create(plan, new ExecutionPlan.Header(42, "openapi.yml", "abc", "1.0.0"))) {
+            //ntd
+        }
+
+        ExecutionPlan.Header header = ExecutionPlan.readHeader(plan);
+
+        assertThat(header.seed()).isEqualTo(42);
+        assertThat(header.contract()).isEqualTo("openapi.yml");
+        assertThat(header.contractHash()).isEqualTo("abc");
+        assertThat(header.catsVersion()).isEqualTo("1.0.0");
+    }
+
+    @Test
+    void shouldWritePayloadOncePerPathAndGroupEntriesByPath() throws IOException {
+        Path plan = tempDir.resolve("plan.ndjson");
+        try (ExecutionPlan.Writer writer = ExecutionPlan.create(plan, new ExecutionPlan.Header(1, "openapi.yml", "abc", "1.0.0"))) {
+            writer.writeWorkUnit("/users", HttpMethod.POST, 0, "{\"name\":\"<a>\"}", "FirstFuzzer", 1);
+            writer.writeWorkUnit("/users", HttpMethod.POST, 0, "{\"name\":\"<a>\"}", "SecondFuzzer", 1);
+            writer.writeWorkUnit("/orders", HttpMethod.POST, 0, "{}", "FirstFuzzer", 2);
+
+            assertThat(writer.getWorkUnits()).isEqualTo(3);
+        }
+
+        Map<String, List<ExecutionPlan.Entry>> entriesByPath = new LinkedHashMap<>();
+        ExecutionPlan.forEachPath(plan, entriesByPath::put);
+
+        assertThat(entriesByPath).containsOnlyKeys("/users", "/orders");
+        List<ExecutionPlan.Entry> users = entriesByPath.get("/users");
+        assertThat(users).hasSize(3);
+        assertThat(users.getFirst().isPayload()).isTrue();
+        assertThat(users.getFirst().payload()).isEqualTo("{\"name\":\"<a>\"}");
+        assertThat(users.subList(1, 3)).extracting(ExecutionPlan.Entry::fuzzer).containsExactly("FirstFuzzer", "SecondFuzzer");
+        assertThat(entriesByPath.get("/orders")).extracting(ExecutionPlan.Entry::phase).containsExactly(0, 2);
+    }
+
+    @Test
+    void shouldComputeSameHashForSameContract() throws IOException {
+        String hash = ExecutionPlan.contractHash(OpenApiUtils.readOpenApi("src/test/resources/openapi.yml"));
+
+        assertThat(ExecutionPlan.contractHash(OpenApiUtils.readOpenApi("src/test/resources/openapi.yml"))).isEqualTo(hash);
+        assertThat(ExecutionPlan.contractHash(OpenApiUtils.readOpenApi("src/test/resources/petstore.yml"))).isNotEqualTo(hash);
+    }
+
+    @Test
+    void shouldRejectPlanFromDifferentContractOrVersion() {
+        ExecutionPlan.Header header = new ExecutionPlan.Header(1, "openapi.yml", "abc", "1.0.0");
+
+        header.checkCompatible("abc", "1.0.0");
+        assertThatThrownBy(() -> header.checkCompatible("def", "1.0.0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different version of contract openapi.yml");
+        assertThatThrownBy(() -> header.checkCompatible("abc", "1.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("created with CATS 1.0.0");
+    }
+
+    @Test
+    void shouldRejectFileWithoutHeader() throws IOException {
+        Path plan = Files.writeString(tempDir.resolve("plan.ndjson"), "not json");
+
+        assertThatThrownBy(() -> ExecutionPlan.readHeader(plan))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a valid execution plan");
+    }
+
+    @Test
+    void shouldRejectEntryWithoutPath() throws IOException {
+        Path plan = Files.writeString(tempDir.resolve("plan.ndjson"),
+                "{\"seed\":1,\"contract\":\"openapi.yml\"}\n{\"method\":\"GET\",\"fuzzer\":\"FirstFuzzer\"}\n");
+
+        assertThatThrownBy(() -> ExecutionPlan.forEachPath(plan, (_, _) -> {
+        })).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 2 must have a path and a method");
+    }
+}
@@ -0,0 +1,100 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@QuarkusTest
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroWhenNothingRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertThat(histogram.result()).isEqualTo(new LatencyHistogram.Result(0, 0, 0, 0, 0, 0, 0, 0));
+        Assertions.assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    void shouldComputeExactPercentilesForSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 10).forEach(histogram::record);
+
+        LatencyHistogram.Result result = histogram.result();
+
+        Assertions.assertThat(result.count()).isEqualTo(10);
+        Assertions.assertThat(result.minInMs()).isEqualTo(1);
+        Assertions.assertThat(result.maxInMs()).isEqualTo(10);
+        Assertions.assertThat(result.average()).isEqualTo(5.5);
+        Assertions.assertThat(result.p50()).isEqualTo(5);
+        Assertions.assertThat(result.p90()).isEqualTo(9);
+        Assertions.assertThat(result.p99()).isEqualTo(10);
+        Assertions.assertThat(result.p999()).isEqualTo(10);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"50,5000", "90,9000", "99,9900", "99.9,9990"})
+    void shouldComputePercentilesWithinBucketPrecision(double percentile, long expected) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 10_000).forEach(histogram::record);
+
+        Assertions.assertThat(histogram.percentile(percentile)).isCloseTo(expected, Percentage.withPercentage(3.2));
+    }
+
+    @Test
+    void shouldCapValuesAboveMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        Assertions.assertThat(histogram.result().minInMs()).isZero();
+        Assertions.assertThat(histogram.result().maxInMs()).isEqualTo((1L << 24) - 1);
+        Assertions.assertThat(histogram.percentile(100)).isEqualTo((1L << 24) - 1);
+    }
+
+    @Test
+    void shouldMergeHistograms() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        LongStream.rangeClosed(1, 50).forEach(first::record);
+        LongStream.rangeClosed(51, 100).forEach(second::record);
+
+        first.merge(second);
+
+        Assertions.assertThat(first.count()).isEqualTo(100);
+        Assertions.assertThat(first.result().minInMs()).isEqualTo(1);
+        Assertions.assertThat(first.result().maxInMs()).isEqualTo(100);
+        Assertions.assertThat(first.percentile(50)).isEqualTo(50);
+        Assertions.assertThat(first.percentile(90)).isCloseTo(90, Percentage.withPercentage(3.2));
+    }
+
+    @Test
+    void shouldRecordConcurrently() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> histogram.record(i % 100));
+
+        Assertions.assertThat(histogram.count()).isEqualTo(10_000);
+        Assertions.assertThat(histogram.result().maxInMs()).isEqualTo(99);
+    }
+
+    @Test
+    void shouldOnlyAllocateBucketsOfRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(100, 120).forEach(histogram::record);
+
+        AtomicReferenceArray<?> chunks = (AtomicReferenceArray<?>) ReflectionTestUtils.getField(histogram, "chunks");
+        long allocated = IntStream.range(0, chunks.length()).filter(i -> chunks.get(i) != null).count();
+
+        Assertions.assertThat(allocated).isEqualTo(1);
+        Assertions.assertThat(histogram.percentile(100)).isEqualTo(120);
+    }
+}
@@ -0,0 +1,69 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class RateLimitQuotasTest {
+
+    private final RateLimitQuotas rateLimitQuotas = new RateLimitQuotas(Map.of(
+            "/payments", Map.of("all", 300, "POST", 60),
+            "all", Map.of("delete", 120)), 1);
+
+    @Test
+    void shouldReturnPathAndMethodQuota() {
+        assertThat(rateLimitQuotas.forPathAndMethod("/payments", "post")).isPresent()
+                .containsSame(rateLimitQuotas.forPathAndMethod("/payments", "POST").orElseThrow());
+    }
+
+    @Test
+    void shouldFallbackToPathQuota() {
+        assertThat(rateLimitQuotas.forPathAndMethod("/payments", "GET"))
+                .containsSame(rateLimitQuotas.forPathAndMethod("/payments", "PUT").orElseThrow())
+                .isNotEqualTo(rateLimitQuotas.forPathAndMethod("/payments", "POST"));
+    }
+
+    @Test
+    void shouldFallbackToMethodQuotaForAllPaths() {
+        assertThat(rateLimitQuotas.forPathAndMethod("/orders", "DELETE"))
+                .containsSame(rateLimitQuotas.forPathAndMethod("/users", "DELETE").orElseThrow());
+    }
+
+    @Test
+    void shouldFallbackToQuotaForAllPathsAndMethods() {
+        RateLimitQuotas quotas = new RateLimitQuotas(Map.of("all", Map.of("all", 100, "delete", 120)), 1);
+
+        assertThat(quotas.forPathAndMethod("/orders", "GET"))
+                .containsSame(quotas.forPathAndMethod("/users", "POST").orElseThrow())
+                .isNotEqualTo(quotas.forPathAndMethod("/users", "DELETE"));
+    }
+
+    @Test
+    void shouldNotReturnQuotaWhenNothingMatches() {
+        assertThat(rateLimitQuotas.forPathAndMethod("/orders", "GET")).isEmpty();
+    }
+
+    @Test
+    void shouldNotWaitWhenNoQuotaMatches() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimitQuotas.acquire("/orders", "GET");
+        }
+
+        assertThat(System.nanoTime() - start).isLessThan(100_000_000L);
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidQuota() {
+        Map<String, Map<String, Object>> quotas = Map.of("/payments", Map.of("all", "fast"));
+
+        assertThatThrownBy(() -> new RateLimitQuotas(quotas, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid rate limit for path /payments and method all: fast");
+    }
+}
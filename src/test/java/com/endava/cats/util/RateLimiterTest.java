@@ -119,4 +119,54 @@ class RateLimiterTest {
         long elapsed = System.currentTimeMillis() - start;
         assertThat(elapsed).isBetween(180L, 350L);
     }
+
+    @Test
+    void shouldThrowExceptionForInvalidBurst() {
+        assertThatThrownBy(() -> new RateLimiter(60, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("burst must be > 0");
+    }
+
+    @Test
+    void shouldAllowBurstWithoutDelay() {
+        RateLimiter rateLimiter = new RateLimiter(60, 3);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        assertThat(elapsed).isLessThan(100_000_000L);
+    }
+
+    @Test
+    void shouldDelayRequestsAfterBurstIsConsumed() {
+        RateLimiter rateLimiter = new RateLimiter(600, 2);
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        long start = System.nanoTime();
+        rateLimiter.acquire();
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(elapsed).isGreaterThan(50_000_000L);
+    }
+
+    @Test
+    void shouldNotExceedRateWhenCalledConcurrently() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(600);
+        Thread[] threads = new Thread[4];
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = Thread.ofVirtual().start(rateLimiter::acquire);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        assertThat(elapsed).isGreaterThanOrEqualTo(280L);
+    }
 }
@@ -0,0 +1,54 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.CatsResponse;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@QuarkusTest
+class RawJsonBodyTypeAdapterFactoryTest {
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(new RawJsonBodyTypeAdapterFactory())
+            .serializeNulls()
+            .create();
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"id\":1};{\"id\":1}", "[1,2];[1,2]", "not json;{\"notAJson\":\"not json\"}", "{\"id\":;{\"notAJson\":\"{\\\"id\\\":\"}"}, delimiter = ';')
+    void shouldSerializeUnparsedBodyWithoutParsingIt(String body, String expectedJsonBody) {
+        AtomicInteger parsed = new AtomicInteger();
+        CatsResponse response = CatsResponse.builder()
+                .responseCode(200)
+                .body(body)
+                .jsonBodySupplier(() -> {
+                    parsed.incrementAndGet();
+                    return JsonParser.parseString(JsonUtils.getAsJsonString(body));
+                })
+                .headersSupplier(() -> List.of(new KeyValuePair<>("X-Id", "1")))
+                .build();
+
+        JsonObject json = JsonParser.parseString(gson.toJson(response)).getAsJsonObject();
+
+        Assertions.assertThat(parsed).hasValue(0);
+        Assertions.assertThat(json.get("jsonBody")).isEqualTo(JsonParser.parseString(expectedJsonBody));
+        Assertions.assertThat(json.get("responseCode").getAsInt()).isEqualTo(200);
+        Assertions.assertThat(json.toString()).contains("X-Id").doesNotContain("Supplier");
+    }
+
+    @Test
+    void shouldSerializeAlreadyParsedBody() {
+        CatsResponse response = CatsResponse.from(200, "{\"id\": 1}", "GET", 10);
+
+        JsonObject json = JsonParser.parseString(gson.toJson(response)).getAsJsonObject();
+
+        Assertions.assertThat(json.get("jsonBody")).isEqualTo(JsonParser.parseString("{\"id\":1}"));
+    }
+}
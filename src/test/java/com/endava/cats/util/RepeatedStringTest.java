@@ -0,0 +1,43 @@
+package com.endava.cats.util;
+
+import com.endava.cats.io.util.StreamingRequestBody;
+import io.quarkus.test.junit.QuarkusTest;
+import okio.Buffer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@QuarkusTest
+class RepeatedStringTest {
+
+    @Test
+    void shouldExpandAllMarkers() {
+        String payload = "[{\"name\":\"" + RepeatedString.of("ab", 3) + "\"},{\"name\":\"" + RepeatedString.of("\\u00e9", 2) + "\"}]";
+
+        Assertions.assertThat(RepeatedString.isPresent(payload)).isTrue();
+        Assertions.assertThat(RepeatedString.expand(payload)).isEqualTo("[{\"name\":\"ababab\"},{\"name\":\"\\u00e9\\u00e9\"}]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"name\":\"cats\"}", "{{cats-repeat:x}}ab{{cats-repeat-end}}", "{{cats-repeat:2}}ab", ""})
+    void shouldKeepTextWithoutValidMarkers(String text) {
+        Assertions.assertThat(RepeatedString.expand(text)).isEqualTo(text);
+    }
+
+    @Test
+    void shouldStreamSameBytesAsExpandedPayload() throws IOException {
+        String payload = "{\"name\":\"" + RepeatedString.of("ĉăţ", 5000) + "\"}";
+        StreamingRequestBody requestBody = StreamingRequestBody.of(payload);
+        Buffer buffer = new Buffer();
+
+        requestBody.writeTo(buffer);
+
+        byte[] expected = RepeatedString.expand(payload).getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThat(requestBody.contentLength()).isEqualTo(expected.length);
+        Assertions.assertThat(buffer.readByteArray()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,70 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Protocol;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class StreamStatisticsTest {
+
+    @Test
+    void shouldRecordConcurrentStreamsAndTimings() {
+        AtomicLong nanos = new AtomicLong();
+        StreamStatistics streamStatistics = new StreamStatistics(nanos::get);
+        Call first = Mockito.mock(Call.class);
+        Call second = Mockito.mock(Call.class);
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.protocol()).thenReturn(Protocol.HTTP_2);
+
+        streamStatistics.callStart(first);
+        streamStatistics.callStart(second);
+        nanos.set(10_000_000);
+        streamStatistics.connectEnd(first, null, Proxy.NO_PROXY, Protocol.HTTP_2);
+        streamStatistics.connectionAcquired(first, connection);
+        streamStatistics.connectionAcquired(second, connection);
+        streamStatistics.requestHeadersStart(first);
+        streamStatistics.requestHeadersStart(second);
+        nanos.set(30_000_000);
+        streamStatistics.responseHeadersStart(first);
+        nanos.set(50_000_000);
+        streamStatistics.responseHeadersStart(second);
+        streamStatistics.connectionReleased(first, connection);
+        streamStatistics.connectionReleased(second, connection);
+        streamStatistics.callEnd(first);
+        streamStatistics.callEnd(second);
+
+        StreamStatistics.Result result = streamStatistics.result();
+
+        Assertions.assertThat(result.requestsPerProtocol()).containsEntry("h2", 2L);
+        Assertions.assertThat(result.isHttp2Negotiated()).isTrue();
+        Assertions.assertThat(result.openedConnections()).isEqualTo(1);
+        Assertions.assertThat(result.maxConcurrentStreamsPerConnection()).isEqualTo(2);
+        Assertions.assertThat(result.averageStreamAcquireInMs()).isEqualTo(10);
+        Assertions.assertThat(result.averageTimeToFirstByteInMs()).isEqualTo(30);
+        Assertions.assertThat(result.maxTimeToFirstByteInMs()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldCountFailedRequests() {
+        StreamStatistics streamStatistics = new StreamStatistics(() -> 0);
+        Call call = Mockito.mock(Call.class);
+
+        streamStatistics.callStart(call);
+        streamStatistics.callFailed(call, new IOException("refused"));
+
+        StreamStatistics.Result result = streamStatistics.result();
+
+        Assertions.assertThat(result.failedRequests()).isEqualTo(1);
+        Assertions.assertThat(result.requestsPerProtocol()).isEmpty();
+        Assertions.assertThat(result.isHttp2Negotiated()).isFalse();
+        Assertions.assertThat(result.averageTimeToFirstByteInMs()).isZero();
+    }
+}
@@ -0,0 +1,45 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.CatsResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+class ThrottleHeadersTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @ParameterizedTest
+    @CsvSource(value = {"429;Retry-After;5;5", "503;retry-after;0;0", "429;Retry-After;Mon, 01 Jan 2024 10:00:30 GMT;30",
+            "429;Retry-After;Mon, 01 Jan 2024 09:00:00 GMT;0", "429;X-RateLimit-Reset;7;7", "503;X-RateLimit-Reset;1704103260;60"}, delimiter = ';')
+    void shouldParseBackoff(int responseCode, String header, String value, long expectedSeconds) {
+        CatsResponse response = CatsResponse.builder().responseCode(responseCode).headers(List.of(new KeyValuePair<>(header, value))).build();
+
+        assertThat(ThrottleHeaders.backoffFrom(response, CLOCK)).contains(Duration.ofSeconds(expectedSeconds));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"200;Retry-After;5", "429;Retry-After;soon", "429;X-Other;5", "500;X-RateLimit-Reset;5"}, delimiter = ';')
+    void shouldNotReturnBackoff(int responseCode, String header, String value) {
+        CatsResponse response = CatsResponse.builder().responseCode(responseCode).headers(List.of(new KeyValuePair<>(header, value))).build();
+
+        assertThat(ThrottleHeaders.backoffFrom(response, CLOCK)).isEmpty();
+    }
+
+    @Test
+    void shouldPreferRetryAfterOverRateLimitReset() {
+        CatsResponse response = CatsResponse.builder().responseCode(429)
+                .headers(List.of(new KeyValuePair<>("X-RateLimit-Reset", "20"), new KeyValuePair<>("Retry-After", "2"))).build();
+
+        assertThat(ThrottleHeaders.backoffFrom(response)).contains(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,93 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+class WorkShardTest {
+
+    private static final Map<String, Integer> UNITS = Map.of(
+            "POST FieldFuzzer", 30, "PUT FieldFuzzer", 20, "GET HeaderFuzzer", 5,
+            "POST HttpFuzzer", 1, "GET HttpFuzzer", 1, "DELETE HttpFuzzer", 1, "PUT HttpFuzzer", 1);
+
+    @Test
+    void shouldParseShard() {
+        WorkShard shard = WorkShard.parse(" 2/4 ");
+
+        assertThat(shard.index()).isEqualTo(2);
+        assertThat(shard.total()).isEqualTo(4);
+        assertThat(shard.isPartial()).isTrue();
+        assertThat(shard).hasToString("2/4");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0/4", "5/4", "1/0", "2", "a/b", "1/2/3"})
+    void shouldThrowExceptionForInvalidShard(String shard) {
+        assertThatThrownBy(() -> WorkShard.parse(shard))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(shard);
+    }
+
+    @Test
+    void shouldSelectAllUnitsWhenSingleShard() {
+        List<String> units = List.copyOf(UNITS.keySet());
+
+        assertThat(WorkShard.ALL.isPartial()).isFalse();
+        assertThat(WorkShard.ALL.select("/pets", units, Function.identity(), UNITS::get)).isEqualTo(units);
+    }
+
+    @Test
+    void shouldPartitionUnitsAcrossShards() {
+        List<String> units = List.copyOf(UNITS.keySet());
+        List<String> selected = new ArrayList<>();
+
+        IntStream.rangeClosed(1, 3).forEach(index ->
+                selected.addAll(new WorkShard(index, 3).select("/pets", units, Function.identity(), UNITS::get)));
+
+        assertThat(selected).containsExactlyInAnyOrderElementsOf(units);
+    }
+
+    @Test
+    void shouldBalanceUnitsByWeight() {
+        List<String> units = List.copyOf(UNITS.keySet());
+
+        List<Integer> loads = IntStream.rangeClosed(1, 2)
+                .mapToObj(index -> new WorkShard(index, 2).select("/pets", units, Function.identity(), UNITS::get)
+                        .stream().mapToInt(UNITS::get).sum())
+                .toList();
+
+        assertThat(loads).containsExactlyInAnyOrder(30, 29);
+    }
+
+    @Test
+    void shouldSelectSameUnitsRegardlessOfInputOrder() {
+        List<String> units = List.copyOf(UNITS.keySet());
+        List<String> reversed = new ArrayList<>(units).reversed();
+        WorkShard shard = new WorkShard(2, 3);
+
+        assertThat(shard.select("/pets", reversed, Function.identity(), UNITS::get))
+                .containsExactlyInAnyOrderElementsOf(shard.select("/pets", units, Function.identity(), UNITS::get));
+    }
+
+    @Test
+    void shouldSpreadSmallGroupsAcrossShards() {
+        List<Integer> owners = IntStream.range(0, 20)
+                .mapToObj(path -> IntStream.rangeClosed(1, 4)
+                        .filter(index -> !new WorkShard(index, 4).select("/path" + path, List.of("GET HttpFuzzer"), Function.identity(), _ -> 1).isEmpty())
+                        .findFirst().orElseThrow())
+                .toList();
+
+        assertThat(owners.stream().distinct().count()).isGreaterThan(1);
+    }
+}